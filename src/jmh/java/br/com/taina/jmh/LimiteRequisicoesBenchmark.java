@@ -0,0 +1,125 @@
+package br.com.taina.jmh;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import br.com.taina.ratelimit.LimitadorRequisicoes;
+import br.com.taina.ratelimit.LimiteRequisicoesInterceptor;
+import br.com.taina.ratelimit.TokenBucket;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Microbenchmark do custo que os limites de requisições acrescentam a cada requisição: o token bucket sozinho
+ * (com uma thread e com 4 threads disputando o mesmo bucket), a busca do bucket do cliente entre 1000 clientes e o
+ * interceptor completo (bucket do cliente e vaga do endpoint, liberada no fim).
+ *
+ * Os limites são altos o bastante para nenhuma requisição ser recusada, medindo apenas o caminho das permitidas.
+ * No benchmark do interceptor, parte das alocações vem dos atributos do {@link MockHttpServletRequest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LimiteRequisicoesBenchmark {
+
+    private static final int CLIENTES = 1000;
+    private static final int CAPACIDADE = 1_000_000_000;
+    private static final double POR_SEGUNDO = 1e9;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenBucket bucketCompartilhado = new TokenBucket(CAPACIDADE, 1);
+    private final LimitadorRequisicoes limitador =
+            new LimitadorRequisicoes("leitura", CAPACIDADE, POR_SEGUNDO, CLIENTES * 10L, meterRegistry);
+    private final LimiteRequisicoesInterceptor interceptor = new LimiteRequisicoesInterceptor(
+            new LimitadorRequisicoes("leitura", CAPACIDADE, POR_SEGUNDO, CLIENTES * 10L, meterRegistry),
+            new LimitadorRequisicoes("escrita", CAPACIDADE, POR_SEGUNDO, CLIENTES * 10L, meterRegistry),
+            Integer.MAX_VALUE, chavesApi(), meterRegistry);
+
+    private final String[] clientes = new String[CLIENTES];
+
+    @Setup
+    public void preparar() {
+        for (int i = 0; i < CLIENTES; i++) {
+            clientes[i] = "cliente-" + i;
+        }
+    }
+
+    // Todos os clientes sorteados usam chaves de API conhecidas, identificadas pela chave e não pelo IP
+    private static Set<String> chavesApi() {
+        Set<String> chaves = new HashSet<>();
+        for (int i = 0; i < CLIENTES; i++) {
+            chaves.add("cliente-" + i);
+        }
+        return chaves;
+    }
+
+    /**
+     * Requisição e bucket de cada thread, com um cliente sorteado.
+     */
+    @State(Scope.Thread)
+    public static class Requisicao {
+
+        private final TokenBucket bucket = new TokenBucket(CAPACIDADE, 1);
+        private final MockHttpServletResponse response = new MockHttpServletResponse();
+        private MockHttpServletRequest request;
+        private HandlerMethod handler;
+        private String cliente;
+
+        @Setup
+        public void preparar(LimiteRequisicoesBenchmark benchmark) throws NoSuchMethodException {
+            cliente = benchmark.clientes[ThreadLocalRandom.current().nextInt(CLIENTES)];
+            request = new MockHttpServletRequest("POST", "/api/contatos");
+            request.addHeader(LimiteRequisicoesInterceptor.CABECALHO_CHAVE, cliente);
+            handler = new HandlerMethod(new Endpoint(), Endpoint.class.getMethod("cadastrar"));
+        }
+    }
+
+    @Benchmark
+    public long tokenBucket(Requisicao requisicao) {
+        return requisicao.bucket.tentarConsumir(System.nanoTime());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long tokenBucketCompartilhado() {
+        return bucketCompartilhado.tentarConsumir(System.nanoTime());
+    }
+
+    @Benchmark
+    public String limitador(Requisicao requisicao) {
+        limitador.consumir(requisicao.cliente);
+        return requisicao.cliente;
+    }
+
+    @Benchmark
+    public boolean interceptor(Requisicao requisicao) {
+        boolean permitida = interceptor.preHandle(requisicao.request, requisicao.response, requisicao.handler);
+        interceptor.afterCompletion(requisicao.request, requisicao.response, requisicao.handler, null);
+        return permitida;
+    }
+
+    public static class Endpoint {
+
+        public void cadastrar() {
+        }
+    }
+}
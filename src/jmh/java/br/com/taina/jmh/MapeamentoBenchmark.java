@@ -0,0 +1,69 @@
+package br.com.taina.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.dto.PessoaMalaDiretaDTO;
+import br.com.taina.enums.Estados;
+import br.com.taina.enums.TipoContato;
+import br.com.taina.model.Contato;
+import br.com.taina.model.Pessoa;
+
+/**
+ * Microbenchmark dos mapeamentos entidade → DTO usados pelos services, incluindo a montagem
+ * da string de mala direta no construtor de {@link PessoaMalaDiretaDTO}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapeamentoBenchmark {
+
+    private Pessoa pessoa;
+
+    @Setup
+    public void preparar() {
+        pessoa = new Pessoa(1L, "Maria da Conceição", "Rua das Flores", "120", "06700000", "Cotia", Estados.SP, null);
+        pessoa.setContatos(List.of(
+                new Contato(10L, TipoContato.CELULAR, "11974510719", pessoa),
+                new Contato(11L, TipoContato.EMAIL, "maria@email.com", pessoa),
+                new Contato(12L, TipoContato.LINKEDIN, "www.linkedin.com/in/maria", pessoa)));
+    }
+
+    @Benchmark
+    public PessoaDTO pessoaParaDTO() {
+        return new PessoaDTO(pessoa);
+    }
+
+    @Benchmark
+    public PessoaDTO pessoaComContatosParaDTO() {
+        PessoaDTO pessoaDTO = new PessoaDTO(pessoa);
+        pessoaDTO.setContatos(pessoa.getContatos().stream().map(ContatoDTO::new).toList());
+        return pessoaDTO;
+    }
+
+    @Benchmark
+    public ContatoDTO contatoParaDTO() {
+        return new ContatoDTO(pessoa.getContatos().get(0));
+    }
+
+    @Benchmark
+    public PessoaMalaDiretaDTO pessoaParaMalaDireta() {
+        return new PessoaMalaDiretaDTO(pessoa);
+    }
+}
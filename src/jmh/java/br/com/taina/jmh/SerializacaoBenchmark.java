@@ -0,0 +1,81 @@
+package br.com.taina.jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.enums.Estados;
+
+/**
+ * Microbenchmark da serialização Jackson das listas devolvidas por GET /api/pessoas e
+ * GET /api/contatos/pessoa/{idPessoa}, em bytes como o conversor HTTP faz, para cada formato negociado pelo
+ * Accept: JSON (UTF-8), CBOR e Smile. O tamanho das respostas, com e sem gzip, é medido pelo
+ * FormatoBinarioBenchmarkTest.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacaoBenchmark {
+
+    @Param({"10", "1000"})
+    private int tamanho;
+
+    @Param({"json", "cbor", "smile"})
+    private String formato;
+
+    private ObjectWriter writerPessoas;
+    private ObjectWriter writerContatos;
+    private List<PessoaDTO> pessoas;
+    private List<ContatoDTO> contatos;
+
+    @Setup
+    public void preparar() {
+        ObjectMapper objectMapper = switch (formato) {
+            case "cbor" -> new CBORMapper();
+            case "smile" -> new SmileMapper();
+            default -> new ObjectMapper();
+        };
+        writerPessoas = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, PessoaDTO.class));
+        writerContatos = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, ContatoDTO.class));
+
+        pessoas = new ArrayList<>(tamanho);
+        contatos = new ArrayList<>(tamanho);
+        for (long i = 1; i <= tamanho; i++) {
+            pessoas.add(new PessoaDTO(i, "Maria da Conceição", "Rua das Flores", String.valueOf(i), "06700000", "Cotia", Estados.SP));
+            contatos.add(new ContatoDTO(i, "CELULAR", "119" + (74510000 + i), 1L));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializarPessoas() throws JsonProcessingException {
+        return writerPessoas.writeValueAsBytes(pessoas);
+    }
+
+    @Benchmark
+    public byte[] serializarContatos() throws JsonProcessingException {
+        return writerContatos.writeValueAsBytes(contatos);
+    }
+}
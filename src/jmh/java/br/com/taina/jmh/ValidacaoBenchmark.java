@@ -0,0 +1,113 @@
+package br.com.taina.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.enums.Estados;
+import br.com.taina.enums.TipoContato;
+import br.com.taina.validation.AllowsOnlyLettersAndSpacesValidation;
+import br.com.taina.validation.CepValidation;
+import br.com.taina.validation.ContatoValidation;
+import br.com.taina.validation.RegrasValidacao;
+import br.com.taina.validation.TipoContatoValidation;
+import br.com.taina.validation.UFValidation;
+
+/**
+ * Microbenchmark dos validadores executados em toda requisição de cadastro e atualização:
+ * a {@link ContatoValidation} (um caso por tipo de contato), os validadores das anotações customizadas e
+ * as conversões de UF e tipo de contato feitas pelos services. Para entradas válidas, gc.alloc.rate.norm deve ser 0.
+ *
+ * Os validadores não usam o {@code ConstraintValidatorContext}, por isso são chamados com {@code null}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidacaoBenchmark {
+
+    private final ContatoValidation contatoValidation = new ContatoValidation();
+    private final CepValidation cepValidation = new CepValidation();
+    private final UFValidation ufValidation = new UFValidation();
+    private final TipoContatoValidation tipoContatoValidation = new TipoContatoValidation();
+    private final AllowsOnlyLettersAndSpacesValidation letrasValidation = new AllowsOnlyLettersAndSpacesValidation();
+
+    // Em campos, e não como literais, para que o JIT não trate as entradas como constantes
+    private String cep = "06700-000";
+    private String uf = "sp";
+    private String ufComEspacos = " sp ";
+    private String nome = "Maria da Conceição Araújo";
+
+    /**
+     * Contato de exemplo para cada tipo, separado em um estado próprio para que apenas os benchmarks
+     * que dependem do tipo sejam executados uma vez por tipo.
+     */
+    @State(Scope.Thread)
+    public static class ContatoExemplo {
+
+        @Param({"CELULAR", "TELEFONE_FIXO", "EMAIL", "LINKEDIN"})
+        private String tipoContato;
+
+        private ContatoDTO contatoDTO;
+
+        @Setup
+        public void preparar() {
+            String contato = switch (tipoContato) {
+                case "CELULAR" -> "11974510719";
+                case "TELEFONE_FIXO" -> "1140028922";
+                case "EMAIL" -> "maria.conceicao@email.com.br";
+                default -> "https://www.linkedin.com/in/maria-conceicao";
+            };
+            contatoDTO = new ContatoDTO(null, tipoContato.toLowerCase(), contato, 1L);
+        }
+    }
+
+    @Benchmark
+    public ContatoDTO validarContato(ContatoExemplo exemplo) {
+        contatoValidation.validarContato(exemplo.contatoDTO);
+        return exemplo.contatoDTO;
+    }
+
+    @Benchmark
+    public boolean validarCep() {
+        return cepValidation.isValid(cep, null);
+    }
+
+    @Benchmark
+    public boolean validarUf() {
+        return ufValidation.isValid(uf, null);
+    }
+
+    @Benchmark
+    public boolean validarTipoContato(ContatoExemplo exemplo) {
+        return tipoContatoValidation.isValid(exemplo.contatoDTO.getTipoContato(), null);
+    }
+
+    @Benchmark
+    public boolean validarLetrasEEspacos() {
+        return letrasValidation.isValid(nome, null);
+    }
+
+    @Benchmark
+    public Estados converterEstado() {
+        return RegrasValidacao.converterEstado(ufComEspacos);
+    }
+
+    @Benchmark
+    public TipoContato converterTipoContato(ContatoExemplo exemplo) {
+        return RegrasValidacao.converterTipoContato(exemplo.contatoDTO.getTipoContato());
+    }
+}
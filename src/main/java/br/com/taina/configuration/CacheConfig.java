@@ -0,0 +1,84 @@
+package br.com.taina.configuration;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Classe de configuração do cache de segundo nível do Hibernate.
+ *
+ * <p>As regiões de cache são criadas aqui, com tamanho máximo e tempo de expiração definidos pelas propriedades
+ * {@code cache.tamanho-maximo} e {@code cache.tempo-expiracao}, e o {@link CacheManager} é repassado ao Hibernate.
+ * Como o Hibernate está configurado para falhar quando uma região não existe, nenhuma região fica sem limite.</p>
+ */
+@Configuration
+public class CacheConfig {
+
+    public static final String REGIAO_PESSOA = "br.com.taina.model.Pessoa";
+    public static final String REGIAO_CONTATO = "br.com.taina.model.Contato";
+    public static final String REGIAO_CONTATOS_DA_PESSOA = "br.com.taina.model.Pessoa.contatos";
+    public static final String REGIAO_CONSULTAS = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+    public static final String REGIAO_TIMESTAMPS = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    /** Regiões com limite de tamanho e expiração. */
+    public static final List<String> REGIOES = List.of(REGIAO_PESSOA, REGIAO_CONTATO, REGIAO_CONTATOS_DA_PESSOA, REGIAO_CONSULTAS);
+
+    /**
+     * Cria o gerenciador de cache e as regiões usadas pelo Hibernate.
+     *
+     * @param tamanhoMaximo Quantidade máxima de itens em cada região.
+     * @param tempoExpiracao Tempo que um item fica no cache depois de gravado.
+     * @return O {@link CacheManager} com as regiões criadas.
+     */
+    @Bean
+    public CacheManager cacheManagerHibernate(@Value("${cache.tamanho-maximo:10000}") long tamanhoMaximo,
+                                              @Value("${cache.tempo-expiracao:10m}") Duration tempoExpiracao) {
+        // Um gerenciador por contexto da aplicação, pois o Hibernate fecha o gerenciador junto com a SessionFactory
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("controle-contatos-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        for (String regiao : REGIOES) {
+            cacheManager.createCache(regiao, novaConfiguracao()
+                    .setMaximumSize(OptionalLong.of(tamanhoMaximo))
+                    .setExpireAfterWrite(OptionalLong.of(tempoExpiracao.toNanos())));
+        }
+
+        // Os timestamps guardam uma entrada por tabela e não podem expirar antes das consultas que eles invalidam
+        cacheManager.createCache(REGIAO_TIMESTAMPS, novaConfiguracao());
+
+        return cacheManager;
+    }
+
+    /**
+     * Repassa o {@link CacheManager} configurado para o Hibernate.
+     *
+     * @param cacheManagerHibernate O gerenciador de cache com as regiões criadas.
+     * @return O customizador das propriedades do Hibernate.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer cacheHibernatePropertiesCustomizer(CacheManager cacheManagerHibernate) {
+        return propriedades -> propriedades.put(ConfigSettings.CACHE_MANAGER, cacheManagerHibernate);
+    }
+
+    private CaffeineConfiguration<Object, Object> novaConfiguracao() {
+        // Sem cópia dos valores (store by value), pois o Hibernate já guarda os dados desmontados das entidades
+        return new CaffeineConfiguration<Object, Object>()
+                .setStoreByValue(false)
+                .setNativeStatisticsEnabled(true);
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.taina.configuration;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Classe de configuração dos formatos binários da API.
+ *
+ * <p>Além do JSON, as requisições e respostas podem usar CBOR ({@code application/cbor}) ou Smile
+ * ({@code application/x-jackson-smile}), escolhidos pelos cabeçalhos Accept e Content-Type. Os dois são
+ * serializados pelo Jackson a partir dos mesmos DTOs, então as anotações e validações continuam valendo.
+ * O JSON segue como padrão quando o cliente não pede um formato.</p>
+ *
+ * <p>Os conversores são criados a partir do {@link Jackson2ObjectMapperBuilder} do Spring Boot, com as mesmas
+ * configurações do conversor JSON, e ocupam o lugar dos conversores padrão do Spring MVC, depois do JSON.</p>
+ */
+@Configuration
+public class FormatoBinarioConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter conversorCbor(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.createXmlMapper(false).factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter conversorSmile(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.createXmlMapper(false).factory(new SmileFactory()).build());
+    }
+}
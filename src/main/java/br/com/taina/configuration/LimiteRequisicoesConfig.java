@@ -0,0 +1,69 @@
+package br.com.taina.configuration;
+
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import br.com.taina.ratelimit.LimitadorRequisicoes;
+import br.com.taina.ratelimit.LimiteRequisicoesInterceptor;
+
+/**
+ * Classe de configuração dos limites de requisições da API ({@code /api/**}), ativada pela propriedade
+ * {@code limite.habilitado}.
+ *
+ * <p>Cada cliente tem um bucket de leitura e outro de escrita, com capacidade e recarga por segundo definidas pelas
+ * propriedades {@code limite.leitura.*} e {@code limite.escrita.*}, e cada endpoint aceita no máximo
+ * {@code limite.em-andamento.maximo} requisições simultâneas. Os clientes com uma das chaves de
+ * {@code limite.chaves-api} são identificados pela chave; os demais, pelo IP. Veja {@link LimiteRequisicoesInterceptor}.</p>
+ */
+@Configuration
+@Profile("!reactive")
+@ConditionalOnProperty(name = "limite.habilitado", havingValue = "true")
+public class LimiteRequisicoesConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${limite.leitura.capacidade:200}")
+    private int capacidadeLeitura;
+
+    @Value("${limite.leitura.por-segundo:100}")
+    private double leituraPorSegundo;
+
+    @Value("${limite.escrita.capacidade:20}")
+    private int capacidadeEscrita;
+
+    @Value("${limite.escrita.por-segundo:10}")
+    private double escritaPorSegundo;
+
+    @Value("${limite.clientes-maximo:100000}")
+    private long maximoClientes;
+
+    @Value("${limite.em-andamento.maximo:64}")
+    private int maximoEmAndamento;
+
+    @Value("${limite.chaves-api:}")
+    private Set<String> chavesApi;
+
+    @Bean
+    public LimiteRequisicoesInterceptor limiteRequisicoesInterceptor() {
+        return new LimiteRequisicoesInterceptor(
+                new LimitadorRequisicoes("leitura", capacidadeLeitura, leituraPorSegundo, maximoClientes, meterRegistry),
+                new LimitadorRequisicoes("escrita", capacidadeEscrita, escritaPorSegundo, maximoClientes, meterRegistry),
+                maximoEmAndamento, chavesApi, meterRegistry);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(limiteRequisicoesInterceptor()).addPathPatterns("/api/**");
+    }
+}
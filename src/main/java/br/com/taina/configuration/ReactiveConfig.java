@@ -0,0 +1,53 @@
+package br.com.taina.configuration;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.ReactiveTransactionManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Classe de configuração do profile 'reactive', em que JPA e R2DBC usam o mesmo banco.
+ *
+ * <p>Quando existe uma {@link ConnectionFactory} do R2DBC, o Spring Boot deixa de criar o {@link DataSource} do JDBC,
+ * e o JPA continua sendo necessário para criar o schema e carregar o índice de busca. Por isso o {@link DataSource} é
+ * criado aqui com as propriedades {@code spring.datasource.*}. Também ficam declarados os dois gerenciadores de
+ * transação: o do JPA é o principal, usado pelo {@code @Transactional}, e o do R2DBC é usado pelo
+ * {@link org.springframework.transaction.reactive.TransactionalOperator} dos services reativos.</p>
+ */
+@Configuration
+@Profile("reactive")
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class ReactiveConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @Bean
+    public ReactiveTransactionManager reactiveTransactionManager(ConnectionFactory connectionFactory) {
+        return new R2dbcTransactionManager(connectionFactory);
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.taina.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import br.com.taina.dto.CacheEstatisticaDTO;
+import br.com.taina.service.CacheService;
+import io.swagger.v3.oas.annotations.Operation;
+
+/**
+ * Controlador responsável por expor as estatísticas do cache de segundo nível.
+ */
+@RestController
+@RequestMapping("/api/cache")
+public class CacheController {
+
+    @Autowired
+    private CacheService cacheService;
+
+    /**
+     * Retorna os contadores de acertos, falhas, inserções e remoções de cada região do cache.
+     *
+     * @return ResponseEntity contendo as estatísticas e o status 200 (OK).
+     */
+    @GetMapping("estatisticas")
+    @Operation(summary = "Retorna as estatísticas do cache de segundo nível")
+    public ResponseEntity<List<CacheEstatisticaDTO>> estatisticas() {
+        return ResponseEntity.ok(cacheService.estatisticas());
+    }
+}
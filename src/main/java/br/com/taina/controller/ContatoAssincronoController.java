@@ -0,0 +1,59 @@
+package br.com.taina.controller;
+
+import java.net.URI;
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.ProtocoloContatoDTO;
+import br.com.taina.service.FilaContatoService;
+import io.swagger.v3.oas.annotations.Operation;
+
+/**
+ * Controlador responsável pela gravação assíncrona de contatos, disponível apenas com o profile 'write-behind'.
+ *
+ * O contato é validado na requisição e gravado depois, em lote, pelo {@link FilaContatoService}. A resposta traz
+ * um protocolo para consultar a situação da gravação. Com a fila cheia, retorna o status 503 (Service Unavailable)
+ * com o cabeçalho Retry-After.
+ */
+@RestController
+@Profile("write-behind & !reactive")
+@RequestMapping("/api/contatos/async")
+public class ContatoAssincronoController {
+
+    @Autowired
+    private FilaContatoService filaContatoService;
+
+    /**
+     * Valida um novo contato e o coloca na fila de gravação.
+     *
+     * @param contatoDTO Objeto contendo as informações do contato a ser salvo.
+     * @return ResponseEntity contendo o protocolo da gravação, o cabeçalho Location para consultá-lo
+     * e o status 202 (Accepted).
+     */
+    @PostMapping
+    @Operation(summary = "Coloca um novo contato na fila de gravação assíncrona.")
+    public ResponseEntity<ProtocoloContatoDTO> save(@Valid @RequestBody ContatoDTO contatoDTO) {
+        ProtocoloContatoDTO protocolo = filaContatoService.enfileirar(contatoDTO);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/contatos/async/" + protocolo.protocolo()))
+                .body(protocolo);
+    }
+
+    /**
+     * Consulta a situação da gravação de um contato pelo protocolo.
+     *
+     * @param protocolo Protocolo devolvido no envio do contato.
+     * @return ResponseEntity contendo a situação da gravação ou HTTP status 404 se o protocolo não for encontrado.
+     */
+    @GetMapping("/{protocolo}")
+    @Operation(summary = "Consulta a situação da gravação assíncrona de um contato.")
+    public ResponseEntity<ProtocoloContatoDTO> findByProtocolo(@PathVariable UUID protocolo) {
+        return ResponseEntity.ok(filaContatoService.consultar(protocolo));
+    }
+}
@@ -4,10 +4,14 @@ import java.util.List;
 
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
 import br.com.taina.service.ContatoService;
 import io.swagger.v3.oas.annotations.Operation;
 
@@ -19,6 +23,7 @@ import io.swagger.v3.oas.annotations.Operation;
  * lançando exceções personalizadas do pacote {@link br.com.taina.exception}.
  */
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/contatos")
 public class ContatoController {
 
@@ -39,6 +44,22 @@ public class ContatoController {
         return ResponseEntity.status(201).body(salvarContato);
     }
 
+    /**
+     * Salva vários contatos de uma só vez para uma mesma pessoa.
+     * Todos os contatos são validados antes da gravação e, se algum for inválido, nenhum contato é salvo
+     * e os erros de cada item são retornados com o status 400 (Bad Request).
+     *
+     * @param idPessoa Identificador da pessoa que receberá os contatos.
+     * @param contatosDTO Lista de contatos a serem salvos. O campo idPessoa de cada item é ignorado.
+     * @return ResponseEntity contendo os contatos salvos e o status 201 (Created).
+     */
+    @PostMapping("pessoa/{idPessoa}/batch")
+    @Operation(summary = "Salva vários contatos em lote para uma pessoa.")
+    public ResponseEntity<List<ContatoDTO>> saveLote(@PathVariable Long idPessoa, @RequestBody List<ContatoDTO> contatosDTO) {
+        List<ContatoDTO> contatosSalvos = contatoService.saveLote(idPessoa, contatosDTO);
+        return ResponseEntity.status(201).body(contatosSalvos);
+    }
+
     /**
      * Consulta um contato pelo ID.
      *
@@ -55,14 +76,43 @@ public class ContatoController {
     /**
      * Lista todos os contatos de uma pessoa pelo seu ID.
      *
+     * A resposta traz um ETag fraco calculado a partir dos IDs e das versões dos contatos.
+     * Se o cliente enviar o mesmo ETag no If-None-Match, retorna o status 304 (Not Modified) sem corpo.
+     *
      * @param idPessoa Identificador da pessoa cujos contatos serão listados.
+     * @param request Requisição, usada para conferir o If-None-Match.
      * @return ResponseEntity contendo a lista de contatos encontrados.
      */
     @GetMapping("pessoa/{idPessoa}")
     @Operation(summary = "Lista todos os contatos de uma pessoa por ID.")
-    public ResponseEntity<List<ContatoDTO>> findAllContactsPessoas(@PathVariable Long idPessoa) {
+    public ResponseEntity<List<ContatoDTO>> findAllContactsPessoas(@PathVariable Long idPessoa, WebRequest request) {
+        String versao = contatoService.findVersaoContatos(idPessoa);
+        // Sem contatos não há versão: a listagem segue o fluxo normal e retorna o erro de lista vazia
+        if (versao == null) {
+            return ResponseEntity.ok(contatoService.findAllByPessoaId(idPessoa));
+        }
+        // ETag fraco: a lista pode ser enviada em JSON, CBOR ou Smile, com ou sem gzip, e o Tomcat não comprime
+        // respostas com ETag forte
+        String eTag = "W/\"" + versao + "\"";
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
         List<ContatoDTO> findContato = contatoService.findAllByPessoaId(idPessoa);
-        return ResponseEntity.ok(findContato);
+        return ResponseEntity.ok().eTag(eTag).varyBy(HttpHeaders.ACCEPT).body(findContato);
+    }
+
+    /**
+     * Busca as pessoas donas de um contato (telefone, e-mail ou LinkedIn), em qualquer formatação.
+     *
+     * @param valor Valor do contato buscado. Exemplo: "+55 (11) 97451-0710".
+     * @param tipo Tipo do contato (opcional). Se não for informado, é deduzido do valor.
+     * @return ResponseEntity contendo as pessoas donas do contato.
+     */
+    @GetMapping("lookup")
+    @Operation(summary = "Busca as pessoas donas de um telefone, e-mail ou LinkedIn.")
+    public ResponseEntity<List<PessoaDTO>> lookup(@RequestParam String valor,
+                                                  @RequestParam(required = false) String tipo) {
+        return ResponseEntity.ok(contatoService.findPessoasByContato(valor, tipo));
     }
 
     /**
@@ -0,0 +1,36 @@
+package br.com.taina.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import br.com.taina.dto.EstatisticaDTO;
+import br.com.taina.service.EstatisticaService;
+import io.swagger.v3.oas.annotations.Operation;
+
+/**
+ * Controlador responsável por expor as quantidades de pessoas por UF e cidade e de contatos por tipo.
+ *
+ * Fica fora do profile 'reactive' porque as gravações da API reativa não passam pelos services que
+ * atualizam os contadores.
+ */
+@RestController
+@Profile("!reactive")
+@RequestMapping("/api/estatisticas")
+public class EstatisticaController {
+
+    @Autowired
+    private EstatisticaService estatisticaService;
+
+    /**
+     * Retorna as quantidades atuais, sem consultar o banco de dados.
+     *
+     * @return ResponseEntity contendo as estatísticas e o status 200 (OK).
+     */
+    @GetMapping
+    @Operation(summary = "Retorna a quantidade de pessoas por UF e cidade e de contatos por tipo")
+    public ResponseEntity<EstatisticaDTO> estatisticas() {
+        return ResponseEntity.ok(estatisticaService.estatisticas());
+    }
+}
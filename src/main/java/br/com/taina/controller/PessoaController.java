@@ -1,14 +1,29 @@
 package br.com.taina.controller;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import br.com.taina.dto.DuplicataDTO;
+import br.com.taina.dto.PaginaDTO;
+import br.com.taina.dto.PessoaBuscaDTO;
+import br.com.taina.dto.PessoaCompletaDTO;
 import br.com.taina.dto.PessoaDTO;
 import br.com.taina.dto.PessoaMalaDiretaDTO;
+import br.com.taina.exception.VersaoDesatualizadaException;
+import br.com.taina.service.DuplicidadeService;
 import br.com.taina.service.PessoaService;
 import io.swagger.v3.oas.annotations.Operation;
 
@@ -21,12 +36,16 @@ import io.swagger.v3.oas.annotations.Operation;
  */
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("api/pessoas")
 public class PessoaController {
     
     @Autowired
     private PessoaService pessoaService;
 
+    @Autowired
+    private DuplicidadeService duplicidadeService;
+
     /**
      * Cadastra uma nova pessoa.
      *
@@ -42,31 +61,118 @@ public class PessoaController {
     }
 
     /**
-     * Lista todas as pessoas cadastradas.
+     * Cadastra várias pessoas de uma só vez, cada uma opcionalmente com os seus contatos.
+     * Todos os itens são validados antes da gravação e, se algum for inválido, nenhuma pessoa é cadastrada
+     * e os erros de cada item são retornados com o status 400 (Bad Request).
+     *
+     * @param pessoasDTO Lista de pessoas a serem cadastradas.
+     * @return ResponseEntity contendo as pessoas cadastradas e o status 201 (Created).
+     */
+    @PostMapping("batch")
+    @Operation(summary = "Cadastro de várias pessoas em lote.")
+    public ResponseEntity<List<PessoaDTO>> saveLote(@RequestBody List<PessoaDTO> pessoasDTO) {
+        List<PessoaDTO> pessoasCadastradas = pessoaService.saveLote(pessoasDTO);
+        return ResponseEntity.status(201).body(pessoasCadastradas);
+    }
+
+    /**
+     * Lista as pessoas cadastradas usando paginação por cursor.
      *
-     * @return ResponseEntity contendo a lista de pessoas cadastradas.
+     * @param cursor ID do último registro da página anterior, retornado em 'proximoCursor'.
+     * @param tamanho Quantidade de registros por página.
+     * @param uf Filtro opcional por estado.
+     * @param cidade Filtro opcional por cidade.
+     * @return ResponseEntity contendo a página de pessoas cadastradas.
      */
     @GetMapping
-    @Operation(summary = "Lista todas as pessoas cadastradas")
-    public ResponseEntity<List<PessoaDTO>> findAll() {
-        // Chama o serviço que retorna uma lista de PessoaDTO
-        List<PessoaDTO> pessoasDTO = pessoaService.findAll();
-        
-        // Retorna a lista de DTOs dentro de um ResponseEntity
-        return ResponseEntity.ok(pessoasDTO);
+    @Operation(summary = "Lista as pessoas cadastradas com paginação por cursor")
+    public ResponseEntity<PaginaDTO<PessoaDTO>> findAll(@RequestParam(required = false) Long cursor,
+                                                        @RequestParam(required = false) Integer tamanho,
+                                                        @RequestParam(required = false) String uf,
+                                                        @RequestParam(required = false) String cidade) {
+        // Chama o serviço que retorna uma página de PessoaDTO
+        PaginaDTO<PessoaDTO> pagina = pessoaService.findAll(cursor, tamanho, uf, cidade);
+
+        // Retorna a página de DTOs dentro de um ResponseEntity; o formato (JSON, CBOR ou Smile) depende do Accept
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(pagina);
+    }
+
+    /**
+     * Busca pessoas pelo início das palavras do nome, sem diferenciar acentos nem maiúsculas.
+     *
+     * @param q Texto buscado. Exemplo: "jo sil" encontra "João da Silva".
+     * @param cidade Filtro opcional pelo início do nome da cidade.
+     * @param limite Quantidade máxima de resultados.
+     * @return ResponseEntity contendo as pessoas encontradas.
+     */
+    @GetMapping("search")
+    @Operation(summary = "Busca pessoas pelo início do nome, para autocomplete")
+    public ResponseEntity<List<PessoaBuscaDTO>> buscar(@RequestParam String q,
+                                                       @RequestParam(required = false) String cidade,
+                                                       @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(pessoaService.buscar(q, cidade, limite));
+    }
+
+    /**
+     * Lista os pares de pessoas que provavelmente estão cadastradas em duplicidade.
+     *
+     * @param similaridade Similaridade mínima entre os nomes, de 0.8 a 1.
+     * @param limite Quantidade máxima de pares retornados.
+     * @return ResponseEntity contendo os pares encontrados, do mais para o menos parecido.
+     */
+    @GetMapping("duplicatas")
+    @Operation(summary = "Lista as pessoas que provavelmente estão cadastradas em duplicidade")
+    public ResponseEntity<List<DuplicataDTO>> findDuplicatas(@RequestParam(required = false) Double similaridade,
+                                                             @RequestParam(required = false) Integer limite) {
+        return ResponseEntity.ok(duplicidadeService.encontrarDuplicatas(similaridade, limite));
+    }
+
+    /**
+     * Exporta todas as pessoas cadastradas, com os seus contatos, no formato NDJSON.
+     * Cada linha da resposta contém uma pessoa e é escrita assim que lida do banco de dados.
+     *
+     * @param response Resposta HTTP onde as linhas serão escritas.
+     */
+    @GetMapping(value = "export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exporta todas as pessoas com os seus contatos no formato NDJSON")
+    public void export(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        pessoaService.exportar(response.getOutputStream());
     }
 
     /**
      * Consulta uma pessoa pelo ID.
+     * A resposta traz um ETag fraco com a versão da pessoa lida junto com o corpo. Se o cliente enviar a versão atual
+     * no If-None-Match, retorna o status 304 (Not Modified) sem corpo e sem carregar a pessoa.
      *
      * @param id Identificador da pessoa a ser consultada.
+     * @param request Requisição, usada para conferir o If-None-Match.
      * @return ResponseEntity contendo a pessoa encontrada ou HTTP status 404 se não for encontrada.
      */
     @GetMapping("/{id}")
     @Operation(summary = "Consulta uma pessoa pelo ID")
-    public ResponseEntity<PessoaDTO> findById(@PathVariable Long id) {
+    public ResponseEntity<PessoaDTO> findById(@PathVariable Long id, WebRequest request) {
+        // Sem checkNotModified: ele grava o ETag conferido na resposta, e o da resposta 200 precisa ser o do corpo
+        String eTagAtual = eTag(pessoaService.findVersaoById(id));
+        if (naoModificado(request.getHeader(HttpHeaders.IF_NONE_MATCH), eTagAtual)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTagAtual).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        // O corpo pode vir de uma consulta iniciada antes de uma alteração (SingleFlight): o ETag usa a versão lida com ele
         PessoaDTO pessoaDTO = pessoaService.findById(id);
-		return ResponseEntity.ok(pessoaDTO);
+        return ResponseEntity.ok().eTag(eTag(pessoaDTO.getVersao())).varyBy(HttpHeaders.ACCEPT).body(pessoaDTO);
+    }
+
+    /**
+     * Consulta uma pessoa pelo ID junto com todos os seus contatos, em uma única resposta.
+     *
+     * @param id Identificador da pessoa a ser consultada.
+     * @return ResponseEntity contendo a pessoa e os contatos, ou HTTP status 404 se não for encontrada.
+     */
+    @GetMapping("/{id}/completo")
+    @Operation(summary = "Consulta uma pessoa pelo ID com todos os seus contatos")
+    public ResponseEntity<PessoaCompletaDTO> findCompletaById(@PathVariable Long id) {
+        return ResponseEntity.ok(pessoaService.findCompletaById(id));
     }
 
     /**
@@ -82,20 +188,61 @@ public class PessoaController {
         return ResponseEntity.ok(pessoaMalaDiretaDTO);
     }
 
+    /**
+     * Exporta as informações de mala direta de um segmento de pessoas, em CSV ou NDJSON.
+     * As linhas são escritas na resposta à medida que são lidas do banco de dados.
+     *
+     * @param uf Filtro opcional por estado.
+     * @param cidade Filtro opcional por cidade.
+     * @param cep Filtro opcional pelo início do CEP.
+     * @param formato Formato da resposta: "csv" ou "ndjson" (padrão).
+     * @param response Resposta HTTP onde as linhas serão escritas.
+     */
+    @GetMapping("maladireta")
+    @Operation(summary = "Exporta as informações de mala direta de um segmento de pessoas em CSV ou NDJSON")
+    public void exportarMalaDireta(@RequestParam(required = false) String uf,
+                                   @RequestParam(required = false) String cidade,
+                                   @RequestParam(required = false) String cep,
+                                   @RequestParam(defaultValue = "ndjson") String formato,
+                                   HttpServletResponse response) throws IOException {
+        // O formato é verificado antes de escrever qualquer coisa, para que um erro ainda retorne o status 422
+        boolean csv = pessoaService.isFormatoCsv(formato);
+        response.setContentType(csv ? "text/csv" : MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        pessoaService.exportarMalaDireta(uf, cidade, cep, formato, response.getOutputStream());
+    }
+
     /**
      * Atualiza as informações de uma pessoa existente.
+     * Se o cliente enviar no If-Match o ETag recebido na consulta, a atualização só é feita se a pessoa
+     * ainda estiver nessa versão; caso contrário retorna o status 412 (Precondition Failed).
      *
      * @param id Identificador da pessoa a ser atualizada.
      * @param pessoaDTO Objeto contendo as novas informações da pessoa.
-     * @return ResponseEntity contendo a pessoa atualizada ou status 404 se não for encontrada.
+     * @param ifMatch ETag da versão que o cliente leu (opcional).
+     * @return ResponseEntity contendo a pessoa atualizada, com o novo ETag, ou status 404 se não for encontrada.
      * 
      * Em caso de erros HTTP, pode ser devido a falhas no servidor
      */
     @PutMapping("/{id}")
     @Operation(summary = "Atualiza as informações de uma pessoa")
-    public ResponseEntity<PessoaDTO> update(@PathVariable Long id, @Valid @RequestBody PessoaDTO pessoaDTO) {
-        PessoaDTO pessoaAtualizada = pessoaService.update(id, pessoaDTO);
-        return ResponseEntity.ok(pessoaAtualizada);
+    public ResponseEntity<PessoaDTO> update(@PathVariable Long id, @Valid @RequestBody PessoaDTO pessoaDTO,
+                                            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        PessoaDTO pessoaAtualizada = pessoaService.update(id, pessoaDTO, versaoEsperada(ifMatch));
+        return ResponseEntity.ok().eTag(eTag(pessoaAtualizada.getVersao())).body(pessoaAtualizada);
+    }
+
+    /**
+     * Mescla duas pessoas duplicadas: os contatos da origem passam para o destino e a origem é excluída.
+     *
+     * @param idOrigem Identificador da pessoa duplicada, que será excluída.
+     * @param idDestino Identificador da pessoa que receberá os contatos.
+     * @return ResponseEntity contendo a pessoa de destino.
+     */
+    @PostMapping("/{idOrigem}/mesclar/{idDestino}")
+    @Operation(summary = "Mescla duas pessoas duplicadas, movendo os contatos da origem para o destino")
+    public ResponseEntity<PessoaDTO> mesclar(@PathVariable Long idOrigem, @PathVariable Long idDestino) {
+        return ResponseEntity.ok(pessoaService.mesclar(idOrigem, idDestino));
     }
 
     /**
@@ -110,4 +257,40 @@ public class PessoaController {
         pessoaService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    // ETag fraco: a pessoa pode ser enviada em JSON, CBOR ou Smile, com bytes diferentes para a mesma versão,
+    // como na listagem de contatos
+    private static String eTag(Long versao) {
+        return "W/\"" + versao + "\"";
+    }
+
+    // Comparação fraca do If-None-Match, como no WebRequest.checkNotModified
+    private static boolean naoModificado(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        ETag atual = ETag.create(eTag);
+        return ETag.parse(ifNoneMatch).stream().anyMatch(e -> e.isWildcard() || e.compare(atual, false));
+    }
+
+    // If-Match ausente ou "*" não confere a versão; qualquer outro valor precisa ser um ETag emitido por esta API.
+    // O ETag é fraco, mas a versão dentro dele identifica o estado da pessoa em qualquer formato, então é ela que
+    // é conferida, com ou sem o prefixo W/
+    private static Long versaoEsperada(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        List<ETag> eTags = ETag.parse(ifMatch);
+        if (eTags.size() == 1 && eTags.get(0).isWildcard()) {
+            return null;
+        }
+        if (eTags.size() == 1) {
+            try {
+                return Long.valueOf(eTags.get(0).tag());
+            } catch (NumberFormatException e) {
+                // Tratado abaixo como versão desatualizada
+            }
+        }
+        throw new VersaoDesatualizadaException("Erro! O If-Match não corresponde à versão atual da pessoa. Consulte a pessoa novamente.");
+    }
 }
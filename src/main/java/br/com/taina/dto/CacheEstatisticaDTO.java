@@ -0,0 +1,17 @@
+package br.com.taina.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO com os contadores de uma região do cache de segundo nível.
+ *
+ * @param regiao Nome da região do cache.
+ * @param acertos Leituras atendidas pelo cache.
+ * @param falhas Leituras que não encontraram o item no cache e foram ao banco de dados.
+ * @param insercoes Itens gravados no cache.
+ * @param remocoes Itens removidos pelo limite de tamanho ou pela expiração.
+ * @param tamanho Quantidade aproximada de itens no cache.
+ */
+@Schema(description = "Estatísticas de uma região do cache de segundo nível")
+public record CacheEstatisticaDTO(String regiao, long acertos, long falhas, long insercoes, long remocoes, long tamanho) {
+}
@@ -1,5 +1,7 @@
 package br.com.taina.dto;
 
+import br.com.taina.enums.TipoContato;
+import br.com.taina.model.Contato;
 import br.com.taina.validation.constraint.TipoContatoValid;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -48,6 +50,24 @@ public class ContatoDTO {
 		this.idPessoa = idPessoa;
 	}
 
+	/**
+	 * Construtor usado nas consultas com projeção (SELECT new) do {@link br.com.taina.repository.ContatoRepository},
+	 * que recebem o tipo de contato como enum diretamente do banco.
+	 */
+	public ContatoDTO(Long id, TipoContato tipoContato, String contato, Long idPessoa) {
+		this(id, tipoContato.name(), contato, idPessoa);
+	}
+
+	/**
+	 * Construtor que cria um objeto {@link ContatoDTO} a partir da instância de {@link Contato}.
+	 *
+	 * @param contato Objeto {@link Contato} com as informações do contato e da pessoa associada.
+	 */
+	public ContatoDTO(Contato contato) {
+		this(contato.getId(), contato.getTipoContato(), contato.getContato(),
+				contato.getPessoa() != null ? contato.getPessoa().getId() : null);
+	}
+
 
 	public Long getId() {
 		return id;
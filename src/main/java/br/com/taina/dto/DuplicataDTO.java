@@ -0,0 +1,20 @@
+package br.com.taina.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO com um par de pessoas que provavelmente são a mesma pessoa cadastrada duas vezes.
+ *
+ * @param idPessoa ID da primeira pessoa (o menor dos dois).
+ * @param nomePessoa Nome da primeira pessoa.
+ * @param idDuplicata ID da segunda pessoa.
+ * @param nomeDuplicata Nome da segunda pessoa.
+ * @param similaridade Similaridade de Jaro-Winkler entre os nomes, de 0 a 1.
+ * @param criterios Critérios em que as duas pessoas coincidem: CEP, CIDADE_UF e/ou CONTATO.
+ */
+@Schema(description = "Par de pessoas candidatas a duplicata")
+public record DuplicataDTO(Long idPessoa, String nomePessoa, Long idDuplicata, String nomeDuplicata,
+                           double similaridade, List<String> criterios) {
+}
@@ -0,0 +1,19 @@
+package br.com.taina.dto;
+
+import java.util.Map;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO com as quantidades de pessoas e contatos cadastrados.
+ *
+ * @param pessoas Total de pessoas, incluindo as que não têm UF ou cidade.
+ * @param contatos Total de contatos.
+ * @param pessoasPorUf Quantidade de pessoas em cada UF, apenas das UFs com alguma pessoa.
+ * @param pessoasPorCidade Quantidade de pessoas em cada cidade, em ordem alfabética.
+ * @param contatosPorTipo Quantidade de contatos de cada tipo, apenas dos tipos com algum contato.
+ */
+@Schema(description = "Quantidades de pessoas por UF e cidade e de contatos por tipo")
+public record EstatisticaDTO(long pessoas, long contatos, Map<String, Long> pessoasPorUf,
+                             Map<String, Long> pessoasPorCidade, Map<String, Long> contatosPorTipo) {
+}
@@ -0,0 +1,20 @@
+package br.com.taina.dto;
+
+import java.util.List;
+
+/**
+ * Record responsável por representar uma página de resultados paginada por cursor (keyset).
+ * O campo 'proximoCursor' contém o ID do último registro da página e deve ser enviado
+ * no parâmetro 'cursor' da próxima requisição. Quando for nulo, não há mais páginas.
+ *
+ * @param conteudo Lista de registros da página.
+ * @param tamanho Quantidade de registros retornados na página.
+ * @param proximoCursor Cursor para buscar a próxima página ou nulo se esta for a última.
+ * @param <T> Tipo dos registros da página.
+ */
+public record PaginaDTO<T>(List<T> conteudo, int tamanho, Long proximoCursor) {
+
+    public PaginaDTO(List<T> conteudo, Long proximoCursor) {
+        this(conteudo, conteudo.size(), proximoCursor);
+    }
+}
@@ -0,0 +1,15 @@
+package br.com.taina.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO com os dados resumidos de uma pessoa retornados pela busca por nome (autocomplete).
+ *
+ * @param id ID da pessoa.
+ * @param nome Nome da pessoa.
+ * @param cidade Cidade da pessoa.
+ * @param uf Estado da pessoa.
+ */
+@Schema(description = "Resultado da busca de pessoas por nome")
+public record PessoaBuscaDTO(Long id, String nome, String cidade, String uf) {
+}
@@ -0,0 +1,33 @@
+package br.com.taina.dto;
+
+import java.util.List;
+
+import br.com.taina.model.Pessoa;
+
+/**
+ * Record responsável por representar os dados de uma pessoa junto com a lista de contatos associados.
+ * Este DTO é utilizado quando é necessário retornar a pessoa e os seus contatos em uma única resposta.
+ */
+public record PessoaCompletaDTO(Long id, String nome, String endereco, String numeroCasa, String cep,
+                                String cidade, String uf, List<ContatoDTO> contatos) {
+
+    /**
+     * Construtor que cria um objeto {@link PessoaCompletaDTO} a partir da instância de {@link Pessoa}.
+     * A lista de contatos da pessoa já deve estar carregada para evitar consultas adicionais.
+     *
+     * @param pessoa Objeto {@link Pessoa} contem as informações da pessoa e dos seus contatos.
+     */
+    public PessoaCompletaDTO(Pessoa pessoa) {
+        this(pessoa.getId(),
+             pessoa.getNome(),
+             pessoa.getEndereco(),
+             pessoa.getNumeroCasa(),
+             pessoa.getCep(),
+             pessoa.getCidade(),
+             pessoa.getUf() != null ? pessoa.getUf().name() : null,
+             pessoa.getContatos().stream()
+                     .map(contato -> new ContatoDTO(contato.getId(), contato.getTipoContato().name(),
+                             contato.getContato(), pessoa.getId()))
+                     .toList());
+    }
+}
@@ -1,5 +1,7 @@
 package br.com.taina.dto;
 
+import br.com.taina.enums.Estados;
+import br.com.taina.model.Pessoa;
 import br.com.taina.validation.constraint.AllowsOnlyLettersAndSpaces;
 import br.com.taina.validation.constraint.CepValid;
 import br.com.taina.validation.constraint.NullNotBlank;
@@ -7,6 +9,10 @@ import br.com.taina.validation.constraint.UFValid;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
 import java.util.Objects;
 
 
@@ -54,6 +60,14 @@ public class PessoaDTO {
 	@UFValid
 	private String uf;
 
+	@Schema(description = "Contatos da pessoa. Considerado apenas no cadastro em lote.")
+	@JsonInclude(JsonInclude.Include.NON_EMPTY)
+	private List<ContatoDTO> contatos;
+
+	// Versão da pessoa quando o DTO vem da entidade ou da consulta por ID; não vai no corpo, apenas no ETag da resposta
+	@JsonIgnore
+	private Long versao;
+
 	public PessoaDTO() {}
 
 
@@ -67,6 +81,36 @@ public class PessoaDTO {
 		this.uf = uf;
 	}
 
+	/**
+	 * Construtor usado nas consultas com projeção (SELECT new) do {@link br.com.taina.repository.PessoaRepository},
+	 * que recebem a UF como enum diretamente do banco.
+	 */
+	public PessoaDTO(Long id, String nome, String endereco, String numeroCasa, String cep, String cidade, Estados uf) {
+		this(id, nome, endereco, numeroCasa, cep, cidade, uf != null ? uf.name() : null);
+	}
+
+	/**
+	 * Construtor usado na consulta por ID do {@link br.com.taina.repository.PessoaRepository}, que também traz a versão
+	 * da pessoa, para que o ETag da resposta corresponda exatamente aos dados lidos.
+	 */
+	public PessoaDTO(Long id, String nome, String endereco, String numeroCasa, String cep, String cidade, Estados uf,
+			Long versao) {
+		this(id, nome, endereco, numeroCasa, cep, cidade, uf);
+		this.versao = versao;
+	}
+
+	/**
+	 * Construtor que cria um objeto {@link PessoaDTO} a partir da instância de {@link Pessoa}.
+	 * Os contatos não são copiados; quem precisar deles deve preenchê-los com {@link #setContatos(List)}.
+	 *
+	 * @param pessoa Objeto {@link Pessoa} com as informações da pessoa.
+	 */
+	public PessoaDTO(Pessoa pessoa) {
+		this(pessoa.getId(), pessoa.getNome(), pessoa.getEndereco(), pessoa.getNumeroCasa(),
+				pessoa.getCep(), pessoa.getCidade(), pessoa.getUf());
+		this.versao = pessoa.getVersao();
+	}
+
 	public Long getId() {
 		return id;
 	}
@@ -123,6 +167,18 @@ public class PessoaDTO {
 		this.uf = uf;
 	}
 
+	public Long getVersao() {
+		return versao;
+	}
+
+	public List<ContatoDTO> getContatos() {
+		return contatos;
+	}
+
+	public void setContatos(List<ContatoDTO> contatos) {
+		this.contatos = contatos;
+	}
+
 	@Override
 	public String toString() {
 		return "PessoasDTO [id=" + id + ", nome=" + nome + ", endereco=" + endereco +
@@ -132,11 +188,11 @@ public class PessoaDTO {
 	@Override
 	public boolean equals(Object o) {
 		if (!(o instanceof PessoaDTO pessoaDTO)) return false;
-        return Objects.equals(getId(), pessoaDTO.getId()) && Objects.equals(getNome(), pessoaDTO.getNome()) && Objects.equals(getEndereco(), pessoaDTO.getEndereco()) && Objects.equals(getNumeroCasa(), pessoaDTO.getNumeroCasa()) && Objects.equals(getCep(), pessoaDTO.getCep()) && Objects.equals(getCidade(), pessoaDTO.getCidade()) && Objects.equals(getUf(), pessoaDTO.getUf());
+        return Objects.equals(getId(), pessoaDTO.getId()) && Objects.equals(getNome(), pessoaDTO.getNome()) && Objects.equals(getEndereco(), pessoaDTO.getEndereco()) && Objects.equals(getNumeroCasa(), pessoaDTO.getNumeroCasa()) && Objects.equals(getCep(), pessoaDTO.getCep()) && Objects.equals(getCidade(), pessoaDTO.getCidade()) && Objects.equals(getUf(), pessoaDTO.getUf()) && Objects.equals(getContatos(), pessoaDTO.getContatos());
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(getId(), getNome(), getEndereco(), getNumeroCasa(), getCep(), getCidade(), getUf());
+		return Objects.hash(getId(), getNome(), getEndereco(), getNumeroCasa(), getCep(), getCidade(), getUf(), getContatos());
 	}
 }
\ No newline at end of file
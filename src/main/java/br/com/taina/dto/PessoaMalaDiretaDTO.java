@@ -1,5 +1,6 @@
 package br.com.taina.dto;
 
+import br.com.taina.enums.Estados;
 import br.com.taina.model.Pessoa;
 
 /**
@@ -17,9 +18,22 @@ public record PessoaMalaDiretaDTO(Long id, String nome, String malaDireta) {
      * @param pessoa Objeto {@link Pessoa} contem as informações da pessoa.
      */
     public PessoaMalaDiretaDTO(Pessoa pessoa) {
-        this(pessoa.getId(), 
-             pessoa.getNome(), 
-             pessoa.getEndereco() + " – CEP: " + pessoa.getCep() + " – " + pessoa.getCidade() + " / " + pessoa.getUf());
+        this(pessoa.getId(), pessoa.getNome(), pessoa.getEndereco(), pessoa.getCep(), pessoa.getCidade(), pessoa.getUf());
+    }
+
+    /**
+     * Construtor usado na consulta com projeção (SELECT new) do {@link br.com.taina.repository.PessoaRepository},
+     * que recebe apenas as colunas necessárias para montar a string 'malaDireta'.
+     * Campos nulos entram como texto vazio, como no COALESCE da exportação em massa.
+     */
+    public PessoaMalaDiretaDTO(Long id, String nome, String endereco, String cep, String cidade, Estados uf) {
+        this(id, 
+             nome, 
+             texto(endereco) + " – CEP: " + texto(cep) + " – " + texto(cidade) + " / " + texto(uf));
+    }
+
+    private static String texto(Object valor) {
+        return valor == null ? "" : valor.toString();
     }
 }
 
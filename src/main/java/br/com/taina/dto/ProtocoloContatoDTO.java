@@ -0,0 +1,18 @@
+package br.com.taina.dto;
+
+import java.util.UUID;
+
+import br.com.taina.enums.SituacaoGravacao;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO com a situação de um contato enviado para a gravação assíncrona.
+ *
+ * @param protocolo Identificador devolvido no envio, usado para consultar a situação.
+ * @param situacao PENDENTE enquanto o contato está na fila, GRAVADO depois do commit ou FALHOU.
+ * @param idContato ID do contato gravado, ou nulo enquanto não for GRAVADO.
+ * @param mensagem Motivo da falha, ou nulo se não for FALHOU.
+ */
+@Schema(description = "Situação de um contato enviado para a gravação assíncrona")
+public record ProtocoloContatoDTO(UUID protocolo, SituacaoGravacao situacao, Long idContato, String mensagem) {
+}
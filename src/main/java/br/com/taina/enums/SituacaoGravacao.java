@@ -0,0 +1,10 @@
+package br.com.taina.enums;
+
+
+/**
+ * Enum que representa a situação de um contato enviado para a gravação assíncrona.
+ */
+public enum SituacaoGravacao {
+
+    PENDENTE, GRAVADO, FALHOU;
+}
@@ -1,12 +1,18 @@
 package br.com.taina.error;
 
 import br.com.taina.exception.*;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -21,15 +27,20 @@ import java.util.stream.Collectors;
  * fornecendo um ponto centralizado para o tratamento de exceções em toda a aplicação.
  * Este handler intercepta exceções e retorna uma resposta
  * adequada ao cliente, informando sobre o erro ocorrido.
+ * Cada exceção tratada também é contada na métrica api.erros, com o tipo da exceção e o status HTTP devolvido.
  */
 @ControllerAdvice(basePackages = {
 		"br.com.taina.controller",
 		"br.com.taina.service",
 		"br.com.taina.validation",
-		"br.com.taina.exception"
+		"br.com.taina.exception",
+		"br.com.taina.reactive"
 })
 public class GlobalHandler {
 
+	@Autowired
+	private MeterRegistry meterRegistry;
+
 	// Trata exceções de validação (@NotBlank, @Pattern, @Size, etc)
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
@@ -37,6 +48,18 @@ public class GlobalHandler {
 				.map(error -> ((FieldError) error).getField() + ": " + error.getDefaultMessage())
 				.collect(Collectors.toList());
 		ErrorResponse errorResponse = new ErrorResponse(400, errors);
+		contarErro(ex, 400);
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+	}
+
+	// Trata as mesmas validações na API reativa do profile 'reactive'
+	@ExceptionHandler(WebExchangeBindException.class)
+	public ResponseEntity<ErrorResponse> handleWebExchangeBindException(WebExchangeBindException ex) {
+		List<String> errors = ex.getBindingResult().getAllErrors().stream()
+				.map(error -> ((FieldError) error).getField() + ": " + error.getDefaultMessage())
+				.collect(Collectors.toList());
+		ErrorResponse errorResponse = new ErrorResponse(400, errors);
+		contarErro(ex, 400);
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
 	}
 
@@ -47,42 +70,94 @@ public class GlobalHandler {
 				.map(ConstraintViolation::getMessage)
 				.collect(Collectors.toList());
 		ErrorResponse errorResponse = new ErrorResponse(400, errors);
+		contarErro(ex, 400);
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
 	}
 
 	@ExceptionHandler(ErroServidorException.class)
 	public ResponseEntity<ErrorResponse> handleErroServidor(ErroServidorException ex) {
 		ErrorResponse error = new ErrorResponse(500, Collections.singletonList(ex.getMessage()));
+		contarErro(ex, 500);
 		return ResponseEntity.status(500).body(error);
 	}
 
 	@ExceptionHandler(FormatoInvalidoException.class)
 	public ResponseEntity<ErrorResponse> handleFormatoInvalido(FormatoInvalidoException ex) {
 		ErrorResponse error = new ErrorResponse(422, Collections.singletonList(ex.getMessage()));
+		contarErro(ex, 422);
 		return ResponseEntity.status(422).body(error);
 	}
 
 	@ExceptionHandler(CampoNotNullException.class)
 	public ResponseEntity<ErrorResponse> handleCampoNotNull(CampoNotNullException ex) {
 		ErrorResponse error = new ErrorResponse(400, Collections.singletonList(ex.getMessage()));
+		contarErro(ex, 400);
 		return ResponseEntity.status(400).body(error);
 	}
 
 	@ExceptionHandler(IdNotFoundException.class)
 	public ResponseEntity<ErrorResponse> handleIdNotFound(IdNotFoundException ex) {
 		ErrorResponse error = new ErrorResponse(404, Collections.singletonList(ex.getMessage()));
+		contarErro(ex, 404);
 		return ResponseEntity.status(404).body(error);
 	}
 
 	@ExceptionHandler(NenhumaAlteracaoException.class)
 	public ResponseEntity<ErrorResponse> handleNenhumaAlteracao(NenhumaAlteracaoException ex) {
 		ErrorResponse error = new ErrorResponse(400, Collections.singletonList(ex.getMessage()));
+		contarErro(ex, 400);
 		return ResponseEntity.status(400).body(error);
 	}
 
 	@ExceptionHandler(NadaParaListarException.class)
 	public ResponseEntity<ErrorResponse> handleNadaParaListar(NadaParaListarException ex) {
 		ErrorResponse error = new ErrorResponse(400, Collections.singletonList(ex.getMessage()));
+		contarErro(ex, 400);
+		return ResponseEntity.status(400).body(error);
+	}
+
+	@ExceptionHandler(LoteInvalidoException.class)
+	public ResponseEntity<ErrorResponse> handleLoteInvalido(LoteInvalidoException ex) {
+		ErrorResponse error = new ErrorResponse(400, ex.getErros());
+		contarErro(ex, 400);
 		return ResponseEntity.status(400).body(error);
 	}
+
+	@ExceptionHandler(VersaoDesatualizadaException.class)
+	public ResponseEntity<ErrorResponse> handleVersaoDesatualizada(VersaoDesatualizadaException ex) {
+		ErrorResponse error = new ErrorResponse(412, Collections.singletonList(ex.getMessage()));
+		contarErro(ex, 412);
+		return ResponseEntity.status(412).body(error);
+	}
+
+	// Conflitos de versão não convertidos pelos services, por exemplo em gravações feitas fora deles
+	@ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+	public ResponseEntity<ErrorResponse> handleBloqueioOtimista(ObjectOptimisticLockingFailureException ex) {
+		ErrorResponse error = new ErrorResponse(412, Collections.singletonList(
+				"Erro! O registro foi alterado por outra requisição. Consulte-o novamente e repita a operação."));
+		contarErro(ex, 412);
+		return ResponseEntity.status(412).body(error);
+	}
+
+	// Sem capacidade no momento (por exemplo, fila de gravação cheia): o cliente deve repetir depois do Retry-After
+	@ExceptionHandler(CapacidadeExcedidaException.class)
+	public ResponseEntity<ErrorResponse> handleCapacidadeExcedida(CapacidadeExcedidaException ex) {
+		ErrorResponse error = new ErrorResponse(503, Collections.singletonList(ex.getMessage()));
+		contarErro(ex, 503);
+		return ResponseEntity.status(503).header(HttpHeaders.RETRY_AFTER, "1").body(error);
+	}
+
+	// Cliente acima do limite de requisições por segundo: o Retry-After indica quando haverá um novo token no bucket
+	@ExceptionHandler(LimiteExcedidoException.class)
+	public ResponseEntity<ErrorResponse> handleLimiteExcedido(LimiteExcedidoException ex) {
+		ErrorResponse error = new ErrorResponse(429, Collections.singletonList(ex.getMessage()));
+		contarErro(ex, 429);
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getSegundosParaNovaTentativa()))
+				.body(error);
+	}
+
+	private void contarErro(Exception ex, int status) {
+		meterRegistry.counter("api.erros", "excecao", ex.getClass().getSimpleName(), "status", String.valueOf(status)).increment();
+	}
 }
@@ -0,0 +1,17 @@
+package br.com.taina.exception;
+
+/**
+ * Exceção personalizada lançada quando a aplicação não tem capacidade para aceitar a requisição no momento,
+ * por exemplo com a fila de gravação assíncrona de contatos cheia. O cliente deve tentar novamente depois.
+ */
+public class CapacidadeExcedidaException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param message A mensagem de erro que descreve o recurso sem capacidade.
+     */
+    public CapacidadeExcedidaException(String message) {
+        super(message);
+    }
+}
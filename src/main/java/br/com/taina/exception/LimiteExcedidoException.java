@@ -0,0 +1,25 @@
+package br.com.taina.exception;
+
+/**
+ * Exceção personalizada lançada quando um cliente excede o limite de requisições por segundo.
+ * Informa em quantos segundos o cliente pode tentar novamente, devolvido no cabeçalho Retry-After.
+ */
+public class LimiteExcedidoException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long segundosParaNovaTentativa;
+
+    /**
+     * @param message A mensagem de erro que descreve o limite excedido.
+     * @param segundosParaNovaTentativa Tempo, em segundos, até o cliente poder fazer uma nova requisição.
+     */
+    public LimiteExcedidoException(String message, long segundosParaNovaTentativa) {
+        super(message);
+        this.segundosParaNovaTentativa = segundosParaNovaTentativa;
+    }
+
+    public long getSegundosParaNovaTentativa() {
+        return segundosParaNovaTentativa;
+    }
+}
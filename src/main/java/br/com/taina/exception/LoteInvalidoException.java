@@ -0,0 +1,26 @@
+package br.com.taina.exception;
+
+import java.util.List;
+
+/**
+ * Exceção personalizada lançada quando um ou mais itens de um cadastro em lote são inválidos.
+ * Contém a lista de erros de todos os itens, identificados pela sua posição no lote.
+ */
+public class LoteInvalidoException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> erros;
+
+    /**
+     * @param erros A lista de mensagens de erro, uma para cada campo inválido dos itens do lote.
+     */
+    public LoteInvalidoException(List<String> erros) {
+        super("Erro! O lote contém itens inválidos.");
+        this.erros = erros;
+    }
+
+    public List<String> getErros() {
+        return erros;
+    }
+}
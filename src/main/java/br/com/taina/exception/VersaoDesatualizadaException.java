@@ -0,0 +1,17 @@
+package br.com.taina.exception;
+
+/**
+ * Exceção personalizada lançada quando um registro foi alterado por outra requisição desde a versão que o cliente
+ * leu, seja a versão informada no cabeçalho If-Match ou a carregada no início da atualização.
+ */
+public class VersaoDesatualizadaException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param message A mensagem de erro que descreve o registro alterado.
+     */
+    public VersaoDesatualizadaException(String message) {
+        super(message);
+    }
+}
@@ -1,10 +1,13 @@
 package br.com.taina.model;
 
 import br.com.taina.enums.TipoContato;
+import br.com.taina.validation.NormalizadorContato;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 
-import java.util.Objects;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * Representa um contato de uma pessoa mapeada para uma tabela no banco de dados 
@@ -16,11 +19,19 @@ import java.util.Objects;
  * Esta classe é usada para armazenar e manipular as informações relacionadas ao contato de uma pessoa.</p>
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_contato_normalizado", columnList = "contato_normalizado"),
+        @Index(name = "idx_contato_pessoa", columnList = "id_pessoa")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@DynamicUpdate
 @Schema(hidden = true)
 public class Contato {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) 
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contato_seq")
+    @SequenceGenerator(name = "contato_seq", sequenceName = "contato_seq", allocationSize = 50)
     private Long id;
     
     @Enumerated(EnumType.STRING)
@@ -30,11 +41,20 @@ public class Contato {
     
     @Column(nullable = false, length = 50)
     private String contato;
+
+    // Forma canônica do contato, calculada antes de gravar e usada na busca reversa
+    @Column(name = "contato_normalizado", length = 100)
+    private String contatoNormalizado;
     
     @ManyToOne
     @JoinColumn(name = "id_pessoa")
     private Pessoa pessoa;
 
+    // Incrementada pelo Hibernate a cada alteração: compõe o ETag da lista de contatos da pessoa
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
     public Contato() {}
 
   
@@ -68,6 +88,16 @@ public class Contato {
         this.contato = contato;
     }
 
+    public String getContatoNormalizado() {
+        return contatoNormalizado;
+    }
+
+    @PrePersist
+    @PreUpdate
+    void normalizarContato() {
+        this.contatoNormalizado = NormalizadorContato.normalizar(tipoContato, contato);
+    }
+
     public Pessoa getPessoa() {
         return pessoa;
     }
@@ -76,23 +106,33 @@ public class Contato {
         this.pessoa = pessoa;
     }
 
+    public Long getVersao() {
+        return versao;
+    }
+
 
+    // Apenas o ID da pessoa: imprimir o contato não deve carregar a pessoa nem a lista de contatos dela
     @Override
     public String toString() {
         return "Contato [id=" + id + "," +
                 " tipoContato=" + tipoContato + "," +
                 " contato=" + contato + "," +
-                " pessoa=" + pessoa + "]";
+                " idPessoa=" + (pessoa != null ? pessoa.getId() : null) + "]";
     }
 
+    /**
+     * Dois contatos são iguais quando têm o mesmo ID. Um contato ainda não gravado (sem ID) só é igual a ele mesmo.
+     */
     @Override
     public boolean equals(Object o) {
+        if (this == o) return true;
         if (!(o instanceof Contato contato1)) return false;
-        return Objects.equals(getId(), contato1.getId()) && getTipoContato() == contato1.getTipoContato() && Objects.equals(getContato(), contato1.getContato()) && Objects.equals(getPessoa(), contato1.getPessoa());
+        return getId() != null && getId().equals(contato1.getId());
     }
 
+    // Constante para não mudar quando o ID é gerado, com o contato já dentro de um Set ou Map
     @Override
     public int hashCode() {
-        return Objects.hash(getId(), getTipoContato(), getContato(), getPessoa());
+        return Contato.class.hashCode();
     }
 }
@@ -5,7 +5,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.annotation.Nullable;
 import jakarta.persistence.*;
 import java.util.List;
-import java.util.Objects;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.*;
@@ -19,11 +22,23 @@ import jakarta.validation.constraints.*;
  * ter um tipo específico ( telefone fixo ,celular, e-mail e linkedIn), conforme definido no {@link TipoContato}.</p>
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_pessoa_uf", columnList = "uf, id"),
+        @Index(name = "idx_pessoa_uf_cidade", columnList = "uf, cidade, id"),
+        @Index(name = "idx_pessoa_cidade", columnList = "cidade, id"),
+        @Index(name = "idx_pessoa_cep", columnList = "cep")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+// O UPDATE leva apenas as colunas alteradas, e não a linha inteira
+@DynamicUpdate
 @Schema(hidden = true)
 public class Pessoa {
 
+    // Sequence com alocação em blocos para permitir inserts em lote (JDBC batch), o que não é possível com IDENTITY
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pessoa_seq")
+    @SequenceGenerator(name = "pessoa_seq", sequenceName = "pessoa_seq", allocationSize = 50)
     private Long id;
 
    
@@ -47,9 +62,16 @@ public class Pessoa {
     private Estados uf;
 
     // Não carrega imediatamente a lista de contatos, apenas quando ela for acessada explicitamente...
+    // A coleção em cache guarda apenas os IDs dos contatos, que são lidos da região de cache de Contato
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(cascade = CascadeType.ALL, mappedBy = "pessoa", targetEntity = Contato.class, fetch = FetchType.LAZY)
     private List<Contato> contatos;
 
+    // Incrementada pelo Hibernate a cada alteração: usada no ETag e para recusar atualizações concorrentes
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
     public Pessoa() {}
 
 
@@ -128,6 +150,11 @@ public class Pessoa {
 		this.contatos = contatos;
 	}
 
+	public Long getVersao() {
+		return versao;
+	}
+
+    // Sem a lista de contatos: imprimir a pessoa não deve carregar a coleção nem percorrer os contatos
     @Override
     public String toString() {
         return "Pessoa{" +
@@ -138,18 +165,23 @@ public class Pessoa {
                 ", cep='" + cep + '\'' +
                 ", cidade='" + cidade + '\'' +
                 ", uf=" + uf +
-                ", contatos=" + contatos +
                 '}';
     }
 
+    /**
+     * Duas pessoas são iguais quando têm o mesmo ID. Uma pessoa ainda não gravada (sem ID) só é igual a ela mesma.
+     * O getId() também funciona em proxies do Hibernate sem carregá-los.
+     */
     @Override
     public boolean equals(Object o) {
+        if (this == o) return true;
         if (!(o instanceof Pessoa pessoa)) return false;
-        return Objects.equals(getId(), pessoa.getId()) && Objects.equals(getNome(), pessoa.getNome()) && Objects.equals(getEndereco(), pessoa.getEndereco()) && Objects.equals(getNumeroCasa(), pessoa.getNumeroCasa()) && Objects.equals(getCep(), pessoa.getCep()) && Objects.equals(getCidade(), pessoa.getCidade()) && getUf() == pessoa.getUf() && Objects.equals(getContatos(), pessoa.getContatos());
+        return getId() != null && getId().equals(pessoa.getId());
     }
 
+    // Constante para não mudar quando o ID é gerado, com a pessoa já dentro de um Set ou Map
     @Override
     public int hashCode() {
-        return Objects.hash(getId(), getNome(), getEndereco(), getNumeroCasa(), getCep(), getCidade(), getUf(), getContatos());
+        return Pessoa.class.hashCode();
     }
-}
\ No newline at end of file
+}
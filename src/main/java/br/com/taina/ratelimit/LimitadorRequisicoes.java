@@ -0,0 +1,74 @@
+package br.com.taina.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import br.com.taina.exception.LimiteExcedidoException;
+
+/**
+ * Limite de requisições por cliente, com um {@link TokenBucket} para cada cliente (chave de API ou IP).
+ *
+ * <p>Os buckets ficam em um cache do Caffeine e expiram depois de ficarem sem uso pelo tempo de recarga completa:
+ * nesse ponto o bucket estaria cheio, então descartá-lo não muda o limite do cliente. O tamanho máximo impede que
+ * chaves inventadas ocupem memória sem limite.</p>
+ *
+ * <p>Métricas: {@code limite.requisicoes} (tags {@code bucket} e {@code resultado}: permitida ou limitada) e
+ * {@code limite.clientes} (quantidade de buckets em memória).</p>
+ */
+public class LimitadorRequisicoes {
+
+    private final String nome;
+    private final Cache<String, TokenBucket> buckets;
+    private final Function<String, TokenBucket> novoBucket;
+    private final Counter permitidas;
+    private final Counter limitadas;
+
+    /**
+     * @param nome Nome do bucket (leitura ou escrita), usado nas métricas e na mensagem de erro.
+     * @param capacidade Quantidade máxima de requisições seguidas de um cliente.
+     * @param porSegundo Requisições por segundo recarregadas no bucket de cada cliente.
+     * @param maximoClientes Quantidade máxima de clientes com bucket em memória.
+     * @param meterRegistry Registro das métricas do limite.
+     */
+    public LimitadorRequisicoes(String nome, int capacidade, double porSegundo, long maximoClientes,
+                                MeterRegistry meterRegistry) {
+        if (porSegundo <= 0) {
+            throw new IllegalArgumentException("As requisições por segundo do bucket de " + nome + " devem ser positivas");
+        }
+        long intervaloNanos = Math.max(1, Math.round(TimeUnit.SECONDS.toNanos(1) / porSegundo));
+        this.nome = nome;
+        this.novoBucket = cliente -> new TokenBucket(capacidade, intervaloNanos);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximoClientes)
+                .expireAfterAccess(Duration.ofNanos(Math.max(capacidade * intervaloNanos, TimeUnit.SECONDS.toNanos(1))))
+                .build();
+        this.permitidas = meterRegistry.counter("limite.requisicoes", "bucket", nome, "resultado", "permitida");
+        this.limitadas = meterRegistry.counter("limite.requisicoes", "bucket", nome, "resultado", "limitada");
+        meterRegistry.gauge("limite.clientes", Tags.of("bucket", nome), buckets, Cache::estimatedSize);
+    }
+
+    /**
+     * Consome um token do bucket do cliente.
+     *
+     * @param cliente Chave de API ou IP do cliente.
+     * @throws LimiteExcedidoException Se o bucket do cliente estiver vazio.
+     */
+    public void consumir(String cliente) {
+        long espera = buckets.get(cliente, novoBucket).tentarConsumir(System.nanoTime());
+        if (espera > 0) {
+            limitadas.increment();
+            long segundos = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(espera + TimeUnit.SECONDS.toNanos(1) - 1));
+            throw new LimiteExcedidoException("Erro! Limite de requisições de " + nome
+                    + " excedido. Tente novamente em " + segundos + " segundo(s).", segundos);
+        }
+        permitidas.increment();
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.taina.ratelimit;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import br.com.taina.exception.CapacidadeExcedidaException;
+import br.com.taina.exception.LimiteExcedidoException;
+
+/**
+ * Interceptor que aplica os limites de requisições da API antes de chamar o controller.
+ *
+ * <p>O cliente é identificado pelo cabeçalho {@value #CABECALHO_CHAVE}, se a chave for uma das chaves de API
+ * configuradas, ou pelo IP. Uma chave desconhecida conta como o IP, para que trocar de chave a cada requisição não
+ * gere um bucket novo. GET, HEAD e OPTIONS
+ * consomem do bucket de leitura e os demais métodos do bucket de escrita, de modo que um cliente que esgota as
+ * escritas continua podendo consultar. Sem tokens, a requisição é recusada com {@link LimiteExcedidoException}
+ * (status 429).</p>
+ *
+ * <p>Além do limite por cliente, cada endpoint (método do controller) tem um máximo de requisições simultâneas,
+ * somando todos os clientes. Acima dele a requisição é recusada na hora com {@link CapacidadeExcedidaException}
+ * (status 503), sem esperar na fila do pool de conexões. A vaga é liberada no fim da requisição.</p>
+ *
+ * <p>Métricas: {@code limite.em.andamento} (requisições em andamento por endpoint) e
+ * {@code limite.em.andamento.recusadas} (requisições recusadas por endpoint), além das de {@link LimitadorRequisicoes}.</p>
+ */
+public class LimiteRequisicoesInterceptor implements HandlerInterceptor {
+
+    public static final String CABECALHO_CHAVE = "X-API-Key";
+
+    private static final String ATRIBUTO_VAGA = LimiteRequisicoesInterceptor.class.getName() + ".vaga";
+
+    private final LimitadorRequisicoes leitura;
+    private final LimitadorRequisicoes escrita;
+    private final int maximoEmAndamento;
+    private final Set<String> chavesApi;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<Method, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * @param leitura Limite por cliente das requisições de leitura.
+     * @param escrita Limite por cliente das requisições de escrita.
+     * @param maximoEmAndamento Máximo de requisições simultâneas em cada endpoint.
+     * @param chavesApi Chaves de API aceitas no cabeçalho {@value #CABECALHO_CHAVE}.
+     * @param meterRegistry Registro das métricas de requisições em andamento.
+     */
+    public LimiteRequisicoesInterceptor(LimitadorRequisicoes leitura, LimitadorRequisicoes escrita,
+                                        int maximoEmAndamento, Set<String> chavesApi, MeterRegistry meterRegistry) {
+        this.leitura = leitura;
+        this.escrita = escrita;
+        this.maximoEmAndamento = maximoEmAndamento;
+        this.chavesApi = Set.copyOf(chavesApi);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Em um dispatch assíncrono ou de erro a requisição já passou pelos limites
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        (isLeitura(request.getMethod()) ? leitura : escrita).consumir(identificarCliente(request));
+
+        Endpoint endpoint = endpoints.computeIfAbsent(handlerMethod.getMethod(), this::novoEndpoint);
+        if (!endpoint.vagas().tryAcquire()) {
+            endpoint.recusadas().increment();
+            throw new CapacidadeExcedidaException("Erro! O limite de requisições simultâneas em " + endpoint.nome()
+                    + " foi atingido. Tente novamente em instantes.");
+        }
+        request.setAttribute(ATRIBUTO_VAGA, endpoint.vagas());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(ATRIBUTO_VAGA) instanceof Semaphore vagas) {
+            request.removeAttribute(ATRIBUTO_VAGA);
+            vagas.release();
+        }
+    }
+
+    private static boolean isLeitura(String metodo) {
+        return "GET".equals(metodo) || "HEAD".equals(metodo) || "OPTIONS".equals(metodo);
+    }
+
+    private String identificarCliente(HttpServletRequest request) {
+        String chave = request.getHeader(CABECALHO_CHAVE);
+        return chave != null && chavesApi.contains(chave) ? chave : request.getRemoteAddr();
+    }
+
+    private Endpoint novoEndpoint(Method metodo) {
+        String nome = metodo.getDeclaringClass().getSimpleName() + "." + metodo.getName();
+        Semaphore vagas = new Semaphore(maximoEmAndamento);
+        meterRegistry.gauge("limite.em.andamento", Tags.of("endpoint", nome), vagas,
+                semaforo -> maximoEmAndamento - semaforo.availablePermits());
+        return new Endpoint(nome, vagas, meterRegistry.counter("limite.em.andamento.recusadas", "endpoint", nome));
+    }
+
+    private record Endpoint(String nome, Semaphore vagas, Counter recusadas) {
+    }
+}
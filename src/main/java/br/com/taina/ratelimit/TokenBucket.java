@@ -0,0 +1,54 @@
+package br.com.taina.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket de um cliente, sem locks: todo o estado fica em um único {@link AtomicLong}, atualizado por
+ * compare-and-set.
+ *
+ * <p>Em vez de guardar a quantidade de tokens e o instante da última recarga, o bucket guarda o instante teórico
+ * em que estaria cheio de novo (algoritmo GCRA). Cada requisição permitida adianta esse instante em um intervalo de
+ * recarga, e a requisição é recusada quando ele passaria de {@code capacidade} intervalos à frente do instante atual.
+ * O resultado é o mesmo de um token bucket de {@code capacidade} tokens recarregado a um token por intervalo, sem
+ * alocação e com o tempo de espera calculado diretamente.</p>
+ */
+public final class TokenBucket {
+
+    private final long intervaloNanos;
+    private final long toleranciaNanos;
+
+    // Instante (System.nanoTime) em que o bucket estaria cheio de novo; no passado, o bucket está cheio
+    private final AtomicLong cheioEm = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param capacidade Quantidade máxima de requisições seguidas, com o bucket cheio.
+     * @param intervaloNanos Tempo de recarga de um token, em nanossegundos.
+     */
+    public TokenBucket(int capacidade, long intervaloNanos) {
+        if (capacidade < 1 || intervaloNanos < 1) {
+            throw new IllegalArgumentException("A capacidade e o intervalo de recarga devem ser positivos");
+        }
+        this.intervaloNanos = intervaloNanos;
+        this.toleranciaNanos = capacidade * intervaloNanos;
+    }
+
+    /**
+     * Tenta consumir um token.
+     *
+     * @param agora O instante atual, de {@link System#nanoTime()}.
+     * @return 0 se o token foi consumido, ou o tempo em nanossegundos até haver um token disponível.
+     */
+    public long tentarConsumir(long agora) {
+        while (true) {
+            long atual = cheioEm.get();
+            long proximo = Math.max(atual, agora) + intervaloNanos;
+            long espera = proximo - agora - toleranciaNanos;
+            if (espera > 0) {
+                return espera;
+            }
+            if (cheioEm.compareAndSet(atual, proximo)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.taina.reactive;
+
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import br.com.taina.dto.ContatoDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador reativo de contatos, ativo apenas no profile 'reactive', no lugar do
+ * {@link br.com.taina.controller.ContatoController}. Usa os mesmos caminhos, DTOs, validações e status HTTP.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/contatos")
+public class ContatoReativoController {
+
+    @Autowired
+    private ContatoReativoService contatoService;
+
+    /**
+     * Salva um novo contato para uma pessoa.
+     *
+     * @param contatoDTO Objeto contendo as informações do contato a ser salvo.
+     * @return Mono contendo o contato salvo e o status 201 (Created).
+     */
+    @PostMapping
+    @Operation(summary = "Salva um novo contato para uma pessoa.")
+    public Mono<ResponseEntity<ContatoDTO>> save(@Valid @RequestBody ContatoDTO contatoDTO) {
+        return contatoService.save(contatoDTO).map(contato -> ResponseEntity.status(201).body(contato));
+    }
+
+    /**
+     * Consulta um contato pelo ID.
+     *
+     * @param id Identificador do contato a ser consultado.
+     * @return Mono contendo o contato encontrado ou HTTP status 404 se não for encontrado.
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Consulta um contato pelo ID.")
+    public Mono<ContatoDTO> findById(@PathVariable Long id) {
+        return contatoService.findById(id);
+    }
+
+    /**
+     * Lista todos os contatos de uma pessoa pelo seu ID, em JSON ou NDJSON.
+     *
+     * @param idPessoa Identificador da pessoa cujos contatos serão listados.
+     * @return Flux com os contatos encontrados.
+     */
+    @GetMapping(value = "pessoa/{idPessoa}", produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    @Operation(summary = "Lista todos os contatos de uma pessoa por ID.")
+    public Flux<ContatoDTO> findAllContactsPessoas(@PathVariable Long idPessoa) {
+        return contatoService.findAllByPessoaId(idPessoa);
+    }
+
+    /**
+     * Atualiza um contato existente pelo ID.
+     *
+     * @param id Identificador do contato a ser atualizado.
+     * @param contatoDTO Objeto contendo as novas informações do contato.
+     * @return Mono contendo o contato atualizado ou HTTP status 404 caso não seja encontrado.
+     */
+    @PutMapping("/{id}")
+    @Operation(summary = "Atualiza um contato existente por ID.")
+    public Mono<ContatoDTO> update(@PathVariable Long id, @Valid @RequestBody ContatoDTO contatoDTO) {
+        return contatoService.update(id, contatoDTO);
+    }
+
+    /**
+     * Deleta um contato pelo ID.
+     *
+     * @param id Identificador do contato a ser removido.
+     * @return Mono com HTTP status 204 (No Content) se a remoção for bem-sucedida.
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Deleta um contato por ID.")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id) {
+        return contatoService.delete(id).thenReturn(ResponseEntity.noContent().build());
+    }
+}
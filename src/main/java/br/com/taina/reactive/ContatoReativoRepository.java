@@ -0,0 +1,91 @@
+package br.com.taina.reactive;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.enums.TipoContato;
+import br.com.taina.validation.NormalizadorContato;
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repositório reativo da tabela de contatos, usado pela API do profile 'reactive'.
+ *
+ * <p>Assim como no {@link PessoaReativaRepository}, o ID vem da sequence do JPA ({@code contato_seq}). A forma
+ * normalizada do contato, que a entidade {@link br.com.taina.model.Contato} calcula antes de gravar, é calculada
+ * aqui com o mesmo {@link NormalizadorContato}.</p>
+ */
+@Repository
+@Profile("reactive")
+public class ContatoReativoRepository {
+
+    private static final String COLUNAS = "SELECT id, tipo_contato, contato, id_pessoa FROM contato";
+
+    @Autowired
+    DatabaseClient databaseClient;
+
+    public Mono<ContatoDTO> findById(Long id) {
+        return databaseClient.sql(COLUNAS + " WHERE id = :id")
+                .bind("id", id)
+                .map(ContatoReativoRepository::paraDTO)
+                .one();
+    }
+
+    /**
+     * Lista os contatos de uma pessoa em ordem de ID, emitidos conforme a demanda de quem consome o {@link Flux}.
+     */
+    public Flux<ContatoDTO> findAllByPessoaId(Long idPessoa) {
+        return databaseClient.sql(COLUNAS + " WHERE id_pessoa = :idPessoa ORDER BY id")
+                .bind("idPessoa", idPessoa)
+                .map(ContatoReativoRepository::paraDTO)
+                .all();
+    }
+
+    public Mono<ContatoDTO> insert(TipoContato tipoContato, String contato, Long idPessoa) {
+        return databaseClient.sql("SELECT NEXT VALUE FOR contato_seq")
+                .map(linha -> linha.get(0, Long.class))
+                .one()
+                .flatMap(id -> PessoaReativaRepository.bindOpcional(databaseClient.sql(
+                                        "INSERT INTO contato (id, tipo_contato, contato, contato_normalizado, id_pessoa, versao) "
+                                                + "VALUES (:id, CAST(:tipoContato AS VARCHAR), :contato, :contatoNormalizado, :idPessoa, 0)")
+                                        .bind("id", id)
+                                        .bind("tipoContato", tipoContato.name())
+                                        .bind("contato", contato)
+                                        .bind("idPessoa", idPessoa),
+                                "contatoNormalizado", NormalizadorContato.normalizar(tipoContato, contato))
+                        .fetch().rowsUpdated()
+                        .thenReturn(new ContatoDTO(id, tipoContato, contato, idPessoa)));
+    }
+
+    public Mono<Long> update(Long id, TipoContato tipoContato, String contato) {
+        return PessoaReativaRepository.bindOpcional(databaseClient.sql(
+                                "UPDATE contato SET tipo_contato = CAST(:tipoContato AS VARCHAR), contato = :contato, "
+                                        + "contato_normalizado = :contatoNormalizado, versao = versao + 1 WHERE id = :id")
+                                .bind("id", id)
+                                .bind("tipoContato", tipoContato.name())
+                                .bind("contato", contato),
+                        "contatoNormalizado", NormalizadorContato.normalizar(tipoContato, contato))
+                .fetch().rowsUpdated();
+    }
+
+    public Mono<Long> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM contato WHERE id = :id")
+                .bind("id", id)
+                .fetch().rowsUpdated();
+    }
+
+    public Mono<Long> deleteByPessoaId(Long idPessoa) {
+        return databaseClient.sql("DELETE FROM contato WHERE id_pessoa = :idPessoa")
+                .bind("idPessoa", idPessoa)
+                .fetch().rowsUpdated();
+    }
+
+    private static ContatoDTO paraDTO(Readable linha) {
+        return new ContatoDTO(linha.get("id", Long.class), linha.get("tipo_contato", String.class),
+                linha.get("contato", String.class), linha.get("id_pessoa", Long.class));
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.taina.reactive;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.enums.TipoContato;
+import br.com.taina.exception.CampoNotNullException;
+import br.com.taina.exception.ErroServidorException;
+import br.com.taina.exception.IdNotFoundException;
+import br.com.taina.exception.NadaParaListarException;
+import br.com.taina.validation.ContatoValidation;
+import br.com.taina.validation.RegrasValidacao;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versão reativa do {@link br.com.taina.service.ContatoService}, com as mesmas regras e mensagens de erro.
+ * Os contatos são validados pelo mesmo {@link ContatoValidation} da API Spring MVC.
+ */
+@Service
+@Profile("reactive")
+public class ContatoReativoService {
+
+    @Autowired
+    ContatoReativoRepository contatoRepository;
+
+    @Autowired
+    PessoaReativaRepository pessoaRepository;
+
+    @Autowired
+    ContatoValidation contatoValidation;
+
+    public Mono<ContatoDTO> save(ContatoDTO contatoDTO) {
+        if (contatoDTO.getIdPessoa() == null) {
+            return Mono.error(new CampoNotNullException("Erro! O idPessoa não pode ser nulo. Insira um id válido!"));
+        }
+
+        return pessoaRepository.existsById(contatoDTO.getIdPessoa())
+                .filter(Boolean::booleanValue)
+                .switchIfEmpty(Mono.error(() -> new IdNotFoundException("Pessoa com ID " + contatoDTO.getIdPessoa() + " não encontrada")))
+                .doOnNext(existe -> contatoValidation.validarContato(contatoDTO))
+                .flatMap(existe -> contatoRepository.insert(RegrasValidacao.converterTipoContato(contatoDTO.getTipoContato()),
+                        contatoDTO.getContato(), contatoDTO.getIdPessoa()))
+                .onErrorMap(DataAccessException.class, e -> new ErroServidorException(e.getMessage()));
+    }
+
+    public Mono<ContatoDTO> findById(Long id) {
+        if (id == null) {
+            return Mono.error(new CampoNotNullException("Erro! Campo ID não pode ser nulo."));
+        }
+
+        return contatoRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new IdNotFoundException("Contato com ID " + id + " não encontrado")))
+                .onErrorMap(DataAccessException.class, e -> new ErroServidorException(e.getMessage()));
+    }
+
+    /**
+     * Lista os contatos de uma pessoa. A existência da pessoa só é consultada quando nenhum contato é encontrado.
+     */
+    public Flux<ContatoDTO> findAllByPessoaId(Long idPessoa) {
+        if (idPessoa == null) {
+            return Flux.error(new CampoNotNullException("Erro! Campo ID não pode ser nulo."));
+        }
+
+        return contatoRepository.findAllByPessoaId(idPessoa)
+                .switchIfEmpty(pessoaRepository.existsById(idPessoa)
+                        .flatMapMany(existe -> Flux.error(existe
+                                ? new NadaParaListarException("Nenhum contato encontrado para a pessoa com ID " + idPessoa)
+                                : new IdNotFoundException("Pessoa com ID " + idPessoa + " não encontrada"))))
+                .onErrorMap(DataAccessException.class, e -> new ErroServidorException(e.getMessage()));
+    }
+
+    public Mono<ContatoDTO> update(Long id, ContatoDTO contatoDTO) {
+        if (id == null) {
+            return Mono.error(new CampoNotNullException("Erro! Campo ID não pode ser nulo."));
+        }
+
+        return contatoRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new IdNotFoundException("Contato com ID " + id + " não encontrado")))
+                .doOnNext(contato -> contatoValidation.validarContato(contatoDTO))
+                .flatMap(contato -> {
+                    TipoContato tipoContato = RegrasValidacao.converterTipoContato(contatoDTO.getTipoContato());
+                    return contatoRepository.update(id, tipoContato, contatoDTO.getContato())
+                            .thenReturn(new ContatoDTO(id, tipoContato, contatoDTO.getContato(), contato.getIdPessoa()));
+                })
+                .onErrorMap(DataAccessException.class, e -> new ErroServidorException(e.getMessage()));
+    }
+
+    public Mono<Void> delete(Long id) {
+        if (id == null) {
+            return Mono.error(new CampoNotNullException("Erro! Campo ID não pode ser nulo."));
+        }
+
+        return contatoRepository.deleteById(id)
+                .filter(linhas -> linhas > 0)
+                .switchIfEmpty(Mono.error(() -> new IdNotFoundException("Contato com ID " + id + " não encontrado para exclusão.")))
+                .onErrorMap(DataAccessException.class, e -> new ErroServidorException(e.getMessage()))
+                .then();
+    }
+}
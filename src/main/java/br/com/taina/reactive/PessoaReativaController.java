@@ -0,0 +1,92 @@
+package br.com.taina.reactive;
+
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import br.com.taina.dto.PessoaDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador reativo de pessoas, ativo apenas no profile 'reactive', no lugar do
+ * {@link br.com.taina.controller.PessoaController}. Usa os mesmos caminhos, DTOs, validações e status HTTP.
+ *
+ * A listagem não é paginada: as pessoas são enviadas conforme lidas do banco, em JSON ou em NDJSON
+ * (uma pessoa por linha) quando o cliente envia {@code Accept: application/x-ndjson}.
+ */
+@RestController
+@Profile("reactive")
+@RequestMapping("api/pessoas")
+public class PessoaReativaController {
+
+    @Autowired
+    private PessoaReativaService pessoaService;
+
+    /**
+     * Cadastra uma nova pessoa.
+     *
+     * @param pessoaDTO Objeto contendo as informações da pessoa a ser cadastrada.
+     * @return Mono contendo a pessoa cadastrada e o status 201 (Created).
+     */
+    @PostMapping
+    @Operation(summary = "Cadastro de uma nova pessoa.")
+    public Mono<ResponseEntity<PessoaDTO>> save(@Valid @RequestBody PessoaDTO pessoaDTO) {
+        return pessoaService.save(pessoaDTO).map(pessoa -> ResponseEntity.status(201).body(pessoa));
+    }
+
+    /**
+     * Lista as pessoas cadastradas em ordem de ID.
+     *
+     * @param uf Filtro opcional por estado.
+     * @param cidade Filtro opcional por cidade.
+     * @return Flux com as pessoas, emitidas conforme são lidas do banco.
+     */
+    @GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    @Operation(summary = "Lista as pessoas cadastradas em JSON ou NDJSON")
+    public Flux<PessoaDTO> findAll(@RequestParam(required = false) String uf,
+                                   @RequestParam(required = false) String cidade) {
+        return pessoaService.findAll(uf, cidade);
+    }
+
+    /**
+     * Consulta uma pessoa pelo ID.
+     *
+     * @param id Identificador da pessoa a ser consultada.
+     * @return Mono contendo a pessoa encontrada ou HTTP status 404 se não for encontrada.
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Consulta uma pessoa pelo ID")
+    public Mono<PessoaDTO> findById(@PathVariable Long id) {
+        return pessoaService.findById(id);
+    }
+
+    /**
+     * Atualiza as informações de uma pessoa existente.
+     *
+     * @param id Identificador da pessoa a ser atualizada.
+     * @param pessoaDTO Objeto contendo as novas informações da pessoa.
+     * @return Mono contendo a pessoa atualizada ou status 404 se não for encontrada.
+     */
+    @PutMapping("/{id}")
+    @Operation(summary = "Atualiza as informações de uma pessoa")
+    public Mono<PessoaDTO> update(@PathVariable Long id, @Valid @RequestBody PessoaDTO pessoaDTO) {
+        return pessoaService.update(id, pessoaDTO);
+    }
+
+    /**
+     * Deleta uma pessoa pelo ID, junto com os seus contatos.
+     *
+     * @param id Identificador da pessoa a ser removida.
+     * @return Mono com status 204 (No Content) se a remoção for bem-sucedida.
+     */
+    @DeleteMapping("/{id}")
+    @Operation(summary = "Deleta uma pessoa pelo ID")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id) {
+        return pessoaService.delete(id).thenReturn(ResponseEntity.noContent().build());
+    }
+}
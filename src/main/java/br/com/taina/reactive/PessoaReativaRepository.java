@@ -0,0 +1,125 @@
+package br.com.taina.reactive;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.enums.Estados;
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repositório reativo da tabela de pessoas, usado pela API do profile 'reactive'.
+ *
+ * <p>As consultas são escritas com o {@link DatabaseClient} em vez de um repositório do Spring Data R2DBC porque o ID
+ * vem da mesma sequence usada pelo JPA ({@code pessoa_seq}, em blocos de 50). Cada cadastro reativo consome um valor
+ * da sequence e usa esse valor como ID. Como os blocos do Hibernate também terminam nos valores devolvidos pela
+ * sequence, os dois nunca geram o mesmo ID.</p>
+ */
+@Repository
+@Profile("reactive")
+public class PessoaReativaRepository {
+
+    private static final String COLUNAS = "SELECT id, nome, endereco, numero_casa, cep, cidade, uf FROM pessoa";
+
+    @Autowired
+    DatabaseClient databaseClient;
+
+    public Mono<PessoaDTO> findById(Long id) {
+        return databaseClient.sql(COLUNAS + " WHERE id = :id")
+                .bind("id", id)
+                .map(PessoaReativaRepository::paraDTO)
+                .one();
+    }
+
+    public Mono<Boolean> existsById(Long id) {
+        return databaseClient.sql("SELECT COUNT(*) FROM pessoa WHERE id = :id")
+                .bind("id", id)
+                .map(linha -> linha.get(0, Long.class) > 0)
+                .one();
+    }
+
+    /**
+     * Lista as pessoas em ordem de ID, com filtros opcionais por UF e cidade. As linhas são emitidas conforme são
+     * lidas do banco e respeitam a demanda (backpressure) de quem consome o {@link Flux}.
+     * A cidade é comparada exatamente, como na listagem da API Spring MVC, para usar os índices da coluna.
+     */
+    public Flux<PessoaDTO> findAll(Estados uf, String cidade) {
+        StringBuilder sql = new StringBuilder(COLUNAS).append(" WHERE 1 = 1");
+        if (uf != null) {
+            sql.append(" AND uf = CAST(:uf AS VARCHAR)");
+        }
+        if (cidade != null) {
+            sql.append(" AND cidade = :cidade");
+        }
+        sql.append(" ORDER BY id");
+
+        GenericExecuteSpec consulta = databaseClient.sql(sql.toString());
+        if (uf != null) {
+            consulta = consulta.bind("uf", uf.name());
+        }
+        if (cidade != null) {
+            consulta = consulta.bind("cidade", cidade);
+        }
+        return consulta.map(PessoaReativaRepository::paraDTO).all();
+    }
+
+    public Mono<PessoaDTO> insert(String nome, String endereco, String numeroCasa, String cep, String cidade, Estados uf) {
+        return databaseClient.sql("SELECT NEXT VALUE FOR pessoa_seq")
+                .map(linha -> linha.get(0, Long.class))
+                .one()
+                .flatMap(id -> {
+                    GenericExecuteSpec insert = databaseClient.sql(
+                                    "INSERT INTO pessoa (id, nome, endereco, numero_casa, cep, cidade, uf, versao) "
+                                            + "VALUES (:id, :nome, :endereco, :numeroCasa, :cep, :cidade, CAST(:uf AS VARCHAR), 0)")
+                            .bind("id", id)
+                            .bind("nome", nome);
+                    insert = bindOpcional(insert, "endereco", endereco);
+                    insert = bindOpcional(insert, "numeroCasa", numeroCasa);
+                    insert = bindOpcional(insert, "cep", cep);
+                    insert = bindOpcional(insert, "cidade", cidade);
+                    insert = bindOpcional(insert, "uf", uf != null ? uf.name() : null);
+                    return insert.fetch().rowsUpdated()
+                            .thenReturn(new PessoaDTO(id, nome, endereco, numeroCasa, cep, cidade, uf));
+                });
+    }
+
+    /**
+     * Atualiza os mesmos campos do {@link br.com.taina.service.PessoaService#update}; o número da casa é mantido.
+     */
+    public Mono<Long> update(Long id, String nome, String endereco, String cep, String cidade, Estados uf) {
+        GenericExecuteSpec update = databaseClient.sql(
+                        "UPDATE pessoa SET nome = :nome, endereco = :endereco, cep = :cep, cidade = :cidade, uf = CAST(:uf AS VARCHAR), "
+                                + "versao = versao + 1 WHERE id = :id")
+                .bind("id", id)
+                .bind("nome", nome);
+        update = bindOpcional(update, "endereco", endereco);
+        update = bindOpcional(update, "cep", cep);
+        update = bindOpcional(update, "cidade", cidade);
+        update = bindOpcional(update, "uf", uf != null ? uf.name() : null);
+        return update.fetch().rowsUpdated();
+    }
+
+    public Mono<Long> deleteById(Long id) {
+        return databaseClient.sql("DELETE FROM pessoa WHERE id = :id")
+                .bind("id", id)
+                .fetch().rowsUpdated();
+    }
+
+    // O driver R2DBC do H2 envia textos como CLOB, que o H2 não converte direto para as colunas ENUM (uf e
+    // tipo_contato); por isso essas colunas recebem o parâmetro com CAST para VARCHAR.
+    // O R2DBC exige o tipo para gravar nulo
+    static GenericExecuteSpec bindOpcional(GenericExecuteSpec sql, String parametro, String valor) {
+        return valor != null ? sql.bind(parametro, valor) : sql.bindNull(parametro, String.class);
+    }
+
+    private static PessoaDTO paraDTO(Readable linha) {
+        return new PessoaDTO(linha.get("id", Long.class), linha.get("nome", String.class),
+                linha.get("endereco", String.class), linha.get("numero_casa", String.class),
+                linha.get("cep", String.class), linha.get("cidade", String.class), linha.get("uf", String.class));
+    }
+}
@@ -0,0 +1,123 @@
+package br.com.taina.reactive;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import br.com.taina.dto.PessoaBuscaDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.enums.Estados;
+import br.com.taina.exception.CampoNotNullException;
+import br.com.taina.exception.ErroServidorException;
+import br.com.taina.exception.FormatoInvalidoException;
+import br.com.taina.exception.IdNotFoundException;
+import br.com.taina.search.PessoaSearchIndex;
+import br.com.taina.validation.RegrasValidacao;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versão reativa do {@link br.com.taina.service.PessoaService}, com as mesmas regras e mensagens de erro.
+ * Os erros são emitidos pelo {@link Mono} ou {@link Flux} e tratados pelo {@link br.com.taina.error.GlobalHandler}.
+ */
+@Service
+@Profile("reactive")
+public class PessoaReativaService {
+
+    @Autowired
+    PessoaReativaRepository pessoaRepository;
+
+    @Autowired
+    ContatoReativoRepository contatoRepository;
+
+    @Autowired
+    TransactionalOperator transactionalOperator;
+
+    @Autowired
+    PessoaSearchIndex pessoaSearchIndex;
+
+    public Mono<PessoaDTO> save(PessoaDTO pessoaDTO) {
+        return Mono.defer(() -> pessoaRepository.insert(pessoaDTO.getNome(), pessoaDTO.getEndereco(),
+                        pessoaDTO.getNumeroCasa(), pessoaDTO.getCep(), pessoaDTO.getCidade(),
+                        pessoaDTO.getUf() != null ? RegrasValidacao.converterEstado(pessoaDTO.getUf()) : null))
+                .doOnNext(pessoa -> pessoaSearchIndex.adicionar(paraBusca(pessoa)))
+                .onErrorMap(DataAccessException.class, e -> new ErroServidorException("Erro ao salvar a pessoa: " + e.getMessage()));
+    }
+
+    /**
+     * Lista as pessoas em ordem de ID, com filtros opcionais por UF e cidade, sem paginação: as pessoas são lidas do
+     * banco conforme o cliente consome a resposta.
+     */
+    public Flux<PessoaDTO> findAll(String uf, String cidade) {
+        return Flux.defer(() -> pessoaRepository.findAll(converterFiltroUf(uf),
+                        cidade == null || cidade.isBlank() ? null : cidade.trim()))
+                .onErrorMap(DataAccessException.class, e -> new ErroServidorException(e.getMessage()));
+    }
+
+    public Mono<PessoaDTO> findById(Long id) {
+        if (id == null) {
+            return Mono.error(new CampoNotNullException("Erro! Campo ID não pode ser nulo."));
+        }
+
+        return pessoaRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new IdNotFoundException("Pessoa com ID " + id + " não encontrada")))
+                .onErrorMap(DataAccessException.class, e -> new ErroServidorException(e.getMessage()));
+    }
+
+    public Mono<PessoaDTO> update(Long id, PessoaDTO pessoaDTO) {
+        if (id == null) {
+            return Mono.error(new CampoNotNullException("Erro! Campo ID não pode ser nulo."));
+        }
+
+        // Permitir UF nula
+        Mono<Long> atualizacao = Mono.defer(() -> pessoaRepository.update(id, pessoaDTO.getNome(), pessoaDTO.getEndereco(),
+                pessoaDTO.getCep(), pessoaDTO.getCidade(),
+                pessoaDTO.getUf() != null && !pessoaDTO.getUf().trim().isEmpty()
+                        ? RegrasValidacao.converterEstado(pessoaDTO.getUf()) : null));
+
+        return atualizacao
+                .filter(linhas -> linhas > 0)
+                .switchIfEmpty(Mono.error(() -> new IdNotFoundException("Pessoa com ID " + id + " não encontrada para atualização!")))
+                .then(pessoaRepository.findById(id))
+                .as(transactionalOperator::transactional)
+                .doOnNext(pessoa -> pessoaSearchIndex.adicionar(paraBusca(pessoa)))
+                .onErrorMap(DataAccessException.class, e -> new ErroServidorException(e.getMessage()));
+    }
+
+    /**
+     * Exclui uma pessoa e os seus contatos na mesma transação, como o cascade do JPA.
+     */
+    public Mono<Void> delete(Long id) {
+        if (id == null) {
+            return Mono.error(new CampoNotNullException("Erro! Campo ID não pode ser nulo."));
+        }
+
+        return pessoaRepository.existsById(id)
+                .filter(Boolean::booleanValue)
+                .switchIfEmpty(Mono.error(() -> new IdNotFoundException("Pessoa com ID " + id + " não encontrada para exclusão")))
+                .then(contatoRepository.deleteByPessoaId(id))
+                .then(pessoaRepository.deleteById(id))
+                .as(transactionalOperator::transactional)
+                .doOnSuccess(linhas -> pessoaSearchIndex.remover(id))
+                .onErrorMap(DataAccessException.class, e -> new ErroServidorException("Erro ao excluir a pessoa: " + e.getMessage()))
+                .then();
+    }
+
+    private Estados converterFiltroUf(String uf) {
+        if (uf == null || uf.isBlank()) {
+            return null;
+        }
+
+        try {
+            return RegrasValidacao.converterEstado(uf);
+        } catch (IllegalArgumentException e) {
+            throw new FormatoInvalidoException("Erro! O campo UF está inválido. Digite um estado brasileiro válido. Exemplo: SP");
+        }
+    }
+
+    private PessoaBuscaDTO paraBusca(PessoaDTO pessoa) {
+        return new PessoaBuscaDTO(pessoa.getId(), pessoa.getNome(), pessoa.getCidade(), pessoa.getUf());
+    }
+}
@@ -1,13 +1,20 @@
 package br.com.taina.repository;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
 import br.com.taina.model.Contato;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface ContatoRepository extends JpaRepository<Contato, Long> {
@@ -15,12 +22,94 @@ public interface ContatoRepository extends JpaRepository<Contato, Long> {
     /**
      * Busca todos os contatos associados a uma pessoa específica.
      * 
+     * O resultado fica no cache de consultas até a próxima alteração na tabela de contatos.
+     * 
      * @param idPessoa A pessoa associada aos contatos.
      * @return Uma lista de contatos associados à pessoa.
      */
 
+	    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	    @Query("SELECT c FROM Contato c WHERE c.pessoa.id = :idPessoa")
 	    List<Contato> findContatosPessoaById(@Param("idPessoa") Long Id);
-	
-}
 
+	    /**
+	     * Busca os dados de um contato pelo ID, selecionando apenas as colunas do {@link ContatoDTO}.
+	     *
+	     * @param id O ID do contato.
+	     * @return Um Optional com o DTO do contato, vazio se ele não existir.
+	     */
+	    @Query("SELECT new br.com.taina.dto.ContatoDTO(c.id, c.tipoContato, c.contato, c.pessoa.id) "
+	            + "FROM Contato c WHERE c.id = :id")
+	    Optional<ContatoDTO> findDTOById(@Param("id") Long id);
+
+	    /**
+	     * Busca os dados de todos os contatos de uma pessoa, selecionando apenas as colunas do {@link ContatoDTO}.
+	     * O ID da pessoa é lido da própria chave estrangeira, sem join com a tabela de pessoas.
+	     * O resultado fica no cache de consultas até a próxima alteração na tabela de contatos.
+	     *
+	     * @param idPessoa O ID da pessoa associada aos contatos.
+	     * @return Uma lista de DTOs dos contatos da pessoa, ordenada pelo ID.
+	     */
+	    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	    @Query("SELECT new br.com.taina.dto.ContatoDTO(c.id, c.tipoContato, c.contato, c.pessoa.id) "
+	            + "FROM Contato c WHERE c.pessoa.id = :idPessoa ORDER BY c.id")
+	    List<ContatoDTO> findDTOsByPessoaId(@Param("idPessoa") Long idPessoa);
+
+	    /**
+	     * Busca o ID e a versão de cada contato de uma pessoa, usados para calcular o ETag da lista sem carregar os contatos.
+	     * O resultado fica no cache de consultas até a próxima alteração na tabela de contatos.
+	     *
+	     * @param idPessoa O ID da pessoa.
+	     * @return Linhas com o ID e a versão de cada contato, ordenadas pelo ID.
+	     */
+	    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	    @Query("SELECT c.id, c.versao FROM Contato c WHERE c.pessoa.id = :idPessoa ORDER BY c.id")
+	    List<Object[]> findVersoesContatos(@Param("idPessoa") Long idPessoa);
+
+	    /**
+	     * Busca as pessoas donas de um contato pelo valor normalizado, usando o índice da coluna 'contatoNormalizado'.
+	     * O resultado fica no cache de consultas, e as buscas repetidas pelo mesmo valor não consultam o banco
+	     * até a próxima alteração nas tabelas de contatos ou de pessoas.
+	     *
+	     * @param contatoNormalizado O contato já normalizado pelo {@link br.com.taina.validation.NormalizadorContato}.
+	     * @return Uma lista de DTOs das pessoas donas do contato, ordenada pelo ID.
+	     */
+	    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	    @Query("SELECT DISTINCT new br.com.taina.dto.PessoaDTO(p.id, p.nome, p.endereco, p.numeroCasa, p.cep, p.cidade, p.uf) "
+	            + "FROM Contato c JOIN c.pessoa p WHERE c.contatoNormalizado = :contatoNormalizado ORDER BY p.id")
+	    List<PessoaDTO> findPessoasByContatoNormalizado(@Param("contatoNormalizado") String contatoNormalizado);
+
+	    /**
+	     * Busca os contatos cujo valor normalizado é compartilhado por mais de uma pessoa.
+	     * O campo 'contato' dos DTOs retornados contém o valor normalizado.
+	     *
+	     * @return Uma lista de DTOs dos contatos compartilhados, ordenada pelo valor normalizado.
+	     */
+	    @Query("SELECT new br.com.taina.dto.ContatoDTO(c.id, c.tipoContato, c.contatoNormalizado, c.pessoa.id) "
+	            + "FROM Contato c WHERE c.contatoNormalizado IN ("
+	            + "SELECT c2.contatoNormalizado FROM Contato c2 GROUP BY c2.contatoNormalizado "
+	            + "HAVING COUNT(DISTINCT c2.pessoa.id) > 1) "
+	            + "ORDER BY c.contatoNormalizado")
+	    List<ContatoDTO> findContatosCompartilhados();
+
+	    /**
+	     * Move todos os contatos de uma pessoa para outra com um único UPDATE, sem carregar as listas de contatos.
+	     * A versão dos contatos movidos é incrementada, como em uma alteração feita pelo Hibernate.
+	     *
+	     * @param idOrigem O ID da pessoa que perderá os contatos.
+	     * @param idDestino O ID da pessoa que receberá os contatos.
+	     * @return A quantidade de contatos movidos.
+	     */
+	    @Modifying
+	    @Query("UPDATE VERSIONED Contato c SET c.pessoa.id = :idDestino WHERE c.pessoa.id = :idOrigem")
+	    int moverContatos(@Param("idOrigem") Long idOrigem, @Param("idDestino") Long idDestino);
+
+	    /**
+	     * Conta os contatos de cada tipo.
+	     * Usada apenas para carregar os contadores do {@link br.com.taina.service.EstatisticaService} na inicialização.
+	     *
+	     * @return Linhas com o tipo e a quantidade de contatos.
+	     */
+	    @Query("SELECT c.tipoContato, COUNT(c) FROM Contato c GROUP BY c.tipoContato")
+	    List<Object[]> contarPorTipo();
+}
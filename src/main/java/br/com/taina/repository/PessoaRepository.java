@@ -1,10 +1,276 @@
 package br.com.taina.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import br.com.taina.dto.PessoaBuscaDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.dto.PessoaMalaDiretaDTO;
+import br.com.taina.enums.Estados;
 import br.com.taina.model.Pessoa;
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface PessoaRepository extends JpaRepository<Pessoa, Long> {
+
+    // Colunas da mala direta. Cada consulta de segmento filtra primeiro por uma coluna obrigatória, para usar o
+    // índice dela: um filtro opcional no formato "(:param IS NULL OR coluna = :param)" não usa índice
+    String SELECT_MALA_DIRETA = "SELECT new br.com.taina.dto.PessoaMalaDiretaDTO(p.id, p.nome, "
+            + "CONCAT(COALESCE(p.endereco, ''), ' – CEP: ', COALESCE(p.cep, ''), ' – ', "
+            + "COALESCE(p.cidade, ''), ' / ', COALESCE(CAST(p.uf AS String), ''))) "
+            + "FROM Pessoa p ";
+
+    // Colunas do PessoaDTO, usadas nas consultas da listagem paginada
+    String SELECT_PESSOA = "SELECT new br.com.taina.dto.PessoaDTO(p.id, p.nome, p.endereco, p.numeroCasa, p.cep, "
+            + "p.cidade, p.uf) FROM Pessoa p ";
+
+    /**
+     * Busca os dados de uma pessoa pelo ID, selecionando apenas as colunas do {@link PessoaDTO} e a versão,
+     * lida na mesma linha para o ETag.
+     * O resultado fica no cache de consultas até a próxima alteração na tabela de pessoas.
+     *
+     * @param id O ID da pessoa.
+     * @return Um Optional com o DTO da pessoa, vazio se ela não existir.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT new br.com.taina.dto.PessoaDTO(p.id, p.nome, p.endereco, p.numeroCasa, p.cep, p.cidade, p.uf, p.versao) "
+            + "FROM Pessoa p WHERE p.id = :id")
+    Optional<PessoaDTO> findDTOById(@Param("id") Long id);
+
+    /**
+     * Busca apenas a versão de uma pessoa, usada no ETag, sem carregar a entidade.
+     * O resultado fica no cache de consultas até a próxima alteração na tabela de pessoas.
+     *
+     * @param id O ID da pessoa.
+     * @return Um Optional com a versão, vazio se a pessoa não existir.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT p.versao FROM Pessoa p WHERE p.id = :id")
+    Optional<Long> findVersaoById(@Param("id") Long id);
+
+    /**
+     * Busca os dados de mala direta de uma pessoa pelo ID, selecionando apenas as colunas do endereço.
+     *
+     * @param id O ID da pessoa.
+     * @return Um Optional com o DTO de mala direta, vazio se a pessoa não existir.
+     */
+    @Query("SELECT new br.com.taina.dto.PessoaMalaDiretaDTO(p.id, p.nome, p.endereco, p.cep, p.cidade, p.uf) "
+            + "FROM Pessoa p WHERE p.id = :id")
+    Optional<PessoaMalaDiretaDTO> findMalaDiretaById(@Param("id") Long id);
+
+    /**
+     * Busca uma página de pessoas usando paginação por cursor (keyset) sobre o ID.
+     * Como a consulta parte sempre do último ID da página anterior, o custo de qualquer página é o mesmo.
+     *
+     * @param cursor ID do último registro da página anterior (0 para a primeira página).
+     * @param limite Quantidade máxima de registros retornados.
+     * @return Uma lista de DTOs de pessoas ordenada pelo ID.
+     */
+    @Query(SELECT_PESSOA + "WHERE p.id > :cursor ORDER BY p.id")
+    List<PessoaDTO> findPagina(@Param("cursor") Long cursor, Limit limite);
+
+    /**
+     * Busca uma página das pessoas de um estado, usando o índice 'idx_pessoa_uf' (uf, id).
+     * A ordenação repete a UF, que é fixa, para o banco seguir a ordem do índice e parar no limite, sem ordenar
+     * as pessoas do estado: o custo de qualquer página é o mesmo.
+     *
+     * @param cursor ID do último registro da página anterior (0 para a primeira página).
+     * @param uf O estado.
+     * @param limite Quantidade máxima de registros retornados.
+     * @return Uma lista de DTOs de pessoas ordenada pelo ID.
+     */
+    @Query(SELECT_PESSOA + "WHERE p.uf = :uf AND p.id > :cursor ORDER BY p.uf, p.id")
+    List<PessoaDTO> findPaginaPorUf(@Param("cursor") Long cursor, @Param("uf") Estados uf, Limit limite);
+
+    /**
+     * Busca uma página das pessoas de uma cidade de um estado, usando o índice 'idx_pessoa_uf_cidade' (uf, cidade, id).
+     * Como em {@link #findPaginaPorUf}, a ordenação repete as colunas fixas para seguir a ordem do índice.
+     *
+     * @param cursor ID do último registro da página anterior (0 para a primeira página).
+     * @param uf O estado.
+     * @param cidade A cidade.
+     * @param limite Quantidade máxima de registros retornados.
+     * @return Uma lista de DTOs de pessoas ordenada pelo ID.
+     */
+    @Query(SELECT_PESSOA + "WHERE p.uf = :uf AND p.cidade = :cidade AND p.id > :cursor ORDER BY p.uf, p.cidade, p.id")
+    List<PessoaDTO> findPaginaPorUfECidade(@Param("cursor") Long cursor, @Param("uf") Estados uf,
+                                           @Param("cidade") String cidade, Limit limite);
+
+    /**
+     * Busca uma página das pessoas de uma cidade, em qualquer estado, usando o índice 'idx_pessoa_cidade' (cidade, id).
+     * Como em {@link #findPaginaPorUf}, a ordenação repete a cidade para seguir a ordem do índice.
+     *
+     * @param cursor ID do último registro da página anterior (0 para a primeira página).
+     * @param cidade A cidade.
+     * @param limite Quantidade máxima de registros retornados.
+     * @return Uma lista de DTOs de pessoas ordenada pelo ID.
+     */
+    @Query(SELECT_PESSOA + "WHERE p.cidade = :cidade AND p.id > :cursor ORDER BY p.cidade, p.id")
+    List<PessoaDTO> findPaginaPorCidade(@Param("cursor") Long cursor, @Param("cidade") String cidade, Limit limite);
+
+    /**
+     * Conta as pessoas de cada combinação de UF e cidade, incluindo UF ou cidade nulas.
+     * Usada apenas para carregar os contadores do {@link br.com.taina.service.EstatisticaService} na inicialização.
+     *
+     * @return Linhas com a UF, a cidade e a quantidade de pessoas.
+     */
+    @Query("SELECT p.uf, p.cidade, COUNT(p) FROM Pessoa p GROUP BY p.uf, p.cidade")
+    List<Object[]> contarPorUfECidade();
+
+    /**
+     * Busca, entre os IDs informados, os que pertencem a pessoas cadastradas, sem carregar as pessoas.
+     * Usada pela gravação assíncrona de contatos para conferir as pessoas de um lote inteiro em uma consulta.
+     *
+     * @param ids Os IDs das pessoas.
+     * @return Os IDs encontrados.
+     */
+    @Query("SELECT p.id FROM Pessoa p WHERE p.id IN :ids")
+    List<Long> findIdsExistentes(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Busca uma pessoa com os seus contatos em uma única consulta, com LEFT JOIN FETCH.
+     * Os contatos vêm ordenados pelo ID; uma pessoa sem contatos vem com a lista vazia.
+     *
+     * @param id O ID da pessoa.
+     * @return Um Optional com a pessoa e os contatos já carregados, vazio se ela não existir.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT p FROM Pessoa p LEFT JOIN FETCH p.contatos c WHERE p.id = :id ORDER BY c.id")
+    Optional<Pessoa> findComContatosById(@Param("id") Long id);
+
+    /**
+     * Percorre todas as pessoas, com os seus contatos, em um único cursor somente leitura.
+     * Os registros são lidos do banco aos poucos, de acordo com o fetch size do JDBC, e por isso
+     * o {@link Stream} deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * As pessoas lidas não são gravadas no cache de segundo nível, para a exportação não expulsar os registros mais acessados.
+     *
+     * @return Um stream de pessoas ordenado pelo ID, com os contatos já carregados.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("SELECT p FROM Pessoa p LEFT JOIN FETCH p.contatos ORDER BY p.id")
+    Stream<Pessoa> streamAllComContatos();
+
+    /**
+     * Percorre os dados de mala direta de todas as pessoas. A string 'malaDireta' é montada pelo próprio banco,
+     * e campos nulos viram texto vazio. O {@link Stream} deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @return Um stream de DTOs de mala direta ordenado pelo ID.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_MALA_DIRETA + "ORDER BY p.id")
+    Stream<PessoaMalaDiretaDTO> streamMalaDireta();
+
+    /**
+     * Percorre os dados de mala direta das pessoas de um estado, usando o índice 'idx_pessoa_uf_cidade'.
+     * Filtra opcionalmente por cidade e prefixo do CEP.
+     * O {@link Stream} deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @param uf O estado.
+     * @param cidade Filtro opcional por cidade.
+     * @param prefixoCep Filtro opcional pelo início do CEP.
+     * @return Um stream de DTOs de mala direta ordenado pelo ID.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_MALA_DIRETA + "WHERE p.uf = :uf "
+            + "AND (:cidade IS NULL OR p.cidade = :cidade) "
+            + "AND (:prefixoCep IS NULL OR p.cep LIKE CONCAT(:prefixoCep, '%')) "
+            + "ORDER BY p.id")
+    Stream<PessoaMalaDiretaDTO> streamMalaDiretaPorUf(@Param("uf") Estados uf, @Param("cidade") String cidade,
+                                                      @Param("prefixoCep") String prefixoCep);
+
+    /**
+     * Percorre os dados de mala direta das pessoas de uma cidade, usando o índice 'idx_pessoa_cidade'.
+     * Filtra opcionalmente pelo prefixo do CEP.
+     * O {@link Stream} deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @param cidade A cidade.
+     * @param prefixoCep Filtro opcional pelo início do CEP.
+     * @return Um stream de DTOs de mala direta ordenado pelo ID.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_MALA_DIRETA + "WHERE p.cidade = :cidade "
+            + "AND (:prefixoCep IS NULL OR p.cep LIKE CONCAT(:prefixoCep, '%')) "
+            + "ORDER BY p.id")
+    Stream<PessoaMalaDiretaDTO> streamMalaDiretaPorCidade(@Param("cidade") String cidade,
+                                                          @Param("prefixoCep") String prefixoCep);
+
+    /**
+     * Percorre os dados de mala direta das pessoas cujo CEP começa com o prefixo, usando o índice 'idx_pessoa_cep'.
+     * O padrão do LIKE chega pronto: com o '%' concatenado na consulta, o H2 não usa o índice.
+     * O {@link Stream} deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @param padraoCep O início do CEP seguido de '%'. Exemplo: "0670%".
+     * @return Um stream de DTOs de mala direta ordenado pelo ID.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_MALA_DIRETA + "WHERE p.cep LIKE :padraoCep ORDER BY p.id")
+    Stream<PessoaMalaDiretaDTO> streamMalaDiretaPorCep(@Param("padraoCep") String padraoCep);
+
+    /**
+     * Percorre todas as pessoas lendo apenas as colunas usadas pelo índice de busca por nome.
+     * O {@link Stream} deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @return Um stream de DTOs de busca ordenado pelo ID.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new br.com.taina.dto.PessoaBuscaDTO(p.id, p.nome, p.cidade, CAST(p.uf AS String)) "
+            + "FROM Pessoa p ORDER BY p.id")
+    Stream<PessoaBuscaDTO> streamBusca();
+
+    /**
+     * Percorre todas as pessoas, selecionando apenas as colunas do {@link PessoaDTO}.
+     * O {@link Stream} deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @return Um stream de DTOs de pessoas ordenado pelo ID.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new br.com.taina.dto.PessoaDTO(p.id, p.nome, p.endereco, p.numeroCasa, p.cep, p.cidade, p.uf) "
+            + "FROM Pessoa p ORDER BY p.id")
+    Stream<PessoaDTO> streamTodas();
+
+    /**
+     * Exclui uma pessoa com um único DELETE, sem carregar a pessoa nem os seus contatos.
+     * Os contatos devem ter sido movidos ou excluídos antes.
+     *
+     * @param id O ID da pessoa a ser excluída.
+     * @return A quantidade de pessoas excluídas (0 ou 1).
+     */
+    @Modifying
+    @Query("DELETE FROM Pessoa p WHERE p.id = :id")
+    int excluirPorId(@Param("id") Long id);
 }
@@ -0,0 +1,216 @@
+package br.com.taina.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.taina.dto.PessoaBuscaDTO;
+import br.com.taina.repository.PessoaRepository;
+
+/**
+ * Índice em memória para a busca de pessoas por prefixo do nome, sem diferenciar acentos nem maiúsculas.
+ *
+ * <p>Cada palavra do nome é normalizada (sem acentos e em minúsculas) e guardada em um mapa ordenado, que aponta para
+ * os IDs das pessoas que a possuem. A busca por prefixo é então uma faixa desse mapa. O índice é carregado do banco
+ * antes da aplicação começar a receber requisições e é atualizado pelo {@link br.com.taina.service.PessoaService}
+ * a cada cadastro, alteração e exclusão.</p>
+ *
+ * <p>As leituras não usam lock. As escritas são serializadas por um {@link ReentrantLock} para manter o mapa de
+ * palavras e o mapa de pessoas consistentes. O lock é usado no lugar de {@code synchronized} porque uma virtual thread
+ * esperando por um monitor prende a thread da plataforma que a executa.</p>
+ */
+@Component
+public class PessoaSearchIndex implements SmartInitializingSingleton {
+
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // Palavra normalizada -> IDs das pessoas que têm essa palavra no nome
+    private final ConcurrentSkipListMap<String, Set<Long>> palavras = new ConcurrentSkipListMap<>();
+
+    private final Map<Long, Entrada> pessoas = new ConcurrentHashMap<>();
+
+    private final ReentrantLock escrita = new ReentrantLock();
+
+    @Autowired
+    PessoaRepository pessoaRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    private record Entrada(PessoaBuscaDTO pessoa, String nomeNormalizado, String cidadeNormalizada, List<String> palavras) {
+    }
+
+    /**
+     * Carrega todas as pessoas do banco de dados no índice, lendo apenas as colunas usadas na busca.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<PessoaBuscaDTO> todas = pessoaRepository.streamBusca()) {
+                todas.forEach(this::adicionar);
+            }
+        });
+    }
+
+    /**
+     * Adiciona uma pessoa ao índice ou substitui os dados já indexados dela.
+     *
+     * @param pessoa Os dados da pessoa a serem indexados.
+     */
+    public void adicionar(PessoaBuscaDTO pessoa) {
+        String nomeNormalizado = normalizar(pessoa.nome());
+        List<String> palavrasDoNome = separarPalavras(nomeNormalizado);
+        Entrada entrada = new Entrada(pessoa, nomeNormalizado, normalizar(pessoa.cidade()), palavrasDoNome);
+
+        escrita.lock();
+        try {
+            remover(pessoa.id());
+
+            pessoas.put(pessoa.id(), entrada);
+            for (String palavra : palavrasDoNome) {
+                palavras.computeIfAbsent(palavra, chave -> ConcurrentHashMap.newKeySet()).add(pessoa.id());
+            }
+        } finally {
+            escrita.unlock();
+        }
+    }
+
+    /**
+     * Remove uma pessoa do índice. Não faz nada se ela não estiver indexada.
+     *
+     * @param id O ID da pessoa a ser removida.
+     */
+    public void remover(Long id) {
+        escrita.lock();
+        try {
+            Entrada entrada = pessoas.remove(id);
+            if (entrada == null) {
+                return;
+            }
+
+            for (String palavra : entrada.palavras()) {
+                Set<Long> ids = palavras.get(palavra);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        palavras.remove(palavra);
+                    }
+                }
+            }
+        } finally {
+            escrita.unlock();
+        }
+    }
+
+    /**
+     * Busca pessoas cujo nome tenha palavras começando com cada uma das palavras do texto buscado, em qualquer ordem.
+     * Por exemplo, "jo sil" encontra "João da Silva". Opcionalmente, filtra pelo início do nome da cidade.
+     *
+     * <p>Apenas a palavra mais longa do texto é procurada no mapa ordenado, pois é a mais seletiva. As demais são
+     * conferidas nas palavras de cada candidato, e a busca termina assim que o limite de resultados é atingido.</p>
+     *
+     * @param texto O texto buscado.
+     * @param cidade Filtro opcional pelo início do nome da cidade.
+     * @param limite Quantidade máxima de resultados.
+     * @return Lista de pessoas encontradas, em ordem alfabética da palavra encontrada.
+     */
+    public List<PessoaBuscaDTO> buscar(String texto, String cidade, int limite) {
+        List<String> termos = separarPalavras(normalizar(texto));
+        if (termos.isEmpty() || limite <= 0) {
+            return Collections.emptyList();
+        }
+
+        String termoPrincipal = termos.get(0);
+        for (String termo : termos) {
+            if (termo.length() > termoPrincipal.length()) {
+                termoPrincipal = termo;
+            }
+        }
+        String prefixoCidade = cidade == null || cidade.isBlank() ? null : normalizar(cidade);
+
+        NavigableMap<String, Set<Long>> faixa = palavras.subMap(termoPrincipal, true, termoPrincipal + Character.MAX_VALUE, false);
+        Set<Long> encontrados = new HashSet<>();
+        List<PessoaBuscaDTO> resultado = new ArrayList<>(Math.min(limite, 16));
+
+        for (Set<Long> ids : faixa.values()) {
+            for (Long id : ids) {
+                Entrada entrada = pessoas.get(id);
+                if (entrada != null && encontrados.add(id) && contemTodos(entrada, termos)
+                        && (prefixoCidade == null || entrada.cidadeNormalizada().startsWith(prefixoCidade))) {
+                    resultado.add(entrada.pessoa());
+                    if (resultado.size() == limite) {
+                        return resultado;
+                    }
+                }
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * @return A quantidade de pessoas no índice.
+     */
+    public int tamanho() {
+        return pessoas.size();
+    }
+
+    private boolean contemTodos(Entrada entrada, List<String> termos) {
+        for (String termo : termos) {
+            boolean encontrado = false;
+            for (String palavra : entrada.palavras()) {
+                if (palavra.startsWith(termo)) {
+                    encontrado = true;
+                    break;
+                }
+            }
+            if (!encontrado) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Remove os acentos e converte para minúsculas, para que "JOSÉ", "josé" e "jose" sejam iguais no índice.
+     * Cobre todos os acentos aceitos pelo {@link br.com.taina.validation.AllowsOnlyLettersAndSpacesValidation},
+     * inclusive o ç.
+     *
+     * @param texto O texto a ser normalizado.
+     * @return O texto normalizado, ou uma string vazia se o texto for nulo.
+     */
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String semAcentos = ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return semAcentos.toLowerCase(Locale.ROOT).trim();
+    }
+
+    private static List<String> separarPalavras(String textoNormalizado) {
+        if (textoNormalizado.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(SEPARADORES.split(textoNormalizado))
+                .filter(palavra -> !palavra.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,82 @@
+package br.com.taina.search;
+
+/**
+ * Medidas de similaridade entre textos, usadas na detecção de pessoas duplicadas.
+ */
+public final class Similaridade {
+
+    // Peso do prefixo em comum e tamanho máximo do prefixo considerado, valores padrão do Jaro-Winkler
+    private static final double PESO_PREFIXO = 0.1;
+    private static final int TAMANHO_MAXIMO_PREFIXO = 4;
+
+    private Similaridade() {}
+
+    /**
+     * Calcula a similaridade de Jaro-Winkler entre dois textos. O resultado vai de 0 (nada em comum) a 1 (iguais),
+     * e textos que começam da mesma forma recebem uma nota maior, o que funciona bem para nomes de pessoas.
+     *
+     * @param primeiro O primeiro texto, já normalizado.
+     * @param segundo O segundo texto, já normalizado.
+     * @return A similaridade entre os dois textos, de 0 a 1.
+     */
+    public static double jaroWinkler(String primeiro, String segundo) {
+        double jaro = jaro(primeiro, segundo);
+
+        int prefixo = 0;
+        int limitePrefixo = Math.min(TAMANHO_MAXIMO_PREFIXO, Math.min(primeiro.length(), segundo.length()));
+        while (prefixo < limitePrefixo && primeiro.charAt(prefixo) == segundo.charAt(prefixo)) {
+            prefixo++;
+        }
+
+        return jaro + prefixo * PESO_PREFIXO * (1 - jaro);
+    }
+
+    private static double jaro(String primeiro, String segundo) {
+        if (primeiro.equals(segundo)) {
+            return 1;
+        }
+        if (primeiro.isEmpty() || segundo.isEmpty()) {
+            return 0;
+        }
+
+        int distanciaMaxima = Math.max(0, Math.max(primeiro.length(), segundo.length()) / 2 - 1);
+        boolean[] encontradosPrimeiro = new boolean[primeiro.length()];
+        boolean[] encontradosSegundo = new boolean[segundo.length()];
+
+        int coincidencias = 0;
+        for (int i = 0; i < primeiro.length(); i++) {
+            int inicio = Math.max(0, i - distanciaMaxima);
+            int fim = Math.min(segundo.length(), i + distanciaMaxima + 1);
+            for (int j = inicio; j < fim; j++) {
+                if (!encontradosSegundo[j] && primeiro.charAt(i) == segundo.charAt(j)) {
+                    encontradosPrimeiro[i] = true;
+                    encontradosSegundo[j] = true;
+                    coincidencias++;
+                    break;
+                }
+            }
+        }
+
+        if (coincidencias == 0) {
+            return 0;
+        }
+
+        // Metade das coincidências que aparecem fora de ordem
+        int transposicoes = 0;
+        int j = 0;
+        for (int i = 0; i < primeiro.length(); i++) {
+            if (encontradosPrimeiro[i]) {
+                while (!encontradosSegundo[j]) {
+                    j++;
+                }
+                if (primeiro.charAt(i) != segundo.charAt(j)) {
+                    transposicoes++;
+                }
+                j++;
+            }
+        }
+
+        double m = coincidencias;
+        return (m / primeiro.length() + m / segundo.length() + (m - transposicoes / 2.0) / m) / 3;
+    }
+}
@@ -0,0 +1,87 @@
+package br.com.taina.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import br.com.taina.configuration.CacheConfig;
+import br.com.taina.dto.CacheEstatisticaDTO;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Serviço responsável pelo cache de segundo nível do Hibernate: remoção de itens que o Hibernate não invalida
+ * sozinho e consulta dos contadores de cada região.
+ */
+@Service
+public class CacheService {
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    CacheManager cacheManagerHibernate;
+
+    /**
+     * Remove do cache a lista de contatos de uma pessoa.
+     *
+     * A lista de contatos é o lado inverso do relacionamento, então incluir ou excluir um contato pelo
+     * {@link br.com.taina.repository.ContatoRepository} não invalida essa coleção no cache. Dentro de uma transação,
+     * a remoção acontece depois do commit, para que nenhuma leitura concorrente grave a lista antiga de volta.
+     *
+     * @param idPessoa O ID da pessoa dona da lista de contatos.
+     */
+    public void evictContatosDaPessoa(Long idPessoa) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removerContatosDaPessoa(idPessoa);
+                }
+            });
+        } else {
+            removerContatosDaPessoa(idPessoa);
+        }
+    }
+
+    private void removerContatosDaPessoa(Long idPessoa) {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache()
+                .evictCollectionData(CacheConfig.REGIAO_CONTATOS_DA_PESSOA, idPessoa);
+    }
+
+    /**
+     * Retorna os contadores de acertos, falhas, inserções e remoções de cada região do cache.
+     *
+     * @return Uma lista com as estatísticas de cada região.
+     */
+    public List<CacheEstatisticaDTO> estatisticas() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<CacheEstatisticaDTO> estatisticas = new ArrayList<>(CacheConfig.REGIOES.size());
+
+        for (String regiao : CacheConfig.REGIOES) {
+            CacheRegionStatistics regiaoStatistics = statistics.getCacheRegionStatistics(regiao);
+            Cache<?, ?> cache = cacheManagerHibernate.getCache(regiao).unwrap(Cache.class);
+            CacheStats cacheStats = cache.stats();
+
+            estatisticas.add(new CacheEstatisticaDTO(regiao,
+                    regiaoStatistics != null ? regiaoStatistics.getHitCount() : 0,
+                    regiaoStatistics != null ? regiaoStatistics.getMissCount() : 0,
+                    regiaoStatistics != null ? regiaoStatistics.getPutCount() : 0,
+                    cacheStats.evictionCount(),
+                    cache.estimatedSize()));
+        }
+
+        return estatisticas;
+    }
+}
@@ -1,22 +1,37 @@
 package br.com.taina.service;
 
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.annotation.Timed;
 
 import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
 import br.com.taina.enums.TipoContato;
 import br.com.taina.exception.ErroServidorException;
+import br.com.taina.exception.FormatoInvalidoException;
 import br.com.taina.exception.IdNotFoundException;
 import br.com.taina.exception.NadaParaListarException;
 import br.com.taina.exception.CampoNotNullException;
+import br.com.taina.exception.VersaoDesatualizadaException;
 import br.com.taina.model.Contato;
 import br.com.taina.model.Pessoa;
 import br.com.taina.repository.ContatoRepository;
 import br.com.taina.repository.PessoaRepository;
 import br.com.taina.validation.ContatoValidation;
+import br.com.taina.validation.LoteValidation;
+import br.com.taina.validation.NormalizadorContato;
+import br.com.taina.validation.RegrasValidacao;
 
 /**
  * Serviço responsável por gerenciar as regras de negócio relacionadas a entidade {@link Contato}.
@@ -28,6 +43,7 @@ import br.com.taina.validation.ContatoValidation;
  * e realiza o tratamento de exceções específicas do pacote {@link br.com.taina.exception}.</p>
  */
 @Service
+@Timed(value = "servico", description = "Tempo de execução dos métodos dos services")
 public class ContatoService {
     
     @Autowired
@@ -38,55 +54,126 @@ public class ContatoService {
     
     @Autowired
     ContatoValidation contatoValidation;
+
+    @Autowired
+    LoteValidation loteValidation;
+
+    @Autowired
+    CacheService cacheService;
+
+    @Autowired
+    EstatisticaService estatisticaService;
+
+    // Listagens de contatos em andamento, por ID da pessoa
+    private final SingleFlight<Long, List<ContatoDTO>> consultasContatos = new SingleFlight<>();
     
     /**
      * Salva um novo contato, associando-o a uma pessoa existente.
+     *
+     * A pessoa é conferida com uma consulta de existência e usada apenas como referência (proxy), sem carregar os
+     * seus dados nem a lista de contatos: a gravação custa um SELECT e um INSERT, na mesma transação.
      * 
      * @param contatoDTO O contato a ser salvo.
      * @return O contato salvo no banco de dados.
      */
+    @Transactional
     public ContatoDTO save(ContatoDTO contatoDTO) {  
     	
     	if (contatoDTO.getIdPessoa() == null) {
             throw new CampoNotNullException("Erro! O idPessoa não pode ser nulo. Insira um id válido!");
         }
-    	
-        Pessoa pessoa = pessoaRepository.findById(contatoDTO.getIdPessoa())
-                .orElseThrow(() -> new IdNotFoundException("Pessoa com ID " + contatoDTO.getIdPessoa() + " não encontrada"));
+
+        if (!pessoaRepository.existsById(contatoDTO.getIdPessoa())) {
+            throw new IdNotFoundException("Pessoa com ID " + contatoDTO.getIdPessoa() + " não encontrada");
+        }
 
         contatoValidation.validarContato(contatoDTO);
         
         Contato novoContato = new Contato();
-        novoContato.setTipoContato(TipoContato.valueOf(contatoDTO.getTipoContato().trim().toUpperCase()));
+        novoContato.setTipoContato(RegrasValidacao.converterTipoContato(contatoDTO.getTipoContato()));
         novoContato.setContato(contatoDTO.getContato());
-        novoContato.setPessoa(pessoa);
-        pessoa.getContatos().add(novoContato);
+        novoContato.setPessoa(pessoaRepository.getReferenceById(contatoDTO.getIdPessoa()));
 
         try {
             novoContato = contatoRepository.save(novoContato);
-            pessoaRepository.save(pessoa);
-            return new ContatoDTO(novoContato.getId(), novoContato.getTipoContato().name(), novoContato.getContato(), novoContato.getPessoa().getId());
+            contatoRepository.flush();
+            cacheService.evictContatosDaPessoa(contatoDTO.getIdPessoa());
+            consultasContatos.esquecer(contatoDTO.getIdPessoa());
+            estatisticaService.adicionarContatos(List.of(novoContato.getTipoContato()));
+            return new ContatoDTO(novoContato);
         } catch (Exception e) {
             throw new ErroServidorException(e.getMessage());
         }
             }
 
+    /**
+     * Salva vários contatos de uma só vez, associando todos a uma mesma pessoa existente.
+     *
+     * Todos os contatos são validados antes da gravação pela classe {@link LoteValidation}. A pessoa é usada apenas
+     * como referência (proxy), sem carregar os seus dados nem a lista de contatos já existente, e os inserts
+     * são enviados ao banco em JDBC batch. A lista de contatos da pessoa em cache é removida depois do commit.
+     *
+     * @param idPessoa O ID da pessoa que receberá os contatos.
+     * @param contatosDTO Os contatos a serem salvos.
+     * @return Os contatos salvos no banco de dados, na mesma ordem recebida.
+     */
+    @Transactional
+    public List<ContatoDTO> saveLote(Long idPessoa, List<ContatoDTO> contatosDTO) {
+        if (idPessoa == null) {
+            throw new CampoNotNullException("Erro! O idPessoa não pode ser nulo. Insira um id válido!");
+        }
+
+        if (contatosDTO == null || contatosDTO.isEmpty()) {
+            throw new CampoNotNullException("Erro! A lista de contatos não pode ser nula ou vazia.");
+        }
+
+        loteValidation.validarContatos(contatosDTO);
+
+        if (!pessoaRepository.existsById(idPessoa)) {
+            throw new IdNotFoundException("Pessoa com ID " + idPessoa + " não encontrada");
+        }
+
+        Pessoa pessoa = pessoaRepository.getReferenceById(idPessoa);
+        List<Contato> novosContatos = new ArrayList<>(contatosDTO.size());
+
+        for (ContatoDTO contatoDTO : contatosDTO) {
+            Contato novoContato = new Contato();
+            novoContato.setTipoContato(RegrasValidacao.converterTipoContato(contatoDTO.getTipoContato()));
+            novoContato.setContato(contatoDTO.getContato());
+            novoContato.setPessoa(pessoa);
+            novosContatos.add(novoContato);
+        }
+
+        try {
+            contatoRepository.saveAll(novosContatos);
+            // Envia o JDBC batch aqui, e não no commit, para que uma falha nos inserts seja tratada abaixo
+            contatoRepository.flush();
+            cacheService.evictContatosDaPessoa(idPessoa);
+            consultasContatos.esquecer(idPessoa);
+            estatisticaService.adicionarContatos(novosContatos.stream().map(Contato::getTipoContato).toList());
+            return novosContatos.stream()
+                    .map(contato -> new ContatoDTO(contato.getId(), contato.getTipoContato().name(), contato.getContato(), idPessoa))
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            throw new ErroServidorException(e.getMessage());
+        }
+    }
+
     /**
      * Busca um contato pelo ID e retorna um DTO com os dados do contato.
      * 
      * @param id O ID do contato a ser buscado.
      * @return O DTO contendo os dados do contato.
      */
+    @Transactional(readOnly = true)
     public ContatoDTO findById(Long id) {
         if (id == null) {
             throw new CampoNotNullException("Erro! Campo ID não pode ser nulo.");
         }
 
         try {
-            Contato contato = contatoRepository.findById(id)
+            return contatoRepository.findDTOById(id)
                     .orElseThrow(() -> new IdNotFoundException("Contato com ID " + id + " não encontrado"));
-
-            return new ContatoDTO(contato.getId(), contato.getTipoContato().name(), contato.getContato(), contato.getPessoa().getId());
         }catch (IdNotFoundException e) {
             throw new IdNotFoundException(e.getMessage());
         } catch (Exception e) {
@@ -95,8 +182,44 @@ public class ContatoService {
     }
 
 
+    /**
+     * Calcula a versão da lista de contatos de uma pessoa, usada no ETag da listagem, sem carregar os contatos.
+     * A versão é um resumo SHA-256 dos pares (ID, versão) dos contatos, em ordem de ID: muda quando um contato
+     * é adicionado, removido, alterado ou movido de/para outra pessoa.
+     *
+     * @param idPessoa O ID da pessoa.
+     * @return A versão da lista, ou nulo se a pessoa não tiver contatos.
+     */
+    public String findVersaoContatos(Long idPessoa) {
+        if (idPessoa == null) {
+            throw new CampoNotNullException("Erro! O ID da pessoa não pode ser nulo.");
+        }
+        List<Object[]> versoes = contatoRepository.findVersoesContatos(idPessoa);
+        if (versoes.isEmpty()) {
+            return null;
+        }
+        MessageDigest resumo;
+        try {
+            resumo = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new ErroServidorException(e.getMessage());
+        }
+        ByteBuffer par = ByteBuffer.allocate(2 * Long.BYTES);
+        for (Object[] versao : versoes) {
+            par.clear();
+            par.putLong((Long) versao[0]).putLong((Long) versao[1]);
+            resumo.update(par.array());
+        }
+        // 128 bits bastam para o ETag não se repetir entre duas listas diferentes
+        return HexFormat.of().formatHex(resumo.digest(), 0, 16);
+    }
+
+
     /**
      * Busca todos os contatos associados a uma pessoa específica.
+     *
+     * Requisições simultâneas para a mesma pessoa compartilham uma única consulta ao banco ({@link SingleFlight}).
+     * Sem transação: quem espera o resultado de outra requisição não ocupa uma conexão.
      * 
      * @param idPessoa O ID da pessoa a ser buscada.
      * @return Lista de DTOs de contatos associados à pessoa.
@@ -106,19 +229,35 @@ public class ContatoService {
             throw new CampoNotNullException("Erro! Campo ID não pode ser nulo.");
         }
 
-        pessoaRepository.findById(idPessoa)
-                .orElseThrow(() -> new IdNotFoundException("Pessoa com ID " + idPessoa + " não encontrada"));
+        return consultasContatos.executar(idPessoa, () -> consultarContatos(idPessoa));
+    }
+
+    /**
+     * Libera a listagem em andamento dos contatos de uma pessoa, para que as próximas chamadas consultem o banco.
+     * Usado por quem altera os contatos fora deste serviço, como a mescla de pessoas e a gravação assíncrona.
+     * Dentro de uma transação, a listagem só é liberada depois do commit.
+     *
+     * @param idPessoa O ID da pessoa cujos contatos foram alterados.
+     */
+    void esquecerContatos(Long idPessoa) {
+        consultasContatos.esquecer(idPessoa);
+    }
 
+    private List<ContatoDTO> consultarContatos(Long idPessoa) {
         try {
-            List<ContatoDTO> contatos = contatoRepository.findContatosPessoaById(idPessoa).stream()
-                    .map(contato -> new ContatoDTO(contato.getId(), contato.getTipoContato().name(), contato.getContato(), contato.getPessoa().getId()))
-                    .collect(Collectors.toList());
+            List<ContatoDTO> contatos = contatoRepository.findDTOsByPessoaId(idPessoa);
 
+            // A existência da pessoa só precisa ser consultada quando nenhum contato é encontrado
             if (contatos.isEmpty()) {
+                if (!pessoaRepository.existsById(idPessoa)) {
+                    throw new IdNotFoundException("Pessoa com ID " + idPessoa + " não encontrada");
+                }
                 throw new NadaParaListarException("Nenhum contato encontrado para a pessoa com ID " + idPessoa);
             }
 
             return contatos;
+        } catch (IdNotFoundException e) {
+            throw new IdNotFoundException(e.getMessage());
         } catch (NadaParaListarException e) {
             throw new NadaParaListarException(e.getMessage()); 
         } catch (Exception e) {
@@ -127,13 +266,57 @@ public class ContatoService {
     }
 
 
+    /**
+     * Busca as pessoas donas de um contato (busca reversa), a partir de um telefone, e-mail ou LinkedIn.
+     *
+     * O valor é normalizado pelo {@link NormalizadorContato}, com as mesmas regras usadas ao gravar os contatos,
+     * então "+55 (11) 97451-0710" encontra o contato cadastrado como "11974510710". Se o tipo não for informado,
+     * ele é deduzido do próprio valor.
+     *
+     * @param valor O valor do contato buscado.
+     * @param tipo O tipo do contato (opcional).
+     * @return Lista de DTOs das pessoas donas do contato.
+     */
+    @Transactional(readOnly = true)
+    public List<PessoaDTO> findPessoasByContato(String valor, String tipo) {
+        if (valor == null || valor.isBlank()) {
+            throw new CampoNotNullException("Erro! O valor do contato não pode ser nulo ou vazio.");
+        }
+
+        TipoContato tipoContato;
+        if (tipo == null || tipo.isBlank()) {
+            tipoContato = NormalizadorContato.deduzirTipo(valor);
+        } else {
+            try {
+                tipoContato = RegrasValidacao.converterTipoContato(tipo);
+            } catch (IllegalArgumentException e) {
+                throw new FormatoInvalidoException("Erro! Tipo de contato inválido. Use TELEFONE_FIXO, CELULAR, EMAIL ou LINKEDIN.");
+            }
+        }
+
+        String contatoNormalizado = NormalizadorContato.normalizar(tipoContato, valor);
+        if (contatoNormalizado.isEmpty()) {
+            throw new FormatoInvalidoException("Erro! O valor informado não é um contato válido para o tipo " + tipoContato + ".");
+        }
+
+        List<PessoaDTO> pessoas = contatoRepository.findPessoasByContatoNormalizado(contatoNormalizado);
+        if (pessoas.isEmpty()) {
+            throw new NadaParaListarException("Nenhuma pessoa encontrada com o contato " + valor);
+        }
+        return pessoas;
+    }
+
+
     /**
      * Atualiza as informações de um contato existente.
+     *
+     * O contato é lido e alterado na mesma transação, e o UPDATE grava apenas as colunas alteradas.
      * 
      * @param id O ID do contato a ser atualizado.
      * @param contatoDTO Os novos dados do contato.
      * @return O DTO do contato atualizado.
      */
+    @Transactional
     public ContatoDTO update(Long id, ContatoDTO contatoDTO) {
         if (id == null) {
             throw new CampoNotNullException("Erro! Campo ID não pode ser nulo.");
@@ -143,14 +326,24 @@ public class ContatoService {
                 .orElseThrow(() -> new IdNotFoundException("Contato com ID " + id + " não encontrado"));
         
         contatoValidation.validarContato(contatoDTO);
-        
-        contatoAtualizado.setTipoContato(TipoContato.valueOf(contatoDTO.getTipoContato().trim().toUpperCase()));
+
+        TipoContato tipoAnterior = contatoAtualizado.getTipoContato();
+        contatoAtualizado.setTipoContato(RegrasValidacao.converterTipoContato(contatoDTO.getTipoContato()));
         contatoAtualizado.setContato(contatoDTO.getContato());
 
         try {
             contatoAtualizado = contatoRepository.save(contatoAtualizado);
-            return new ContatoDTO(contatoAtualizado.getId(), contatoAtualizado.getTipoContato().name(), contatoAtualizado.getContato(), contatoAtualizado.getPessoa().getId());
+            // Envia o UPDATE aqui, e não no commit, para o conflito de versão ser tratado abaixo
+            contatoRepository.flush();
+            if (contatoAtualizado.getPessoa() != null) {
+                consultasContatos.esquecer(contatoAtualizado.getPessoa().getId());
+            }
+            estatisticaService.alterarContato(tipoAnterior, contatoAtualizado.getTipoContato());
+            return new ContatoDTO(contatoAtualizado);
 
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new VersaoDesatualizadaException("Erro! O contato com ID " + id
+                    + " foi alterado por outra requisição durante a atualização. Consulte o contato novamente.");
         } catch (Exception e) {
             throw new ErroServidorException(e.getMessage());
         }
@@ -159,19 +352,29 @@ public class ContatoService {
 
     /**
      * Deleta um contato do banco de dados pelo ID.
+     *
+     * Na mesma transação, o deleteById encontra o contato já carregado pelo findById, e a exclusão custa apenas
+     * um SELECT e um DELETE.
      * 
      * @param id O ID do contato a ser deletado.
      */
+    @Transactional
     public void delete(Long id) {
         if (id == null) {
             throw new CampoNotNullException("Erro! Campo ID não pode ser nulo.");
         }
         
-        contatoRepository.findById(id)
+        Contato contato = contatoRepository.findById(id)
                 .orElseThrow(() -> new IdNotFoundException("Contato com ID " + id + " não encontrado para exclusão."));
         
         try {
             contatoRepository.deleteById(id);
+            contatoRepository.flush();
+            estatisticaService.removerContato(contato.getTipoContato());
+            if (contato.getPessoa() != null) {
+                cacheService.evictContatosDaPessoa(contato.getPessoa().getId());
+                consultasContatos.esquecer(contato.getPessoa().getId());
+            }
         } catch (Exception e) {
             throw new ErroServidorException(e.getMessage());
         }
@@ -0,0 +1,267 @@
+package br.com.taina.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.DuplicataDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.exception.ErroServidorException;
+import br.com.taina.exception.FormatoInvalidoException;
+import br.com.taina.repository.ContatoRepository;
+import br.com.taina.repository.PessoaRepository;
+import br.com.taina.search.PessoaSearchIndex;
+import br.com.taina.search.Similaridade;
+
+/**
+ * Serviço responsável por encontrar pessoas cadastradas mais de uma vez.
+ *
+ * <p>Comparar todas as pessoas entre si custaria O(N²). Por isso as pessoas são primeiro separadas em blocos de
+ * candidatas, que só contêm pessoas com o mesmo CEP, a mesma cidade e UF ou um contato em comum, e a similaridade de
+ * Jaro-Winkler entre os nomes é calculada apenas dentro de cada bloco. Os blocos grandes são divididos pelas primeiras
+ * letras do nome e, se ainda passarem de {@link #TAMANHO_MAXIMO_BLOCO}, comparados por vizinhança na ordem dos nomes,
+ * de modo que nenhum bloco custa mais que O(n × {@link #JANELA_VIZINHANCA}). Os blocos são comparados em paralelo em
+ * um único {@link ForkJoinPool} do serviço, com uma thread por processador e compartilhado pelas buscas simultâneas,
+ * fora da transação que lê as candidatas.</p>
+ */
+@Service
+@Timed(value = "servico", description = "Tempo de execução dos métodos dos services")
+public class DuplicidadeService {
+
+    /** Similaridade mínima entre os nomes quando não é informada. */
+    public static final double SIMILARIDADE_PADRAO = 0.92;
+
+    /**
+     * Menor similaridade aceita. Todos os pares acima do mínimo ficam em memória até a ordenação; com um mínimo baixo,
+     * quase todas as comparações entrariam no resultado.
+     */
+    public static final double SIMILARIDADE_MINIMA = 0.8;
+
+    /** Quantidade de pares retornados quando o limite não é informado. */
+    public static final int LIMITE_PADRAO = 100;
+
+    // Blocos maiores que isso são divididos pelas primeiras letras do nome, para limitar as comparações
+    static final int TAMANHO_MAXIMO_BLOCO = 500;
+    private static final int TAMANHO_MAXIMO_PREFIXO = 4;
+
+    // Um bloco que continua grande mesmo com o prefixo máximo (nomes como "maria" ou "jose" na mesma cidade) é
+    // ordenado pelo nome e cada pessoa é comparada só com as seguintes dentro desta janela (sorted neighbourhood)
+    static final int JANELA_VIZINHANCA = 50;
+
+    @Autowired
+    PessoaRepository pessoaRepository;
+
+    @Autowired
+    ContatoRepository contatoRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    // Compartilhado por todas as buscas: requisições simultâneas disputam as mesmas threads em vez de criar outras
+    private final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    private record Candidato(Long id, String nome, String nomeNormalizado) {
+    }
+
+    // Cada candidato é comparado com os próximos 'janela' candidatos do bloco
+    record Bloco(String criterio, List<Candidato> candidatos, int janela) {
+
+        long comparacoes() {
+            long total = 0;
+            for (int i = 0; i < candidatos.size(); i++) {
+                total += Math.min(janela, candidatos.size() - 1 - i);
+            }
+            return total;
+        }
+    }
+
+    private record Par(long menor, long maior) {
+    }
+
+    private record Semelhanca(Candidato primeiro, Candidato segundo, double similaridade, Set<String> criterios) {
+    }
+
+    /**
+     * Encontra os pares de pessoas que provavelmente são duplicatas.
+     *
+     * @param similaridadeMinima Similaridade mínima entre os nomes, de {@link #SIMILARIDADE_MINIMA} a 1.
+     *                           Se for nula, usa {@link #SIMILARIDADE_PADRAO}.
+     * @param limite Quantidade máxima de pares retornados. Se for nulo, usa {@link #LIMITE_PADRAO}.
+     * @return Lista de pares de pessoas, da maior para a menor similaridade.
+     */
+    public List<DuplicataDTO> encontrarDuplicatas(Double similaridadeMinima, Integer limite) {
+        double minimo = similaridadeMinima == null ? SIMILARIDADE_PADRAO : similaridadeMinima;
+        if (minimo < SIMILARIDADE_MINIMA || minimo > 1) {
+            throw new FormatoInvalidoException("Erro! A similaridade deve estar entre " + SIMILARIDADE_MINIMA + " e 1.");
+        }
+        if (limite != null && limite < 1) {
+            throw new FormatoInvalidoException("Erro! O limite deve ser maior que zero.");
+        }
+
+        // Só a leitura das candidatas usa a transação (e a conexão); a comparação dos nomes é feita fora dela
+        List<Bloco> blocos = transactionTemplate.execute(status -> montarBlocos());
+        Map<Par, Semelhanca> semelhancas = compararEmParalelo(blocos, minimo);
+
+        return semelhancas.values().stream()
+                .sorted(Comparator.comparingDouble(Semelhanca::similaridade).reversed()
+                        .thenComparing(semelhanca -> semelhanca.primeiro().id()))
+                .limit(limite == null ? LIMITE_PADRAO : limite)
+                .map(semelhanca -> new DuplicataDTO(semelhanca.primeiro().id(), semelhanca.primeiro().nome(),
+                        semelhanca.segundo().id(), semelhanca.segundo().nome(),
+                        semelhanca.similaridade(), List.copyOf(semelhanca.criterios())))
+                .toList();
+    }
+
+    List<Bloco> montarBlocos() {
+        Map<String, List<Candidato>> porCep = new HashMap<>();
+        Map<String, List<Candidato>> porCidade = new HashMap<>();
+        Map<Long, Candidato> porId = new HashMap<>();
+
+        try (Stream<PessoaDTO> pessoas = pessoaRepository.streamTodas()) {
+            pessoas.forEach(pessoa -> {
+                Candidato candidato = new Candidato(pessoa.getId(), pessoa.getNome(), PessoaSearchIndex.normalizar(pessoa.getNome()));
+                porId.put(candidato.id(), candidato);
+
+                if (pessoa.getCep() != null && !pessoa.getCep().isBlank()) {
+                    porCep.computeIfAbsent(pessoa.getCep().trim(), chave -> new ArrayList<>()).add(candidato);
+                }
+                if (pessoa.getCidade() != null && pessoa.getUf() != null) {
+                    String chave = PessoaSearchIndex.normalizar(pessoa.getCidade()) + "/" + pessoa.getUf();
+                    porCidade.computeIfAbsent(chave, valor -> new ArrayList<>()).add(candidato);
+                }
+            });
+        }
+
+        Map<String, List<Candidato>> porContato = new HashMap<>();
+        for (ContatoDTO contato : contatoRepository.findContatosCompartilhados()) {
+            Candidato candidato = porId.get(contato.getIdPessoa());
+            if (candidato != null) {
+                porContato.computeIfAbsent(contato.getContato(), chave -> new ArrayList<>()).add(candidato);
+            }
+        }
+
+        List<Bloco> blocos = new ArrayList<>();
+        adicionarBlocos(blocos, "CEP", porCep);
+        adicionarBlocos(blocos, "CIDADE_UF", porCidade);
+        adicionarBlocos(blocos, "CONTATO", porContato);
+
+        // Os blocos com mais comparações começam primeiro, para distribuir melhor o trabalho entre as threads
+        blocos.sort(Comparator.comparingLong(Bloco::comparacoes).reversed());
+        return blocos;
+    }
+
+    private void adicionarBlocos(List<Bloco> blocos, String criterio, Map<String, List<Candidato>> porChave) {
+        for (List<Candidato> candidatos : porChave.values()) {
+            dividirBloco(blocos, criterio, candidatos, 1);
+        }
+    }
+
+    private void dividirBloco(List<Bloco> blocos, String criterio, List<Candidato> candidatos, int tamanhoPrefixo) {
+        if (candidatos.size() < 2) {
+            return;
+        }
+        if (candidatos.size() <= TAMANHO_MAXIMO_BLOCO) {
+            blocos.add(new Bloco(criterio, candidatos, candidatos.size()));
+            return;
+        }
+        if (tamanhoPrefixo > TAMANHO_MAXIMO_PREFIXO) {
+            List<Candidato> ordenados = new ArrayList<>(candidatos);
+            ordenados.sort(Comparator.comparing(Candidato::nomeNormalizado));
+            blocos.add(new Bloco(criterio, ordenados, JANELA_VIZINHANCA));
+            return;
+        }
+
+        Map<String, List<Candidato>> porPrefixo = new HashMap<>();
+        for (Candidato candidato : candidatos) {
+            String nome = candidato.nomeNormalizado();
+            porPrefixo.computeIfAbsent(nome.substring(0, Math.min(tamanhoPrefixo, nome.length())), chave -> new ArrayList<>())
+                    .add(candidato);
+        }
+        for (List<Candidato> subBloco : porPrefixo.values()) {
+            dividirBloco(blocos, criterio, subBloco, tamanhoPrefixo + 1);
+        }
+    }
+
+    private Map<Par, Semelhanca> compararEmParalelo(List<Bloco> blocos, double minimo) {
+        Map<Par, Semelhanca> semelhancas = new ConcurrentHashMap<>();
+        List<Callable<Void>> tarefas = new ArrayList<>(blocos.size());
+        for (Bloco bloco : blocos) {
+            tarefas.add(() -> {
+                compararBloco(bloco, minimo, semelhancas);
+                return null;
+            });
+        }
+
+        try {
+            for (Future<Void> tarefa : pool.invokeAll(tarefas)) {
+                tarefa.get();
+            }
+            return semelhancas;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ErroServidorException("Erro! A busca de duplicatas foi interrompida.");
+        } catch (ExecutionException e) {
+            throw new ErroServidorException("Erro ao buscar duplicatas: " + e.getCause().getMessage());
+        }
+    }
+
+    /**
+     * Encerra as threads de comparação quando a aplicação é finalizada.
+     */
+    @PreDestroy
+    void encerrar() {
+        pool.shutdownNow();
+    }
+
+    private void compararBloco(Bloco bloco, double minimo, Map<Par, Semelhanca> semelhancas) {
+        List<Candidato> candidatos = bloco.candidatos();
+        for (int i = 0; i < candidatos.size(); i++) {
+            int fim = (int) Math.min(candidatos.size(), (long) i + 1 + bloco.janela());
+            for (int j = i + 1; j < fim; j++) {
+                Candidato primeiro = candidatos.get(i);
+                Candidato segundo = candidatos.get(j);
+                if (primeiro.id().equals(segundo.id())) {
+                    continue;
+                }
+
+                double similaridade = Similaridade.jaroWinkler(primeiro.nomeNormalizado(), segundo.nomeNormalizado());
+                if (similaridade < minimo) {
+                    continue;
+                }
+
+                if (primeiro.id() > segundo.id()) {
+                    Candidato troca = primeiro;
+                    primeiro = segundo;
+                    segundo = troca;
+                }
+                Candidato menor = primeiro;
+                Candidato maior = segundo;
+
+                // O mesmo par pode aparecer em mais de um bloco; os critérios são acumulados
+                semelhancas.compute(new Par(menor.id(), maior.id()), (par, existente) -> {
+                    Set<String> criterios = new TreeSet<>(existente == null ? Set.of() : existente.criterios());
+                    criterios.add(bloco.criterio());
+                    return new Semelhanca(menor, maior, similaridade, criterios);
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package br.com.taina.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.taina.dto.EstatisticaDTO;
+import br.com.taina.enums.Estados;
+import br.com.taina.enums.TipoContato;
+import br.com.taina.model.Contato;
+import br.com.taina.model.Pessoa;
+import br.com.taina.repository.ContatoRepository;
+import br.com.taina.repository.PessoaRepository;
+
+/**
+ * Serviço responsável pelas quantidades de pessoas por UF e cidade e de contatos por tipo.
+ *
+ * <p>As quantidades ficam em contadores em memória ({@link LongAdder}), carregados do banco com GROUP BY antes da
+ * aplicação começar a receber requisições. Depois disso são atualizados pelo {@link PessoaService} e pelo
+ * {@link ContatoService} a cada cadastro, alteração e exclusão, e a consulta não acessa o banco de dados.</p>
+ *
+ * <p>Dentro de uma transação, os contadores só mudam depois do commit, então uma gravação desfeita não altera as
+ * quantidades. Cada contador é exato, mas uma consulta feita durante uma gravação pode ver apenas parte dela, por
+ * exemplo o total de pessoas já incrementado e a UF ainda não.</p>
+ */
+@Service
+public class EstatisticaService implements SmartInitializingSingleton {
+
+    private final LongAdder pessoas = new LongAdder();
+    private final LongAdder contatos = new LongAdder();
+
+    // UFs e tipos de contato são fixos, então os mapas são preenchidos uma vez e só os contadores mudam
+    private final Map<Estados, LongAdder> pessoasPorUf = new EnumMap<>(Estados.class);
+    private final Map<TipoContato, LongAdder> contatosPorTipo = new EnumMap<>(TipoContato.class);
+
+    // Cidades com contador zerado continuam no mapa e só são omitidas na consulta
+    private final Map<String, LongAdder> pessoasPorCidade = new ConcurrentHashMap<>();
+
+    @Autowired
+    PessoaRepository pessoaRepository;
+
+    @Autowired
+    ContatoRepository contatoRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    public EstatisticaService() {
+        for (Estados uf : Estados.values()) {
+            pessoasPorUf.put(uf, new LongAdder());
+        }
+        for (TipoContato tipo : TipoContato.values()) {
+            contatosPorTipo.put(tipo, new LongAdder());
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        carregar();
+    }
+
+    /**
+     * Zera os contadores e os carrega do banco de dados, com uma consulta agrupada para pessoas e outra para contatos.
+     * Chamado na inicialização, antes de qualquer gravação.
+     */
+    void carregar() {
+        pessoas.reset();
+        contatos.reset();
+        pessoasPorUf.values().forEach(LongAdder::reset);
+        contatosPorTipo.values().forEach(LongAdder::reset);
+        pessoasPorCidade.clear();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Object[] linha : pessoaRepository.contarPorUfECidade()) {
+                alterarPessoas((Estados) linha[0], (String) linha[1], (Long) linha[2]);
+            }
+            for (Object[] linha : contatoRepository.contarPorTipo()) {
+                alterarContatos((TipoContato) linha[0], (Long) linha[1]);
+            }
+        });
+    }
+
+    /**
+     * Retorna as quantidades atuais, lidas dos contadores em memória.
+     *
+     * @return O DTO {@link EstatisticaDTO} com os totais e as quantidades por UF, cidade e tipo de contato.
+     */
+    public EstatisticaDTO estatisticas() {
+        Map<String, Long> porUf = new LinkedHashMap<>();
+        pessoasPorUf.forEach((uf, contador) -> adicionarSePositivo(porUf, uf.name(), contador));
+
+        Map<String, Long> porCidade = new TreeMap<>();
+        pessoasPorCidade.forEach((cidade, contador) -> adicionarSePositivo(porCidade, cidade, contador));
+
+        Map<String, Long> porTipo = new LinkedHashMap<>();
+        contatosPorTipo.forEach((tipo, contador) -> adicionarSePositivo(porTipo, tipo.name(), contador));
+
+        return new EstatisticaDTO(pessoas.sum(), contatos.sum(), porUf, porCidade, porTipo);
+    }
+
+    /**
+     * Conta pessoas novas e os contatos já presentes nas listas delas.
+     *
+     * @param novas As pessoas cadastradas.
+     */
+    public void adicionarPessoas(Collection<Pessoa> novas) {
+        // Os valores são copiados agora: as entidades podem mudar até o commit
+        List<Runnable> alteracoes = new ArrayList<>();
+        for (Pessoa pessoa : novas) {
+            Estados uf = pessoa.getUf();
+            String cidade = pessoa.getCidade();
+            alteracoes.add(() -> alterarPessoas(uf, cidade, 1));
+            if (pessoa.getContatos() != null) {
+                for (Contato contato : pessoa.getContatos()) {
+                    TipoContato tipo = contato.getTipoContato();
+                    alteracoes.add(() -> alterarContatos(tipo, 1));
+                }
+            }
+        }
+        aposCommit(() -> alteracoes.forEach(Runnable::run));
+    }
+
+    /**
+     * Move uma pessoa alterada da UF e cidade anteriores para as atuais.
+     *
+     * @param ufAnterior A UF antes da alteração.
+     * @param cidadeAnterior A cidade antes da alteração.
+     * @param ufAtual A UF depois da alteração.
+     * @param cidadeAtual A cidade depois da alteração.
+     */
+    public void alterarPessoa(Estados ufAnterior, String cidadeAnterior, Estados ufAtual, String cidadeAtual) {
+        aposCommit(() -> {
+            alterarPessoas(ufAnterior, cidadeAnterior, -1);
+            alterarPessoas(ufAtual, cidadeAtual, 1);
+        });
+    }
+
+    /**
+     * Desconta uma pessoa excluída e os contatos excluídos junto com ela.
+     *
+     * @param uf A UF da pessoa.
+     * @param cidade A cidade da pessoa.
+     * @param tiposContatos O tipo de cada contato da pessoa.
+     */
+    public void removerPessoa(Estados uf, String cidade, List<TipoContato> tiposContatos) {
+        aposCommit(() -> {
+            alterarPessoas(uf, cidade, -1);
+            for (TipoContato tipo : tiposContatos) {
+                alterarContatos(tipo, -1);
+            }
+        });
+    }
+
+    /**
+     * Conta contatos novos.
+     *
+     * @param tipos O tipo de cada contato cadastrado.
+     */
+    public void adicionarContatos(List<TipoContato> tipos) {
+        aposCommit(() -> {
+            for (TipoContato tipo : tipos) {
+                alterarContatos(tipo, 1);
+            }
+        });
+    }
+
+    /**
+     * Move um contato alterado do tipo anterior para o atual.
+     *
+     * @param tipoAnterior O tipo antes da alteração.
+     * @param tipoAtual O tipo depois da alteração.
+     */
+    public void alterarContato(TipoContato tipoAnterior, TipoContato tipoAtual) {
+        aposCommit(() -> {
+            alterarContatos(tipoAnterior, -1);
+            alterarContatos(tipoAtual, 1);
+        });
+    }
+
+    /**
+     * Desconta um contato excluído.
+     *
+     * @param tipo O tipo do contato.
+     */
+    public void removerContato(TipoContato tipo) {
+        aposCommit(() -> alterarContatos(tipo, -1));
+    }
+
+    private void alterarPessoas(Estados uf, String cidade, long quantidade) {
+        pessoas.add(quantidade);
+        if (uf != null) {
+            pessoasPorUf.get(uf).add(quantidade);
+        }
+        if (cidade != null) {
+            pessoasPorCidade.computeIfAbsent(cidade, chave -> new LongAdder()).add(quantidade);
+        }
+    }
+
+    private void alterarContatos(TipoContato tipo, long quantidade) {
+        contatos.add(quantidade);
+        if (tipo != null) {
+            contatosPorTipo.get(tipo).add(quantidade);
+        }
+    }
+
+    private static void adicionarSePositivo(Map<String, Long> quantidades, String chave, LongAdder contador) {
+        long quantidade = contador.sum();
+        if (quantidade > 0) {
+            quantidades.put(chave, quantidade);
+        }
+    }
+
+    // Mesmo critério do CacheService: dentro de uma transação, aplica só depois do commit
+    private void aposCommit(Runnable alteracao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    alteracao.run();
+                }
+            });
+        } else {
+            alteracao.run();
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package br.com.taina.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.ProtocoloContatoDTO;
+import br.com.taina.enums.SituacaoGravacao;
+import br.com.taina.enums.TipoContato;
+import br.com.taina.exception.CampoNotNullException;
+import br.com.taina.exception.CapacidadeExcedidaException;
+import br.com.taina.exception.IdNotFoundException;
+import br.com.taina.model.Contato;
+import br.com.taina.repository.ContatoRepository;
+import br.com.taina.repository.PessoaRepository;
+import br.com.taina.validation.ContatoValidation;
+import br.com.taina.validation.RegrasValidacao;
+
+/**
+ * Serviço responsável pela gravação assíncrona (write-behind) de contatos, ativada pelo profile 'write-behind'.
+ *
+ * <p>O contato é validado na requisição e colocado em uma fila em memória de capacidade limitada, e o cliente recebe
+ * um protocolo para consultar a situação da gravação. Uma única thread retira os contatos da fila e os grava em lotes,
+ * com os inserts enviados em JDBC batch: o lote é gravado quando chega ao tamanho configurado ou quando termina o
+ * intervalo contado a partir do primeiro contato do lote. Se um lote falhar, os seus contatos são gravados um a um,
+ * para que um contato com erro não impeça a gravação dos outros.</p>
+ *
+ * <p>Com a fila cheia, novos contatos são recusados com {@link CapacidadeExcedidaException}, em vez de acumular
+ * memória sem limite. No encerramento da aplicação o servidor web para antes deste serviço, que então grava tudo o
+ * que ainda estiver na fila. Os contatos da fila existem apenas em memória: se a JVM for interrompida sem o
+ * encerramento normal, os contatos ainda não gravados são perdidos.</p>
+ */
+@Service
+@Profile("write-behind")
+public class FilaContatoService implements SmartLifecycle {
+
+    // Fase menor que a do servidor web (DEFAULT_PHASE - 2048): o Tomcat para de receber requisições antes da fila
+    // ser esvaziada, e o pool de conexões só é fechado depois, junto com os beans
+    private static final int FASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final BlockingQueue<ContatoPendente> fila;
+    private final int tamanhoLote;
+    private final long intervaloNanos;
+
+    // Protocolos consultáveis por 10 minutos depois da última mudança de situação
+    private final Cache<UUID, ProtocoloContatoDTO> protocolos;
+
+    private volatile boolean executando;
+    private Thread gravador;
+
+    // Os contatos entram na fila com a leitura e o encerramento marca a parada com a escrita: depois que a thread
+    // de gravação vê executando = false, nenhum contato entra mais na fila, e ela pode sair quando a fila esvaziar
+    private final ReadWriteLock encerramento = new ReentrantReadWriteLock();
+
+    @Autowired
+    ContatoRepository contatoRepository;
+
+    @Autowired
+    PessoaRepository pessoaRepository;
+
+    @Autowired
+    ContatoValidation contatoValidation;
+
+    @Autowired
+    CacheService cacheService;
+
+    @Autowired
+    EstatisticaService estatisticaService;
+
+    @Autowired
+    ContatoService contatoService;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    public FilaContatoService(@Value("${contatos.fila.capacidade:10000}") int capacidade,
+                              @Value("${contatos.fila.tamanho-lote:${spring.jpa.properties.hibernate.jdbc.batch_size:50}}") int tamanhoLote,
+                              @Value("${contatos.fila.intervalo:50ms}") Duration intervalo) {
+        this.fila = new ArrayBlockingQueue<>(capacidade);
+        this.tamanhoLote = tamanhoLote;
+        this.intervaloNanos = intervalo.toNanos();
+        this.protocolos = Caffeine.newBuilder()
+                .maximumSize(capacidade * 10L)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .build();
+    }
+
+    /**
+     * Valida o contato e o coloca na fila de gravação.
+     *
+     * @param contatoDTO O contato a ser gravado.
+     * @return O protocolo da gravação, com a situação PENDENTE.
+     * @throws CapacidadeExcedidaException Se a fila estiver cheia ou a aplicação estiver sendo encerrada.
+     */
+    public ProtocoloContatoDTO enfileirar(ContatoDTO contatoDTO) {
+        if (contatoDTO.getIdPessoa() == null) {
+            throw new CampoNotNullException("Erro! O idPessoa não pode ser nulo. Insira um id válido!");
+        }
+
+        contatoValidation.validarContato(contatoDTO);
+
+        // Normalmente atendida pelo cache de segundo nível; a pessoa é conferida de novo na gravação do lote
+        if (pessoaRepository.findById(contatoDTO.getIdPessoa()).isEmpty()) {
+            throw new IdNotFoundException("Pessoa com ID " + contatoDTO.getIdPessoa() + " não encontrada");
+        }
+
+        ContatoPendente pendente = new ContatoPendente(UUID.randomUUID(), contatoDTO.getIdPessoa(),
+                RegrasValidacao.converterTipoContato(contatoDTO.getTipoContato()), contatoDTO.getContato());
+        ProtocoloContatoDTO protocolo = new ProtocoloContatoDTO(pendente.protocolo(), SituacaoGravacao.PENDENTE, null, null);
+
+        encerramento.readLock().lock();
+        try {
+            if (!executando) {
+                throw new CapacidadeExcedidaException("Erro! A gravação de contatos está sendo encerrada. Tente novamente em instantes.");
+            }
+
+            // Registrado antes de entrar na fila para não sobrescrever a situação gravada pela thread de gravação
+            protocolos.put(pendente.protocolo(), protocolo);
+            if (!fila.offer(pendente)) {
+                protocolos.invalidate(pendente.protocolo());
+                throw new CapacidadeExcedidaException("Erro! A fila de gravação de contatos está cheia. Tente novamente em instantes.");
+            }
+        } finally {
+            encerramento.readLock().unlock();
+        }
+        return protocolo;
+    }
+
+    /**
+     * Consulta a situação da gravação de um contato.
+     *
+     * @param protocolo O protocolo devolvido por {@link #enfileirar(ContatoDTO)}.
+     * @return A situação atual da gravação.
+     */
+    public ProtocoloContatoDTO consultar(UUID protocolo) {
+        ProtocoloContatoDTO situacao = protocolos.getIfPresent(protocolo);
+        if (situacao == null) {
+            throw new IdNotFoundException("Protocolo " + protocolo + " não encontrado");
+        }
+        return situacao;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (executando) {
+            return;
+        }
+        executando = true;
+        meterRegistry.gauge("contatos.fila.tamanho", fila, BlockingQueue::size);
+        gravador = Thread.ofPlatform().name("gravador-contatos").daemon().start(this::executar);
+    }
+
+    /**
+     * Para de aceitar contatos e aguarda a gravação de todos os que ainda estão na fila.
+     */
+    @Override
+    public synchronized void stop() {
+        pararDeAceitar();
+        if (gravador == null) {
+            return;
+        }
+        try {
+            gravador.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        gravador = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+
+    @Override
+    public int getPhase() {
+        return FASE;
+    }
+
+    private void executar() {
+        List<ContatoPendente> lote = new ArrayList<>(tamanhoLote);
+        while (executando || !fila.isEmpty()) {
+            try {
+                montarLote(lote);
+            } catch (InterruptedException e) {
+                // Só a JVM encerrando interrompe a thread: grava o lote já montado e o que restar na fila e sai
+                pararDeAceitar();
+            }
+            if (!lote.isEmpty()) {
+                gravar(lote);
+                lote.clear();
+            }
+        }
+    }
+
+    private void pararDeAceitar() {
+        encerramento.writeLock().lock();
+        try {
+            executando = false;
+        } finally {
+            encerramento.writeLock().unlock();
+        }
+    }
+
+    // Espera o primeiro contato por até um intervalo e, a partir dele, junta os próximos até completar o lote ou
+    // terminar o intervalo. No encerramento não espera: grava o que já estiver na fila
+    private void montarLote(List<ContatoPendente> lote) throws InterruptedException {
+        ContatoPendente primeiro = fila.poll(intervaloNanos, TimeUnit.NANOSECONDS);
+        if (primeiro == null) {
+            return;
+        }
+        lote.add(primeiro);
+
+        long limite = System.nanoTime() + intervaloNanos;
+        while (lote.size() < tamanhoLote) {
+            fila.drainTo(lote, tamanhoLote - lote.size());
+            long restante = limite - System.nanoTime();
+            if (lote.size() == tamanhoLote || restante <= 0 || !executando) {
+                return;
+            }
+            ContatoPendente proximo = fila.poll(restante, TimeUnit.NANOSECONDS);
+            if (proximo == null) {
+                return;
+            }
+            lote.add(proximo);
+        }
+    }
+
+    private void gravar(List<ContatoPendente> lote) {
+        List<Contato> gravados;
+        try {
+            gravados = transactionTemplate.execute(status -> inserir(lote));
+        } catch (RuntimeException e) {
+            if (lote.size() == 1) {
+                falhar(lote.get(0), e.getMessage());
+            } else {
+                for (ContatoPendente pendente : lote) {
+                    gravar(List.of(pendente));
+                }
+            }
+            return;
+        }
+
+        for (int i = 0; i < lote.size(); i++) {
+            ContatoPendente pendente = lote.get(i);
+            Contato contato = gravados.get(i);
+            if (contato == null) {
+                falhar(pendente, "Pessoa com ID " + pendente.idPessoa() + " não encontrada");
+            } else {
+                protocolos.put(pendente.protocolo(),
+                        new ProtocoloContatoDTO(pendente.protocolo(), SituacaoGravacao.GRAVADO, contato.getId(), null));
+            }
+        }
+    }
+
+    // Executado na transação do lote: confere as pessoas com uma consulta e envia os inserts em JDBC batch.
+    // Retorna os contatos gravados na mesma ordem do lote, com nulo no lugar dos de pessoas inexistentes
+    private List<Contato> inserir(List<ContatoPendente> lote) {
+        Set<Long> idsPessoas = new HashSet<>();
+        for (ContatoPendente pendente : lote) {
+            idsPessoas.add(pendente.idPessoa());
+        }
+        Set<Long> existentes = new HashSet<>(pessoaRepository.findIdsExistentes(idsPessoas));
+
+        List<Contato> gravados = new ArrayList<>(lote.size());
+        List<Contato> novosContatos = new ArrayList<>(lote.size());
+        for (ContatoPendente pendente : lote) {
+            Contato novoContato = null;
+            if (existentes.contains(pendente.idPessoa())) {
+                novoContato = new Contato();
+                novoContato.setTipoContato(pendente.tipoContato());
+                novoContato.setContato(pendente.contato());
+                novoContato.setPessoa(pessoaRepository.getReferenceById(pendente.idPessoa()));
+                novosContatos.add(novoContato);
+            }
+            gravados.add(novoContato);
+        }
+
+        contatoRepository.saveAll(novosContatos);
+        for (Long idPessoa : existentes) {
+            cacheService.evictContatosDaPessoa(idPessoa);
+            contatoService.esquecerContatos(idPessoa);
+        }
+        estatisticaService.adicionarContatos(novosContatos.stream().map(Contato::getTipoContato).toList());
+        return gravados;
+    }
+
+    private void falhar(ContatoPendente pendente, String mensagem) {
+        protocolos.put(pendente.protocolo(),
+                new ProtocoloContatoDTO(pendente.protocolo(), SituacaoGravacao.FALHOU, null, mensagem));
+    }
+
+    private record ContatoPendente(UUID protocolo, Long idPessoa, TipoContato tipoContato, String contato) {
+    }
+}
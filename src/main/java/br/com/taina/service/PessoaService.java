@@ -1,20 +1,55 @@
 package br.com.taina.service;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.annotation.Timed;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PaginaDTO;
+import br.com.taina.dto.PessoaBuscaDTO;
+import br.com.taina.dto.PessoaCompletaDTO;
 import br.com.taina.dto.PessoaDTO;
 import br.com.taina.dto.PessoaMalaDiretaDTO;
 import br.com.taina.enums.Estados;
+import br.com.taina.enums.TipoContato;
 import br.com.taina.exception.ErroServidorException;
+import br.com.taina.exception.FormatoInvalidoException;
 import br.com.taina.exception.IdNotFoundException;
-import br.com.taina.exception.NadaParaListarException;
 import br.com.taina.exception.CampoNotNullException;
+import br.com.taina.exception.VersaoDesatualizadaException;
+import br.com.taina.model.Contato;
 import br.com.taina.model.Pessoa;
+import br.com.taina.repository.ContatoRepository;
 import br.com.taina.repository.PessoaRepository;
-
+import br.com.taina.search.PessoaSearchIndex;
+import br.com.taina.validation.LoteValidation;
+import br.com.taina.validation.RegrasValidacao;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Serviço que oferece operações CRUD (Create, Read, Update, Delete) para a entidade {@link Pessoa}.
@@ -22,11 +57,55 @@ import java.util.stream.Collectors;
  * As operações incluem salvar, buscar, atualizar e excluir registros de pessoas
  */
 @Service
+@Timed(value = "servico", description = "Tempo de execução dos métodos dos services")
 public class PessoaService {
 
+    /** Quantidade de registros por página quando o tamanho não é informado. */
+    public static final int TAMANHO_PAGINA_PADRAO = 20;
+
+    /** Quantidade máxima de registros por página. */
+    public static final int TAMANHO_PAGINA_MAXIMO = 100;
+
+    /** Quantidade de resultados da busca por nome quando o limite não é informado. */
+    public static final int LIMITE_BUSCA_PADRAO = 10;
+
+    /** Quantidade máxima de resultados da busca por nome. */
+    public static final int LIMITE_BUSCA_MAXIMO = 50;
+
     @Autowired
     PessoaRepository pessoaRepository;
 
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    LoteValidation loteValidation;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    EntityManager entityManager;
+
+    @Autowired
+    PessoaSearchIndex pessoaSearchIndex;
+
+    @Autowired
+    ContatoRepository contatoRepository;
+
+    @Autowired
+    EstatisticaService estatisticaService;
+
+    @Autowired
+    ContatoService contatoService;
+
+    // Tamanho de cada parte do cadastro em lote, igual ao JDBC batch do Hibernate
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    int tamanhoLote;
+
+    // Consultas de pessoa por ID em andamento
+    private final SingleFlight<Long, PessoaDTO> consultasPessoa = new SingleFlight<>();
+
     /**
      * Cria um novo registro de pessoa no banco de dados.
      * 
@@ -43,18 +122,17 @@ public class PessoaService {
             pessoa.setCidade(pessoaDTO.getCidade());
 
             if (pessoaDTO.getUf() != null) {
-                pessoa.setUf(Estados.valueOf(pessoaDTO.getUf().toUpperCase()));
+                pessoa.setUf(RegrasValidacao.converterEstado(pessoaDTO.getUf()));
             } else {
                 pessoa.setUf(null);
             }
 
             try {
             pessoa = pessoaRepository.save(pessoa);
+            pessoaSearchIndex.adicionar(paraBusca(pessoa));
+            estatisticaService.adicionarPessoas(List.of(pessoa));
 
-            return new PessoaDTO(pessoa.getId(), pessoa.getNome(), pessoa.getEndereco(),
-                    pessoa.getNumeroCasa(),
-                    pessoa.getCep(), pessoa.getCidade(), 
-                    pessoa.getUf() != null ? pessoa.getUf().name() : null);
+            return new PessoaDTO(pessoa);
 
         } catch (ErroServidorException e) {
             throw new ErroServidorException("Erro ao salvar a pessoa: " + e.getMessage());
@@ -62,30 +140,113 @@ public class PessoaService {
     }
 
     /**
-     * Retorna todas as pessoas registradas no banco de dados.
-     * 
-     * @return Lista de {@link PessoaDTO} com as informações das pessoas cadastradas.
+     * Cria vários registros de pessoas, e os seus contatos, de uma só vez.
+     *
+     * Todos os itens são validados antes de qualquer gravação pela classe {@link LoteValidation}. Depois, as pessoas
+     * são gravadas em partes do tamanho do JDBC batch do Hibernate, cada parte na sua própria transação, e o contexto
+     * de persistência é limpo ao final de cada parte para não acumular entidades na memória.
+     *
+     * @param pessoasDTO Lista de pessoas a serem cadastradas, cada uma opcionalmente com os seus contatos.
+     * @return Lista de {@link PessoaDTO} com os dados salvos, na mesma ordem recebida.
+     */
+    public List<PessoaDTO> saveLote(List<PessoaDTO> pessoasDTO) {
+        if (pessoasDTO == null || pessoasDTO.isEmpty()) {
+            throw new CampoNotNullException("Erro! A lista de pessoas não pode ser nula ou vazia.");
+        }
+
+        loteValidation.validarPessoas(pessoasDTO);
+
+        int tamanhoParte = Math.max(1, tamanhoLote);
+        List<PessoaDTO> pessoasSalvas = new ArrayList<>(pessoasDTO.size());
+
+        try {
+            for (int inicio = 0; inicio < pessoasDTO.size(); inicio += tamanhoParte) {
+                List<PessoaDTO> parte = pessoasDTO.subList(inicio, Math.min(inicio + tamanhoParte, pessoasDTO.size()));
+                List<PessoaDTO> salvas = transactionTemplate.execute(status -> salvarParte(parte));
+
+                // O índice de busca só recebe as pessoas depois do commit de cada parte
+                for (PessoaDTO salva : salvas) {
+                    pessoaSearchIndex.adicionar(new PessoaBuscaDTO(salva.getId(), salva.getNome(), salva.getCidade(), salva.getUf()));
+                }
+                pessoasSalvas.addAll(salvas);
+            }
+            return pessoasSalvas;
+
+        } catch (DataAccessException e) {
+            throw new ErroServidorException("Erro ao salvar o lote de pessoas: " + e.getMessage());
+        }
+    }
+
+    private List<PessoaDTO> salvarParte(List<PessoaDTO> parte) {
+        List<Pessoa> pessoas = new ArrayList<>(parte.size());
+
+        for (PessoaDTO pessoaDTO : parte) {
+            Pessoa pessoa = new Pessoa();
+            pessoa.setNome(pessoaDTO.getNome());
+            pessoa.setEndereco(pessoaDTO.getEndereco());
+            pessoa.setNumeroCasa(pessoaDTO.getNumeroCasa());
+            pessoa.setCep(pessoaDTO.getCep());
+            pessoa.setCidade(pessoaDTO.getCidade());
+            pessoa.setUf(pessoaDTO.getUf() != null ? RegrasValidacao.converterEstado(pessoaDTO.getUf()) : null);
+            pessoa.setContatos(new ArrayList<>());
+
+            if (pessoaDTO.getContatos() != null) {
+                for (ContatoDTO contatoDTO : pessoaDTO.getContatos()) {
+                    Contato contato = new Contato();
+                    contato.setTipoContato(RegrasValidacao.converterTipoContato(contatoDTO.getTipoContato()));
+                    contato.setContato(contatoDTO.getContato());
+                    contato.setPessoa(pessoa);
+                    pessoa.getContatos().add(contato);
+                }
+            }
+            pessoas.add(pessoa);
+        }
+
+        // Os contatos são gravados em cascata e os inserts são agrupados por tabela (hibernate.order_inserts)
+        pessoaRepository.saveAll(pessoas);
+        estatisticaService.adicionarPessoas(pessoas);
+        entityManager.flush();
+        entityManager.clear();
+
+        return pessoas.stream().map(pessoa -> {
+            PessoaDTO pessoaDTO = new PessoaDTO(pessoa);
+            pessoaDTO.setContatos(pessoa.getContatos().stream().map(ContatoDTO::new).toList());
+            return pessoaDTO;
+        }).toList();
+    }
+
+    /**
+     * Retorna uma página de pessoas registradas no banco de dados, usando paginação por cursor (keyset) sobre o ID.
+     * Uma página vazia é retornada normalmente, sem lançar exceção.
+     *
+     * @param cursor ID do último registro da página anterior. Se for nulo, retorna a primeira página.
+     * @param tamanho Quantidade de registros da página. Se for nulo, usa {@link #TAMANHO_PAGINA_PADRAO}
+     *                e nunca ultrapassa {@link #TAMANHO_PAGINA_MAXIMO}.
+     * @param uf Filtro opcional por estado.
+     * @param cidade Filtro opcional por cidade.
+     * @return {@link PaginaDTO} com as pessoas da página e o cursor da próxima página.
      */
-    public List<PessoaDTO> findAll() {
-    	try {
-            List<Pessoa> pessoas = pessoaRepository.findAll();
+    @Transactional(readOnly = true)
+    public PaginaDTO<PessoaDTO> findAll(Long cursor, Integer tamanho, String uf, String cidade) {
+        if (tamanho != null && tamanho < 1) {
+            throw new FormatoInvalidoException("Erro! O tamanho da página deve ser maior que zero.");
+        }
 
-            if (pessoas.isEmpty()) {
-                throw new NadaParaListarException("Nenhuma pessoa encontrada para listar.");
+        int limite = tamanho == null ? TAMANHO_PAGINA_PADRAO : Math.min(tamanho, TAMANHO_PAGINA_MAXIMO);
+        Estados estado = converterFiltroUf(uf);
+
+        try {
+            // Busca um registro a mais para saber se existe uma próxima página
+            List<PessoaDTO> conteudo = findPagina(cursor == null ? 0L : cursor, estado, converterFiltroTexto(cidade),
+                    Limit.of(limite + 1));
+
+            boolean temProximaPagina = conteudo.size() > limite;
+            if (temProximaPagina) {
+                conteudo = conteudo.subList(0, limite);
             }
 
-            // Mapeando as propriedades de pessoa para pessoaDTO e adicionando em uma lista de pessoas 
-            return pessoas.stream().map(pessoa -> new PessoaDTO(
-                            pessoa.getId(),
-                            pessoa.getNome(),
-                            pessoa.getEndereco(),
-                            pessoa.getNumeroCasa(),
-                            pessoa.getCep(),
-                            pessoa.getCidade(),
-                            pessoa.getUf() != null ? pessoa.getUf().name() : null // Converte o Enum 'uf' para String
-                            													 // Se o  uf for nulo retorna null, se não for, converte 
-                    ))
-                    .collect(Collectors.toList());
+            Long proximoCursor = temProximaPagina ? conteudo.get(conteudo.size() - 1).getId() : null;
+            return new PaginaDTO<>(conteudo, proximoCursor);
 
         } catch (ErroServidorException e) {
             throw new ErroServidorException(e.getMessage());
@@ -93,8 +254,212 @@ public class PessoaService {
     }
 
 
+    /**
+     * Busca pessoas pelo início das palavras do nome, sem diferenciar acentos nem maiúsculas, para autocomplete.
+     * A busca é feita no índice em memória {@link PessoaSearchIndex}, sem consultar o banco de dados.
+     *
+     * @param texto O texto buscado. Cada palavra deve ser o início de alguma palavra do nome.
+     * @param cidade Filtro opcional pelo início do nome da cidade.
+     * @param limite Quantidade máxima de resultados. Se for nulo, usa {@link #LIMITE_BUSCA_PADRAO}
+     *               e nunca ultrapassa {@link #LIMITE_BUSCA_MAXIMO}.
+     * @return Lista de pessoas encontradas, vazia se nenhuma corresponder à busca.
+     */
+    public List<PessoaBuscaDTO> buscar(String texto, String cidade, Integer limite) {
+        if (texto == null || texto.isBlank()) {
+            throw new CampoNotNullException("Erro! O texto da busca não pode ser nulo ou vazio.");
+        }
+
+        if (limite != null && limite < 1) {
+            throw new FormatoInvalidoException("Erro! O limite da busca deve ser maior que zero.");
+        }
+
+        return pessoaSearchIndex.buscar(texto, cidade,
+                limite == null ? LIMITE_BUSCA_PADRAO : Math.min(limite, LIMITE_BUSCA_MAXIMO));
+    }
+
+    private PessoaBuscaDTO paraBusca(Pessoa pessoa) {
+        return new PessoaBuscaDTO(pessoa.getId(), pessoa.getNome(), pessoa.getCidade(),
+                pessoa.getUf() != null ? pessoa.getUf().name() : null);
+    }
+
+    /**
+     * Exporta todas as pessoas, com os seus contatos, no formato NDJSON (um objeto JSON por linha).
+     *
+     * As pessoas são lidas por um cursor somente leitura e escritas na saída uma a uma. Depois de escrita,
+     * cada pessoa é removida do contexto de persistência, mantendo o uso de memória constante
+     * independente da quantidade de registros.
+     *
+     * @param saida Stream de saída onde as linhas serão escritas.
+     */
+    @Transactional(readOnly = true)
+    public void exportar(OutputStream saida) throws IOException {
+        JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        try (gerador; Stream<Pessoa> pessoas = pessoaRepository.streamAllComContatos()) {
+            pessoas.forEach(pessoa -> {
+                try {
+                    objectMapper.writeValue(gerador, new PessoaCompletaDTO(pessoa));
+                    gerador.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                // Remove a pessoa e os seus contatos do contexto para não acumular entidades na memória
+                entityManager.detach(pessoa);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+
+    /**
+     * Exporta os dados de mala direta de um segmento de pessoas, filtrando opcionalmente por UF, cidade e prefixo do CEP.
+     *
+     * A string de endereço é montada na própria consulta e as linhas são escritas uma a uma em um buffer reutilizado,
+     * sem carregar a lista de pessoas na memória. No formato CSV a primeira linha é o cabeçalho "id,nome,malaDireta";
+     * no formato NDJSON cada linha é um objeto JSON.
+     *
+     * @param uf Filtro opcional por estado.
+     * @param cidade Filtro opcional por cidade.
+     * @param prefixoCep Filtro opcional pelo início do CEP.
+     * @param formato Formato da saída: "csv" ou "ndjson".
+     * @param saida Stream de saída onde as linhas serão escritas.
+     */
+    @Transactional(readOnly = true)
+    public void exportarMalaDireta(String uf, String cidade, String prefixoCep, String formato, OutputStream saida) throws IOException {
+        Estados estado = converterFiltroUf(uf);
+        boolean csv = isFormatoCsv(formato);
+
+        try (Stream<PessoaMalaDiretaDTO> linhas = streamMalaDireta(estado,
+                converterFiltroTexto(cidade), converterFiltroTexto(prefixoCep))) {
+            if (csv) {
+                escreverCsv(linhas, saida);
+            } else {
+                escreverNdjson(linhas, saida);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Verifica o formato da exportação de mala direta. Deve ser chamado antes de começar a escrever a resposta.
+     *
+     * @param formato "csv" ou "ndjson", sem diferenciar maiúsculas e minúsculas.
+     * @return true se o formato for CSV e false se for NDJSON.
+     */
+    public boolean isFormatoCsv(String formato) {
+        if ("csv".equalsIgnoreCase(formato)) {
+            return true;
+        }
+        if ("ndjson".equalsIgnoreCase(formato)) {
+            return false;
+        }
+        throw new FormatoInvalidoException("Erro! Formato de exportação inválido. Use csv ou ndjson.");
+    }
+
+    private void escreverCsv(Stream<PessoaMalaDiretaDTO> linhas, OutputStream saida) throws IOException {
+        // O writer não é fechado para não fechar a saída, apenas esvaziado ao final
+        BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write("id,nome,malaDireta\n");
+
+        linhas.forEach(linha -> {
+            try {
+                writer.write(String.valueOf(linha.id()));
+                writer.write(',');
+                escreverCampoCsv(writer, linha.nome());
+                writer.write(',');
+                escreverCampoCsv(writer, linha.malaDireta());
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    // Escreve o campo entre aspas, duplicando as aspas internas, caractere por caractere no buffer do writer
+    private void escreverCampoCsv(Writer writer, String campo) throws IOException {
+        writer.write('"');
+        if (campo != null) {
+            for (int i = 0; i < campo.length(); i++) {
+                char caractere = campo.charAt(i);
+                if (caractere == '"') {
+                    writer.write('"');
+                }
+                writer.write(caractere);
+            }
+        }
+        writer.write('"');
+    }
+
+    private void escreverNdjson(Stream<PessoaMalaDiretaDTO> linhas, OutputStream saida) throws IOException {
+        JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        try (gerador) {
+            linhas.forEach(linha -> {
+                try {
+                    objectMapper.writeValue(gerador, linha);
+                    gerador.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+
+    private Estados converterFiltroUf(String uf) {
+        if (uf == null || uf.isBlank()) {
+            return null;
+        }
+
+        try {
+            return RegrasValidacao.converterEstado(uf);
+        } catch (IllegalArgumentException e) {
+            throw new FormatoInvalidoException("Erro! O campo UF está inválido. Digite um estado brasileiro válido. Exemplo: SP");
+        }
+    }
+
+    // Escolhe a consulta pelos filtros informados, para que o banco leia a página direto do índice deles
+    private List<PessoaDTO> findPagina(Long cursor, Estados estado, String cidade, Limit limite) {
+        if (estado != null && cidade != null) {
+            return pessoaRepository.findPaginaPorUfECidade(cursor, estado, cidade, limite);
+        }
+        if (estado != null) {
+            return pessoaRepository.findPaginaPorUf(cursor, estado, limite);
+        }
+        if (cidade != null) {
+            return pessoaRepository.findPaginaPorCidade(cursor, cidade, limite);
+        }
+        return pessoaRepository.findPagina(cursor, limite);
+    }
+
+    // Escolhe a consulta pelo filtro mais seletivo informado, para que o banco use o índice da coluna
+    private Stream<PessoaMalaDiretaDTO> streamMalaDireta(Estados estado, String cidade, String prefixoCep) {
+        if (estado != null) {
+            return pessoaRepository.streamMalaDiretaPorUf(estado, cidade, prefixoCep);
+        }
+        if (cidade != null) {
+            return pessoaRepository.streamMalaDiretaPorCidade(cidade, prefixoCep);
+        }
+        if (prefixoCep != null) {
+            return pessoaRepository.streamMalaDiretaPorCep(prefixoCep + "%");
+        }
+        return pessoaRepository.streamMalaDireta();
+    }
+
+    private String converterFiltroTexto(String filtro) {
+        return filtro == null || filtro.isBlank() ? null : filtro.trim();
+    }
+
+
     /**
      * Busca uma pessoa pelo ID. Se a pessoa não for encontrada, lança uma exceção.
+     *
+     * Requisições simultâneas para a mesma pessoa compartilham uma única consulta ao banco ({@link SingleFlight}).
+     * Sem transação: quem espera o resultado de outra requisição não ocupa uma conexão.
      * 
      * @param id O ID da pessoa a ser buscada.
      * @return O DTO {@link PessoaDTO} com os dados da pessoa encontrada.
@@ -103,18 +468,13 @@ public class PessoaService {
     	 if (id == null) {
              throw new CampoNotNullException("Erro! Campo ID não pode ser nulo.");
          }
+        return consultasPessoa.executar(id, () -> consultarPessoa(id));
+    }
+
+    private PessoaDTO consultarPessoa(Long id) {
         try {
-            // Verifica se a pessoa existe e mapeia para o DTO
-            return pessoaRepository.findById(id)
-                .map(pessoa -> new PessoaDTO(
-                        pessoa.getId(),
-                        pessoa.getNome(),
-                        pessoa.getEndereco(),
-                        pessoa.getNumeroCasa(),
-                        pessoa.getCep(),
-                        pessoa.getCidade(),
-                        pessoa.getUf() != null ? pessoa.getUf().name() : null 
-                ))
+            // Busca direto no DTO, sem carregar a entidade no contexto de persistência
+            return pessoaRepository.findDTOById(id)
                 .orElseThrow(() -> new IdNotFoundException("Pessoa com ID " + id + " não encontrada"));
         } catch (ErroServidorException e) {
             throw new ErroServidorException(e.getMessage());
@@ -122,6 +482,40 @@ public class PessoaService {
     }
 
 
+    /**
+     * Busca uma pessoa com todos os seus contatos, em uma única consulta ao banco de dados.
+     * Se a pessoa não for encontrada, lança uma exceção.
+     *
+     * @param id O ID da pessoa a ser buscada.
+     * @return O DTO {@link PessoaCompletaDTO} com os dados e os contatos da pessoa.
+     */
+    @Transactional(readOnly = true)
+    public PessoaCompletaDTO findCompletaById(Long id) {
+        if (id == null) {
+            throw new CampoNotNullException("Erro! Campo ID não pode ser nulo.");
+        }
+        return pessoaRepository.findComContatosById(id)
+                .map(PessoaCompletaDTO::new)
+                .orElseThrow(() -> new IdNotFoundException("Pessoa com ID " + id + " não encontrada"));
+    }
+
+
+    /**
+     * Busca apenas a versão de uma pessoa, usada no ETag das consultas, sem carregar os dados.
+     * Se a pessoa não for encontrada, lança uma exceção.
+     *
+     * @param id O ID da pessoa.
+     * @return A versão atual da pessoa.
+     */
+    public Long findVersaoById(Long id) {
+        if (id == null) {
+            throw new CampoNotNullException("Erro! Campo ID não pode ser nulo.");
+        }
+        return pessoaRepository.findVersaoById(id)
+                .orElseThrow(() -> new IdNotFoundException("Pessoa com ID " + id + " não encontrada"));
+    }
+
+
     /**
      * Busca uma pessoa pelo ID e retorna os dados no formato de DTO {@link PessoaMalaDiretaDTO}.
      * Se a pessoa não for encontrada, lança uma exceção.
@@ -129,16 +523,15 @@ public class PessoaService {
      * @param id O ID da pessoa a ser buscada.
      * @return O DTO {@link PessoaMalaDiretaDTO} com as informações da pessoa.
      */
+    @Transactional(readOnly = true)
     public PessoaMalaDiretaDTO findPessoaById(Long id) {
         if (id == null) {
             throw new CampoNotNullException("Erro! Campo ID não pode ser nulo.");
         }
 
         try {
-            Pessoa pessoa = pessoaRepository.findById(id)
+            return pessoaRepository.findMalaDiretaById(id)
                     .orElseThrow(() -> new IdNotFoundException("Pessoa com ID " + id + " não encontrada"));
-
-            return new PessoaMalaDiretaDTO(pessoa);
         } catch (ErroServidorException e) {
             throw new ErroServidorException(e.getMessage());
         }
@@ -152,7 +545,26 @@ public class PessoaService {
      * @param pessoaDTO DTO com os novos dados da pessoa.
      * @return O DTO {@link PessoaDTO} com os dados atualizados.
      */
+    @Transactional
     public PessoaDTO update(Long id, PessoaDTO pessoaDTO) {
+        return update(id, pessoaDTO, null);
+    }
+
+    /**
+     * Atualiza os dados de uma pessoa, desde que ela ainda esteja na versão esperada pelo cliente.
+     * Se outra requisição alterar a pessoa entre a leitura e a gravação, o bloqueio otimista (@Version)
+     * também recusa a atualização, em vez de sobrescrever a alteração.
+     * A pessoa é lida e alterada na mesma transação, e o UPDATE grava apenas as colunas alteradas.
+     *
+     * @param id O ID da pessoa a ser atualizada.
+     * @param pessoaDTO DTO com os novos dados da pessoa.
+     * @param versaoEsperada Versão lida pelo cliente (cabeçalho If-Match), ou nulo para não conferir.
+     * @return O DTO {@link PessoaDTO} com os dados e a nova versão.
+     *
+     * @throws VersaoDesatualizadaException Se a pessoa estiver em outra versão.
+     */
+    @Transactional
+    public PessoaDTO update(Long id, PessoaDTO pessoaDTO, Long versaoEsperada) {
             if (id == null) {
                 throw new CampoNotNullException("Erro! Campo ID não pode ser nulo.");
             }
@@ -160,6 +572,13 @@ public class PessoaService {
             Pessoa pessoa = pessoaRepository.findById(id)
                     .orElseThrow(() -> new IdNotFoundException("Pessoa com ID " + id + " não encontrada para atualização!"));
 
+            Estados ufAnterior = pessoa.getUf();
+            String cidadeAnterior = pessoa.getCidade();
+
+            if (versaoEsperada != null && !versaoEsperada.equals(pessoa.getVersao())) {
+                throw new VersaoDesatualizadaException("Erro! A pessoa com ID " + id
+                        + " foi alterada depois da versão informada no If-Match. Consulte a pessoa novamente.");
+            }
 
             pessoa.setNome(pessoaDTO.getNome());
             pessoa.setEndereco(pessoaDTO.getEndereco());
@@ -168,19 +587,25 @@ public class PessoaService {
 
             // Permitir UF nula
             if (pessoaDTO.getUf() != null && !pessoaDTO.getUf().trim().isEmpty()) {
-                pessoa.setUf(Estados.valueOf(pessoaDTO.getUf().trim().toUpperCase()));
+                pessoa.setUf(RegrasValidacao.converterEstado(pessoaDTO.getUf()));
             } else {
                 pessoa.setUf(null);
             }
 
             try {
-            pessoa = pessoaRepository.save(pessoa);
-
-            return new PessoaDTO(pessoa.getId(), pessoa.getNome(), pessoa.getEndereco(),
-                                 pessoa.getNumeroCasa(),
-                                 pessoa.getCep(), pessoa.getCidade(),
-                                 pessoa.getUf() != null ? pessoa.getUf().name() : null);
-
+            // A pessoa já pertence à transação, então basta o flush, que envia o UPDATE aqui (e não no commit) para o
+            // conflito de versão ser tratado abaixo. Um save faria merge, que segue a cascata e carregaria os contatos
+            pessoaRepository.flush();
+            PessoaBuscaDTO pessoaBusca = paraBusca(pessoa);
+            aposCommit(() -> pessoaSearchIndex.adicionar(pessoaBusca));
+            consultasPessoa.esquecer(id);
+            estatisticaService.alterarPessoa(ufAnterior, cidadeAnterior, pessoa.getUf(), pessoa.getCidade());
+
+            return new PessoaDTO(pessoa);
+
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new VersaoDesatualizadaException("Erro! A pessoa com ID " + id
+                    + " foi alterada por outra requisição durante a atualização. Consulte a pessoa novamente.");
         } catch (ErroServidorException e) {
             throw new ErroServidorException(e.getMessage());
         }
@@ -191,9 +616,13 @@ public class PessoaService {
     /**
      * Exclui uma pessoa do banco de dados.
      * Se a pessoa não for encontrada, lança uma exceção.
+     *
+     * Os contatos são excluídos em cascata, na mesma transação: a pessoa e a lista de contatos são lidas uma vez
+     * cada e os DELETEs dos contatos vão ao banco em um único JDBC batch, seja qual for a quantidade de contatos.
      * 
      * @param id O ID da pessoa a ser excluída.
      */
+    @Transactional
     public void delete(Long id) {
         if (id == null) {
             throw new CampoNotNullException("Erro! Campo ID não pode ser nulo.");
@@ -201,10 +630,73 @@ public class PessoaService {
        
             Pessoa pessoa = pessoaRepository.findById(id)
                     .orElseThrow(() -> new IdNotFoundException("Pessoa com ID " + id + " não encontrada para exclusão"));
+            // A lista de contatos é carregada de qualquer forma pela cascata; os tipos são descontados das estatísticas
+            List<TipoContato> tiposContatos = pessoa.getContatos() == null ? List.of()
+                    : pessoa.getContatos().stream().map(Contato::getTipoContato).toList();
             try {
             pessoaRepository.delete(pessoa);
+            pessoaRepository.flush();
+            aposCommit(() -> pessoaSearchIndex.remover(id));
+            consultasPessoa.esquecer(id);
+            estatisticaService.removerPessoa(pessoa.getUf(), pessoa.getCidade(), tiposContatos);
         } catch (Exception e) {
             throw new ErroServidorException("Erro ao excluir a pessoa: " + e.getMessage());
         }
     }
+
+    /**
+     * Mescla duas pessoas duplicadas: todos os contatos da pessoa de origem passam para a pessoa de destino e a
+     * pessoa de origem é excluída.
+     *
+     * Os contatos são movidos com um único UPDATE e a origem é excluída com um único DELETE, na mesma transação,
+     * sem carregar as listas de contatos. As operações em lote também limpam as regiões afetadas do cache.
+     *
+     * @param idOrigem O ID da pessoa duplicada, que será excluída.
+     * @param idDestino O ID da pessoa que receberá os contatos.
+     * @return O DTO {@link PessoaDTO} da pessoa de destino.
+     */
+    public PessoaDTO mesclar(Long idOrigem, Long idDestino) {
+        if (idOrigem == null || idDestino == null) {
+            throw new CampoNotNullException("Erro! Os IDs das pessoas não podem ser nulos.");
+        }
+
+        if (idOrigem.equals(idDestino)) {
+            throw new FormatoInvalidoException("Erro! A pessoa de origem e a de destino devem ser diferentes.");
+        }
+
+        PessoaDTO destino = transactionTemplate.execute(status -> {
+            PessoaDTO pessoaOrigem = pessoaRepository.findDTOById(idOrigem)
+                    .orElseThrow(() -> new IdNotFoundException("Pessoa com ID " + idOrigem + " não encontrada"));
+
+            PessoaDTO pessoaDestino = pessoaRepository.findDTOById(idDestino)
+                    .orElseThrow(() -> new IdNotFoundException("Pessoa com ID " + idDestino + " não encontrada"));
+
+            contatoRepository.moverContatos(idOrigem, idDestino);
+            pessoaRepository.excluirPorId(idOrigem);
+            consultasPessoa.esquecer(idOrigem);
+            contatoService.esquecerContatos(idOrigem);
+            contatoService.esquecerContatos(idDestino);
+
+            // Os contatos continuam existindo, apenas com outra pessoa: só a origem é descontada
+            estatisticaService.removerPessoa(RegrasValidacao.buscarEstado(pessoaOrigem.getUf()), pessoaOrigem.getCidade(), List.of());
+            return pessoaDestino;
+        });
+
+        pessoaSearchIndex.remover(idOrigem);
+        return destino;
+    }
+
+    // Como no saveLote, o índice de busca só muda depois do commit: se a transação for desfeita, ele continua igual ao banco
+    private void aposCommit(Runnable alteracao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    alteracao.run();
+                }
+            });
+        } else {
+            alteracao.run();
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package br.com.taina.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Junta consultas concorrentes com a mesma chave em uma única ida ao banco (single-flight).
+ *
+ * <p>A primeira chamada para uma chave executa a consulta; as que chegam enquanto ela está em andamento esperam e
+ * recebem o mesmo resultado, ou a mesma exceção. Quando a consulta termina a chave é liberada, então nada fica
+ * guardado: a chamada seguinte consulta de novo. O resultado é compartilhado entre as chamadas e não deve ser
+ * alterado por quem o recebe.</p>
+ *
+ * <p>Quem espera não abre transação nem ocupa conexão, por isso os métodos que usam o single-flight não são
+ * {@code @Transactional}. Para que uma leitura feita logo depois de uma alteração não receba o resultado de uma
+ * consulta iniciada antes dela, as alterações chamam {@link #esquecer(Object)}, que libera a chave depois do commit.</p>
+ *
+ * @param <K> Tipo da chave da consulta.
+ * @param <V> Tipo do resultado da consulta.
+ */
+final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> emAndamento = new ConcurrentHashMap<>();
+
+    /**
+     * Executa a consulta ou, se já houver uma em andamento para a chave, espera o resultado dela.
+     *
+     * @param chave A chave que identifica a consulta.
+     * @param consulta A consulta, executada apenas pela primeira chamada.
+     * @return O resultado da consulta.
+     */
+    V executar(K chave, Supplier<V> consulta) {
+        CompletableFuture<V> voo = new CompletableFuture<>();
+        CompletableFuture<V> existente = emAndamento.putIfAbsent(chave, voo);
+        if (existente != null) {
+            return aguardar(existente);
+        }
+
+        try {
+            V resultado = consulta.get();
+            voo.complete(resultado);
+            return resultado;
+        } catch (RuntimeException | Error e) {
+            voo.completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, voo);
+        }
+    }
+
+    /**
+     * Libera a chave para que as próximas chamadas façam uma nova consulta, em vez de esperar a que está em
+     * andamento. Dentro de uma transação, a chave é liberada depois do commit.
+     *
+     * @param chave A chave dos dados alterados.
+     */
+    void esquecer(K chave) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    emAndamento.remove(chave);
+                }
+            });
+        } else {
+            emAndamento.remove(chave);
+        }
+    }
+
+    private static <V> V aguardar(CompletableFuture<V> voo) {
+        try {
+            return voo.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException excecao) {
+                throw excecao;
+            }
+            if (e.getCause() instanceof Error erro) {
+                throw erro;
+            }
+            throw e;
+        }
+    }
+}
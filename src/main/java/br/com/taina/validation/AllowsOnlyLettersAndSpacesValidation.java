@@ -8,7 +8,7 @@ import jakarta.validation.ConstraintValidatorContext;
  * Validador customizado para a anotação {@link AllowsOnlyLettersAndSpaces}.
  *
  * Esta classe é responsável por validar se o valor de uma string contém apenas letras (maiúsculas e minúsculas),
- * incluindo caracteres acentuados, e espaços em branco. A validação é feita por meio de uma expressão regular
+ * incluindo caracteres acentuados, e espaços em branco. A validação é feita pelo {@link RegrasValidacao},
  * que permite letras e espaços, mas impede números e outros caracteres especiais.
  *
  * A anotação é útil em casos em que você deseja garantir que o valor de um campo seja composto apenas por letras
@@ -28,9 +28,6 @@ public class AllowsOnlyLettersAndSpacesValidation implements ConstraintValidator
 
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
-        if (value != null) {
-            return value.matches("^[A-Za-záàãâéèêíóôúçÁÀÂÉÊÍÓÔÚÇ\\s]+$");
-        }
-        return true;
+        return value == null || RegrasValidacao.isSomenteLetrasEEspacos(value);
     }
 }
@@ -1,11 +1,10 @@
 package br.com.taina.validation;
 
-import java.util.regex.Pattern;
-
 import org.springframework.stereotype.Component;
 
 import br.com.taina.dto.ContatoDTO;
 import br.com.taina.enums.TipoContato;
+import br.com.taina.exception.CampoNotNullException;
 import br.com.taina.exception.FormatoInvalidoException;
 
 /**
@@ -15,52 +14,42 @@ import br.com.taina.exception.FormatoInvalidoException;
 @Component
 public class ContatoValidation {
 
-    
-    private static final String regexCelularETelefoneFixo = "^\\d{10,11}$";
-
-    
-    private static final String regexEmail = "^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$";
-
-    
-    private static final String regexLinkedIn = "^(https?:\\/\\/)?(www\\.)?linkedin\\.com\\/in\\/([a-zA-Z0-9-]+)$";
-
-    
-    private boolean isTelefoneValido(String telefone) {
-        return !Pattern.matches(regexCelularETelefoneFixo, telefone);
-    }
-
-    
-    private boolean isEmailValido(String email) {
-        return !Pattern.matches(regexEmail, email);
-    }
-
-  
-    private boolean isLinkedlnValido(String linkedIn) {
-        return !Pattern.matches(regexLinkedIn, linkedIn);
-    }
-
     /**
      * Método principal para validar um objeto ContatoDTO.
      * Verifica se o tipo de contato, o contato em si e o formato do contato estão válidos.
      * @param contatoDTO Objeto contendo os dados do contato a ser validado.
      */
     public void validarContato(ContatoDTO contatoDTO) {
-        switch (TipoContato.valueOf(contatoDTO.getTipoContato().trim().toUpperCase())) {
+        if (contatoDTO.getTipoContato() == null) {
+            throw new CampoNotNullException("Erro! O tipo de contato não pode ser nulo ou vazio.");
+        }
+        if (contatoDTO.getContato() == null) {
+            throw new CampoNotNullException("Erro! O contato não pode ser nulo ou vazio.");
+        }
+
+        TipoContato tipoContato;
+        try {
+            tipoContato = RegrasValidacao.converterTipoContato(contatoDTO.getTipoContato());
+        } catch (IllegalArgumentException e) {
+            throw new FormatoInvalidoException("Erro! Tipo de contato inválido. Use TELEFONE_FIXO, CELULAR, EMAIL ou LINKEDIN.");
+        }
+
+        switch (tipoContato) {
             case CELULAR:
             case TELEFONE_FIXO:
-                if (isTelefoneValido(contatoDTO.getContato())) {
+                if (!RegrasValidacao.isTelefoneValido(contatoDTO.getContato())) {
                     throw new FormatoInvalidoException("Erro! Formato inválido. Insira um telefone válido, incluindo o DDD.");
                 }
                 break;
 
             case EMAIL:
-                if (isEmailValido(contatoDTO.getContato())) {
+                if (!RegrasValidacao.isEmailValido(contatoDTO.getContato())) {
                     throw new FormatoInvalidoException("Erro! Formato inválido. Insira um e-mail válido! Exemplo: teste@email.com");
                 }
                 break;
 
             case LINKEDIN:
-                if (isLinkedlnValido(contatoDTO.getContato())) {
+                if (!RegrasValidacao.isLinkedInValido(contatoDTO.getContato())) {
                     throw new FormatoInvalidoException("Erro! O formato do LinkedIn está inválido. Use um formato correto, como: www.linkedin.com/in/usuario-linkedin");
                 }
                 break;
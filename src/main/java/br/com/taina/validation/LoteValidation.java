@@ -0,0 +1,104 @@
+package br.com.taina.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.exception.FormatoInvalidoException;
+import br.com.taina.exception.LoteInvalidoException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Classe responsável pela validação dos itens de um cadastro em lote.
+ * Todos os itens são validados antes de qualquer gravação no banco, usando as mesmas annotations dos DTOs
+ * e as regras da classe {@link ContatoValidation}. Os erros de todos os itens são reunidos e lançados juntos
+ * em uma {@link LoteInvalidoException}, identificando cada item pela sua posição no lote. Exemplo: "[2].nome: Erro!..."
+ */
+@Component
+public class LoteValidation {
+
+    @Autowired
+    Validator validator;
+
+    @Autowired
+    ContatoValidation contatoValidation;
+
+    /**
+     * Valida uma lista de pessoas e os contatos aninhados de cada uma.
+     *
+     * @param pessoasDTO Lista de pessoas a serem validadas.
+     */
+    public void validarPessoas(List<PessoaDTO> pessoasDTO) {
+        List<String> erros = new ArrayList<>();
+
+        for (int i = 0; i < pessoasDTO.size(); i++) {
+            PessoaDTO pessoaDTO = pessoasDTO.get(i);
+            String posicao = "[" + i + "]";
+
+            if (pessoaDTO == null) {
+                erros.add(posicao + ": Erro! A pessoa não pode ser nula.");
+                continue;
+            }
+
+            for (ConstraintViolation<PessoaDTO> violacao : validator.validate(pessoaDTO)) {
+                erros.add(posicao + "." + violacao.getPropertyPath() + ": " + violacao.getMessage());
+            }
+
+            if (pessoaDTO.getContatos() != null) {
+                for (int j = 0; j < pessoaDTO.getContatos().size(); j++) {
+                    validarContato(pessoaDTO.getContatos().get(j), posicao + ".contatos[" + j + "]", erros);
+                }
+            }
+        }
+
+        if (!erros.isEmpty()) {
+            throw new LoteInvalidoException(erros);
+        }
+    }
+
+    /**
+     * Valida uma lista de contatos que serão associados a uma mesma pessoa.
+     *
+     * @param contatosDTO Lista de contatos a serem validados.
+     */
+    public void validarContatos(List<ContatoDTO> contatosDTO) {
+        List<String> erros = new ArrayList<>();
+
+        for (int i = 0; i < contatosDTO.size(); i++) {
+            validarContato(contatosDTO.get(i), "[" + i + "]", erros);
+        }
+
+        if (!erros.isEmpty()) {
+            throw new LoteInvalidoException(erros);
+        }
+    }
+
+    // O idPessoa não é validado aqui, pois nos lotes ele vem da pessoa que agrupa os contatos
+    private void validarContato(ContatoDTO contatoDTO, String posicao, List<String> erros) {
+        if (contatoDTO == null) {
+            erros.add(posicao + ": Erro! O contato não pode ser nulo.");
+            return;
+        }
+
+        int quantidadeErros = erros.size();
+        for (String campo : List.of("tipoContato", "contato")) {
+            for (ConstraintViolation<ContatoDTO> violacao : validator.validateProperty(contatoDTO, campo)) {
+                erros.add(posicao + "." + campo + ": " + violacao.getMessage());
+            }
+        }
+
+        // Só valida o formato quando o tipo e o contato estão preenchidos corretamente
+        if (erros.size() == quantidadeErros) {
+            try {
+                contatoValidation.validarContato(contatoDTO);
+            } catch (FormatoInvalidoException e) {
+                erros.add(posicao + ".contato: " + e.getMessage());
+            }
+        }
+    }
+}
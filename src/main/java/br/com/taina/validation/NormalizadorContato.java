@@ -0,0 +1,97 @@
+package br.com.taina.validation;
+
+import java.util.Locale;
+
+import br.com.taina.enums.TipoContato;
+
+/**
+ * Converte um contato para a sua forma canônica, usada na busca reversa (de um telefone, e-mail ou LinkedIn para a
+ * pessoa dona do contato). Segue as mesmas regras do {@link ContatoValidation}:
+ *
+ * <ul>
+ *   <li>CELULAR e TELEFONE_FIXO: apenas os dígitos, com DDD e sem o código do país (55) nem o zero de discagem;</li>
+ *   <li>EMAIL: sem espaços nas pontas e em minúsculas;</li>
+ *   <li>LINKEDIN: a URL canônica https://www.linkedin.com/in/usuario, em minúsculas.</li>
+ * </ul>
+ */
+public final class NormalizadorContato {
+
+    private static final String PREFIXO_LINKEDIN = "https://www.linkedin.com/in/";
+    private static final String CAMINHO_LINKEDIN = "linkedin.com/in/";
+
+    // Quantidade máxima de dígitos de um telefone com DDD aceita pelo ContatoValidation
+    private static final int DIGITOS_TELEFONE = 11;
+
+    private NormalizadorContato() {}
+
+    /**
+     * Normaliza um contato de acordo com o seu tipo.
+     *
+     * @param tipoContato O tipo do contato.
+     * @param contato O valor do contato.
+     * @return O contato normalizado, ou nulo se o tipo ou o valor forem nulos.
+     */
+    public static String normalizar(TipoContato tipoContato, String contato) {
+        if (tipoContato == null || contato == null) {
+            return null;
+        }
+
+        return switch (tipoContato) {
+            case CELULAR, TELEFONE_FIXO -> normalizarTelefone(contato);
+            case EMAIL -> contato.trim().toLowerCase(Locale.ROOT);
+            case LINKEDIN -> normalizarLinkedIn(contato);
+        };
+    }
+
+    /**
+     * Deduz o tipo de um valor recebido sem tipo: e-mail se tiver '@', LinkedIn se tiver "linkedin.com"
+     * e telefone nos demais casos.
+     *
+     * @param contato O valor do contato.
+     * @return O tipo deduzido. Para telefones retorna CELULAR, que tem a mesma normalização de TELEFONE_FIXO.
+     */
+    public static TipoContato deduzirTipo(String contato) {
+        if (contato.indexOf('@') >= 0) {
+            return TipoContato.EMAIL;
+        }
+        if (contato.toLowerCase(Locale.ROOT).contains("linkedin.com")) {
+            return TipoContato.LINKEDIN;
+        }
+        return TipoContato.CELULAR;
+    }
+
+    private static String normalizarTelefone(String telefone) {
+        StringBuilder digitos = new StringBuilder(telefone.length());
+        for (int i = 0; i < telefone.length(); i++) {
+            char caractere = telefone.charAt(i);
+            if (caractere >= '0' && caractere <= '9') {
+                digitos.append(caractere);
+            }
+        }
+
+        // +55 (11) 97451-0710 e 0 11 97451-0710 viram 11974510710
+        if (digitos.length() > DIGITOS_TELEFONE && digitos.charAt(0) == '5' && digitos.charAt(1) == '5') {
+            digitos.delete(0, 2);
+        }
+        while (digitos.length() > DIGITOS_TELEFONE - 1 && digitos.charAt(0) == '0') {
+            digitos.deleteCharAt(0);
+        }
+        return digitos.toString();
+    }
+
+    private static String normalizarLinkedIn(String linkedIn) {
+        String valor = linkedIn.trim().toLowerCase(Locale.ROOT);
+
+        int inicioCaminho = valor.indexOf(CAMINHO_LINKEDIN);
+        if (inicioCaminho < 0) {
+            return valor;
+        }
+
+        String usuario = valor.substring(inicioCaminho + CAMINHO_LINKEDIN.length());
+        int fimUsuario = 0;
+        while (fimUsuario < usuario.length() && "/?#".indexOf(usuario.charAt(fimUsuario)) < 0) {
+            fimUsuario++;
+        }
+        return PREFIXO_LINKEDIN + usuario.substring(0, fimUsuario);
+    }
+}
@@ -0,0 +1,318 @@
+package br.com.taina.validation;
+
+import java.util.Arrays;
+
+import br.com.taina.enums.Estados;
+import br.com.taina.enums.TipoContato;
+
+/**
+ * Regras de validação compartilhadas pelos validadores das anotações customizadas, pelo {@link ContatoValidation}
+ * e pelos services.
+ *
+ * As regras são verificadas percorrendo os caracteres da entrada, sem expressões regulares, e a conversão de UF e
+ * de tipo de contato é feita por tabelas montadas uma única vez. Assim nenhuma chamada aloca memória quando a
+ * entrada é válida. Cada método aceita exatamente o mesmo que a expressão regular que substituiu, indicada na
+ * documentação do método.
+ */
+public final class RegrasValidacao {
+
+    // Letras acentuadas aceitas em nomes, endereços e cidades, todas no intervalo Latin-1
+    private static final String LETRAS_ACENTUADAS = "áàãâéèêíóôúçÁÀÂÉÊÍÓÔÚÇ";
+    private static final boolean[] LETRAS_LATIN1 = new boolean[256];
+
+    // UFs indexadas pelas duas letras: (primeira - 'A') * 26 + (segunda - 'A')
+    private static final Estados[] ESTADOS = new Estados[26 * 26];
+
+    // Tipos de contato agrupados pelo tamanho do nome
+    private static final TipoContato[][] TIPOS_POR_TAMANHO;
+
+    private static final String HTTP = "http://";
+    private static final String HTTPS = "https://";
+    private static final String WWW = "www.";
+    private static final String CAMINHO_LINKEDIN = "linkedin.com/in/";
+
+    static {
+        for (char letra = 'A'; letra <= 'Z'; letra++) {
+            LETRAS_LATIN1[letra] = true;
+            LETRAS_LATIN1[letra + ('a' - 'A')] = true;
+        }
+        for (int i = 0; i < LETRAS_ACENTUADAS.length(); i++) {
+            LETRAS_LATIN1[LETRAS_ACENTUADAS.charAt(i)] = true;
+        }
+
+        for (Estados estado : Estados.values()) {
+            ESTADOS[indiceEstado(estado.name().charAt(0), estado.name().charAt(1))] = estado;
+        }
+
+        int maiorNome = 0;
+        for (TipoContato tipo : TipoContato.values()) {
+            maiorNome = Math.max(maiorNome, tipo.name().length());
+        }
+        TIPOS_POR_TAMANHO = new TipoContato[maiorNome + 1][0];
+        for (TipoContato tipo : TipoContato.values()) {
+            TipoContato[] tipos = TIPOS_POR_TAMANHO[tipo.name().length()];
+            TipoContato[] novos = Arrays.copyOf(tipos, tipos.length + 1);
+            novos[tipos.length] = tipo;
+            TIPOS_POR_TAMANHO[tipo.name().length()] = novos;
+        }
+    }
+
+    private RegrasValidacao() {}
+
+    /**
+     * Busca a UF pelo nome, sem diferenciar maiúsculas de minúsculas.
+     *
+     * @param valor A sigla da UF.
+     * @return A UF correspondente, ou nulo se o valor for nulo ou não for uma UF válida.
+     */
+    public static Estados buscarEstado(String valor) {
+        return valor == null ? null : estado(valor, 0, valor.length());
+    }
+
+    /**
+     * Converte a sigla da UF, ignorando espaços nas pontas e sem diferenciar maiúsculas de minúsculas.
+     * Equivale a {@code Estados.valueOf(valor.trim().toUpperCase())}.
+     *
+     * @param valor A sigla da UF.
+     * @return A UF correspondente.
+     * @throws IllegalArgumentException Se o valor não for uma UF válida.
+     */
+    public static Estados converterEstado(String valor) {
+        int inicio = inicioSemEspacos(valor);
+        Estados estado = estado(valor, inicio, fimSemEspacos(valor, inicio));
+        if (estado == null) {
+            throw new IllegalArgumentException("UF inválida: " + valor);
+        }
+        return estado;
+    }
+
+    /**
+     * Busca o tipo de contato pelo nome, sem diferenciar maiúsculas de minúsculas.
+     *
+     * @param valor O nome do tipo de contato.
+     * @return O tipo correspondente, ou nulo se o valor for nulo ou não for um tipo válido.
+     */
+    public static TipoContato buscarTipoContato(String valor) {
+        return valor == null ? null : tipoContato(valor, 0, valor.length());
+    }
+
+    /**
+     * Converte o nome do tipo de contato, ignorando espaços nas pontas e sem diferenciar maiúsculas de minúsculas.
+     * Equivale a {@code TipoContato.valueOf(valor.trim().toUpperCase())}.
+     *
+     * @param valor O nome do tipo de contato.
+     * @return O tipo correspondente.
+     * @throws IllegalArgumentException Se o valor não for um tipo de contato válido.
+     */
+    public static TipoContato converterTipoContato(String valor) {
+        int inicio = inicioSemEspacos(valor);
+        TipoContato tipo = tipoContato(valor, inicio, fimSemEspacos(valor, inicio));
+        if (tipo == null) {
+            throw new IllegalArgumentException("Tipo de contato inválido: " + valor);
+        }
+        return tipo;
+    }
+
+    /**
+     * Verifica o formato do CEP, com ou sem hífen. Equivale a {@code \d{5}-?\d{3}}.
+     */
+    public static boolean isCepValido(String cep) {
+        int tamanho = cep.length();
+        if (tamanho == 8) {
+            return isDigitos(cep, 0, 8);
+        }
+        return tamanho == 9 && cep.charAt(5) == '-' && isDigitos(cep, 0, 5) && isDigitos(cep, 6, 9);
+    }
+
+    /**
+     * Verifica se o valor tem apenas letras, letras acentuadas e espaços.
+     * Equivale a {@code ^[A-Za-záàãâéèêíóôúçÁÀÂÉÊÍÓÔÚÇ\s]+$}.
+     */
+    public static boolean isSomenteLetrasEEspacos(String valor) {
+        int tamanho = valor.length();
+        if (tamanho == 0) {
+            return false;
+        }
+        for (int i = 0; i < tamanho; i++) {
+            char caractere = valor.charAt(i);
+            if (!(caractere < LETRAS_LATIN1.length && LETRAS_LATIN1[caractere]) && !isEspaco(caractere)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifica se o telefone tem o DDD e apenas dígitos. Equivale a {@code ^\d{10,11}$}.
+     */
+    public static boolean isTelefoneValido(String telefone) {
+        int tamanho = telefone.length();
+        return (tamanho == 10 || tamanho == 11) && isDigitos(telefone, 0, tamanho);
+    }
+
+    /**
+     * Verifica o formato do e-mail. Equivale a
+     * {@code ^[a-zA-Z0-9_+&*-]+(?:\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\.)+[a-zA-Z]{2,7}$}:
+     * partes do usuário e do domínio não vazias, separadas por ponto, e domínio terminando em 2 a 7 letras.
+     */
+    public static boolean isEmailValido(String email) {
+        int arroba = email.indexOf('@');
+        if (arroba <= 0) {
+            return false;
+        }
+
+        // Usuário: partes não vazias de [a-zA-Z0-9_+&*-] separadas por ponto
+        boolean parteVazia = true;
+        for (int i = 0; i < arroba; i++) {
+            char caractere = email.charAt(i);
+            if (caractere == '.') {
+                if (parteVazia) {
+                    return false;
+                }
+                parteVazia = true;
+            } else if (isAlfanumerico(caractere) || caractere == '_' || caractere == '+' || caractere == '&'
+                    || caractere == '*' || caractere == '-') {
+                parteVazia = false;
+            } else {
+                return false;
+            }
+        }
+        if (parteVazia) {
+            return false;
+        }
+
+        // Domínio: ao menos um rótulo de [a-zA-Z0-9-] seguido de ponto e a extensão final com 2 a 7 letras
+        int ultimoPonto = email.lastIndexOf('.');
+        if (ultimoPonto <= arroba + 1) {
+            return false;
+        }
+        parteVazia = true;
+        for (int i = arroba + 1; i < ultimoPonto; i++) {
+            char caractere = email.charAt(i);
+            if (caractere == '.') {
+                if (parteVazia) {
+                    return false;
+                }
+                parteVazia = true;
+            } else if (isAlfanumerico(caractere) || caractere == '-') {
+                parteVazia = false;
+            } else {
+                return false;
+            }
+        }
+        if (parteVazia) {
+            return false;
+        }
+
+        int tamanhoExtensao = email.length() - ultimoPonto - 1;
+        if (tamanhoExtensao < 2 || tamanhoExtensao > 7) {
+            return false;
+        }
+        for (int i = ultimoPonto + 1; i < email.length(); i++) {
+            if (!isLetra(email.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Verifica o formato do LinkedIn. Equivale a
+     * {@code ^(https?:\/\/)?(www\.)?linkedin\.com\/in\/([a-zA-Z0-9-]+)$}.
+     */
+    public static boolean isLinkedInValido(String linkedIn) {
+        int posicao = 0;
+        if (linkedIn.startsWith(HTTPS)) {
+            posicao = HTTPS.length();
+        } else if (linkedIn.startsWith(HTTP)) {
+            posicao = HTTP.length();
+        }
+        if (linkedIn.startsWith(WWW, posicao)) {
+            posicao += WWW.length();
+        }
+        if (!linkedIn.startsWith(CAMINHO_LINKEDIN, posicao)) {
+            return false;
+        }
+        posicao += CAMINHO_LINKEDIN.length();
+
+        if (posicao == linkedIn.length()) {
+            return false;
+        }
+        for (int i = posicao; i < linkedIn.length(); i++) {
+            char caractere = linkedIn.charAt(i);
+            if (!isAlfanumerico(caractere) && caractere != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Estados estado(String valor, int inicio, int fim) {
+        if (fim - inicio != 2) {
+            return null;
+        }
+        char primeira = Character.toUpperCase(valor.charAt(inicio));
+        char segunda = Character.toUpperCase(valor.charAt(inicio + 1));
+        if (primeira < 'A' || primeira > 'Z' || segunda < 'A' || segunda > 'Z') {
+            return null;
+        }
+        return ESTADOS[indiceEstado(primeira, segunda)];
+    }
+
+    private static TipoContato tipoContato(String valor, int inicio, int fim) {
+        int tamanho = fim - inicio;
+        if (tamanho >= TIPOS_POR_TAMANHO.length) {
+            return null;
+        }
+        for (TipoContato tipo : TIPOS_POR_TAMANHO[tamanho]) {
+            if (tipo.name().regionMatches(true, 0, valor, inicio, tamanho)) {
+                return tipo;
+            }
+        }
+        return null;
+    }
+
+    private static int indiceEstado(char primeira, char segunda) {
+        return (primeira - 'A') * 26 + (segunda - 'A');
+    }
+
+    // Mesmo critério de String.trim(): caracteres até o espaço (U+0020)
+    private static int inicioSemEspacos(String valor) {
+        int inicio = 0;
+        while (inicio < valor.length() && valor.charAt(inicio) <= ' ') {
+            inicio++;
+        }
+        return inicio;
+    }
+
+    private static int fimSemEspacos(String valor, int inicio) {
+        int fim = valor.length();
+        while (fim > inicio && valor.charAt(fim - 1) <= ' ') {
+            fim--;
+        }
+        return fim;
+    }
+
+    private static boolean isDigitos(String valor, int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            char caractere = valor.charAt(i);
+            if (caractere < '0' || caractere > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLetra(char caractere) {
+        return (caractere >= 'a' && caractere <= 'z') || (caractere >= 'A' && caractere <= 'Z');
+    }
+
+    private static boolean isAlfanumerico(char caractere) {
+        return isLetra(caractere) || (caractere >= '0' && caractere <= '9');
+    }
+
+    // Mesmos caracteres de \s nas expressões regulares do Java: [ \t\n\x0B\f\r]
+    private static boolean isEspaco(char caractere) {
+        return caractere == ' ' || (caractere >= '\t' && caractere <= '\r');
+    }
+}
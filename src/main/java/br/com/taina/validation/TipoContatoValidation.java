@@ -5,8 +5,6 @@ import br.com.taina.validation.constraint.TipoContatoValid;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-import java.util.List;
-
 /**
  * Classe responsável por validar o campo de tipo de contato em uma String.
  * Esta classe implementa a interface {@link ConstraintValidator}, que valida o valor de uma String
@@ -28,17 +26,7 @@ public class TipoContatoValidation implements ConstraintValidator<TipoContatoVal
 
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
-
-        List<TipoContato> tipoContato = List.of(TipoContato.values());
-
-        if (value != null) {
-            try {
-                // Verifica se o valor fornecido corresponde a um dos tipos de contato definidos na enum.
-                return tipoContato.contains(TipoContato.valueOf(value.toUpperCase()));
-            } catch (IllegalArgumentException e) {
-                return false;
-            }
-        }
-        return true;
+        // Verifica se o valor fornecido corresponde a um dos tipos de contato definidos na enum.
+        return value == null || RegrasValidacao.buscarTipoContato(value) != null;
     }
 }
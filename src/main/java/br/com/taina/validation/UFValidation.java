@@ -5,8 +5,6 @@ import br.com.taina.validation.constraint.UFValid;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 
-import java.util.List;
-
 /**
  * Classe responsável por validar o campo de Unidade Federativa (UF) em uma String.
  * Esta classe implementa a interface {@link ConstraintValidator}, que valida o valor de uma String
@@ -28,17 +26,7 @@ public class UFValidation implements ConstraintValidator<UFValid, String> {
 
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
-
-        List<Estados> estados = List.of(Estados.values());
-
-        if (value != null) {
-            try {
-                // Verifica se o valor fornecido corresponde a uma UF válida da enum Estados.
-                return estados.contains(Estados.valueOf(value.toUpperCase()));
-            } catch (IllegalArgumentException e) {
-                return false;
-            }
-        }
-        return true;
+        // Verifica se o valor fornecido corresponde a uma UF válida da enum Estados.
+        return value == null || RegrasValidacao.buscarEstado(value) != null;
     }
 }
@@ -0,0 +1,29 @@
+-- Schema inicial, igual ao gerado pelo Hibernate a partir das entidades Pessoa e Contato
+
+-- Sequences com incremento 50, o mesmo allocationSize das entidades (inserts em lote com JDBC batch)
+CREATE SEQUENCE pessoa_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE contato_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE pessoa (
+    id BIGINT NOT NULL,
+    nome VARCHAR(100) NOT NULL,
+    endereco VARCHAR(150),
+    numero_casa VARCHAR(8),
+    cep VARCHAR(8),
+    cidade VARCHAR(50),
+    uf ENUM ('AC','AL','AM','AP','BA','CE','DF','ES','GO','MA','MG','MS','MT','PA','PB','PE','PI','PR','RJ','RN','RO','RR','RS','SC','SE','SP','TO'),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE contato (
+    id BIGINT NOT NULL,
+    tipo_contato ENUM ('CELULAR','EMAIL','LINKEDIN','TELEFONE_FIXO') NOT NULL,
+    contato VARCHAR(50) NOT NULL,
+    contato_normalizado VARCHAR(100),
+    id_pessoa BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_contato_pessoa FOREIGN KEY (id_pessoa) REFERENCES pessoa (id)
+);
+
+-- Busca de contatos pelo valor normalizado (GET /api/contatos/lookup)
+CREATE INDEX idx_contato_normalizado ON contato (contato_normalizado);
@@ -0,0 +1,12 @@
+-- Índices das colunas usadas nos filtros das consultas
+
+-- Contatos de uma pessoa (listagem, exclusão em cascata e mescla). A chave estrangeira é recriada depois do
+-- índice para que o H2 use o idx_contato_pessoa nela, em vez de manter um segundo índice na mesma coluna
+ALTER TABLE contato DROP CONSTRAINT fk_contato_pessoa;
+CREATE INDEX idx_contato_pessoa ON contato (id_pessoa);
+ALTER TABLE contato ADD CONSTRAINT fk_contato_pessoa FOREIGN KEY (id_pessoa) REFERENCES pessoa (id);
+
+-- Segmentos da mala direta e filtros da listagem de pessoas
+CREATE INDEX idx_pessoa_uf_cidade ON pessoa (uf, cidade);
+CREATE INDEX idx_pessoa_cidade ON pessoa (cidade);
+CREATE INDEX idx_pessoa_cep ON pessoa (cep);
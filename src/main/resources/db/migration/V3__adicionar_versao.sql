@@ -0,0 +1,4 @@
+-- Versão de cada registro, incrementada pelo Hibernate (@Version) a cada alteração.
+-- Usada nos ETags das consultas e para recusar atualizações concorrentes (If-Match e bloqueio otimista)
+ALTER TABLE pessoa ADD COLUMN versao BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE contato ADD COLUMN versao BIGINT DEFAULT 0 NOT NULL;
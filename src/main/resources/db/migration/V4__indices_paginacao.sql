@@ -0,0 +1,8 @@
+-- Índices da listagem paginada de pessoas filtrada por UF e/ou cidade. Terminam no ID para que a página seja lida
+-- direto do índice, a partir do cursor e já na ordem, sem percorrer nem ordenar as outras pessoas do filtro.
+-- Os índices de UF e cidade continuam servindo aos segmentos da mala direta, que usam as mesmas colunas iniciais
+DROP INDEX idx_pessoa_uf_cidade;
+CREATE INDEX idx_pessoa_uf_cidade ON pessoa (uf, cidade, id);
+DROP INDEX idx_pessoa_cidade;
+CREATE INDEX idx_pessoa_cidade ON pessoa (cidade, id);
+CREATE INDEX idx_pessoa_uf ON pessoa (uf, id);
@@ -0,0 +1,86 @@
+package br.com.taina;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.Table;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.model.Contato;
+import br.com.taina.model.Pessoa;
+import br.com.taina.service.PessoaService;
+
+/**
+ * Aplica as migrations do Flyway em um banco vazio, como no profile 'prod', com o Hibernate apenas validando o schema.
+ * Se alguma entidade não corresponder às migrations, o contexto não sobe.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migracao",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+class MigracaoSchemaTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Test
+    void deveAplicarTodasAsMigrationsEValidarAsEntidades() {
+        assertEquals(0, flyway.info().pending().length);
+        assertTrue(flyway.info().applied().length > 0);
+        for (MigrationInfo migration : flyway.info().applied()) {
+            assertTrue(migration.getState().isApplied(), migration.getScript());
+        }
+    }
+
+    @Test
+    void deveCriarAsSequencesComOMesmoIncrementoDasEntidades() {
+        List<Long> incrementos = jdbcTemplate.queryForList(
+                "SELECT INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME IN ('PESSOA_SEQ', 'CONTATO_SEQ')",
+                Long.class);
+        assertEquals(List.of(50L, 50L), incrementos);
+    }
+
+    @Test
+    void deveCriarOsMesmosIndicesDeclaradosNasEntidades() {
+        Set<String> declarados = Stream.of(Pessoa.class, Contato.class)
+                .flatMap(entidade -> Arrays.stream(entidade.getAnnotation(Table.class).indexes()))
+                .map(indice -> indice.name().toUpperCase())
+                .collect(Collectors.toSet());
+        Set<String> criados = Set.copyOf(jdbcTemplate.queryForList(
+                "SELECT INDEX_NAME FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME LIKE 'IDX\\_%'", String.class));
+
+        assertEquals(declarados, criados);
+    }
+
+    @Test
+    void deveGravarPessoaComContatosNoSchemaDasMigrations() {
+        PessoaDTO pessoa = new PessoaDTO(null, "Maria Migracao", "Rua das Flores", "10", "06700000", "Cotia", "SP");
+        pessoa.setContatos(List.of(new ContatoDTO(null, "CELULAR", "11974510719", null)));
+
+        PessoaDTO salva = pessoaService.saveLote(List.of(pessoa)).get(0);
+
+        assertEquals("Maria Migracao", pessoaService.findById(salva.getId()).getNome());
+        assertEquals("11974510719", jdbcTemplate.queryForObject(
+                "SELECT contato_normalizado FROM contato WHERE id_pessoa = ?", String.class, salva.getId()));
+    }
+}
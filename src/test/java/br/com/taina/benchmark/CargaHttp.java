@@ -0,0 +1,114 @@
+package br.com.taina.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Gerador de carga HTTP usado pelos testes de carga: clientes simultâneos, cada um em uma virtual thread, repetem
+ * requisições até o fim do tempo de medição. Como os clientes são sempre os mesmos, só o servidor muda entre as
+ * medições de um teste.
+ */
+final class CargaHttp {
+
+    private CargaHttp() {}
+
+    /**
+     * Executa a carga e mede vazão e latências.
+     *
+     * @param porta Porta da aplicação em localhost.
+     * @param clientes Quantidade de clientes simultâneos.
+     * @param duracao Tempo de execução da carga.
+     * @param caminho Escolhe o caminho de cada requisição, a partir do gerador aleatório do cliente.
+     * @return A vazão, as latências p50 e p99 e a quantidade de respostas diferentes de 200.
+     */
+    static Resultado executar(int porta, int clientes, Duration duracao,
+                              Function<ThreadLocalRandom, String> caminho) throws Exception {
+        return executar(clientes, duracao, random -> HttpRequest.newBuilder(URI.create("http://localhost:" + porta + caminho.apply(random)))
+                .timeout(Duration.ofSeconds(30)).build(), 200);
+    }
+
+    /**
+     * Executa a carga com requisições montadas pelo teste, por exemplo POST com corpo, e mede vazão e latências.
+     *
+     * @param clientes Quantidade de clientes simultâneos.
+     * @param duracao Tempo de execução da carga.
+     * @param requisicao Monta cada requisição, a partir do gerador aleatório do cliente.
+     * @param statusEsperado Status HTTP das respostas de sucesso.
+     * @return A vazão, as latências p50 e p99 e a quantidade de respostas com outro status.
+     */
+    static Resultado executar(int clientes, Duration duracao, Function<ThreadLocalRandom, HttpRequest> requisicao,
+                              int statusEsperado) throws Exception {
+        AtomicBoolean executando = new AtomicBoolean(true);
+        LongAdder erros = new LongAdder();
+        List<Future<long[]>> latenciasPorCliente = new ArrayList<>(clientes);
+
+        try (HttpClient cliente = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long inicio = System.nanoTime();
+            for (int i = 0; i < clientes; i++) {
+                latenciasPorCliente.add(executor.submit(() -> {
+                    long[] latencias = new long[1024];
+                    int quantidade = 0;
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (executando.get()) {
+                        HttpRequest proxima = requisicao.apply(random);
+
+                        long antes = System.nanoTime();
+                        try {
+                            HttpResponse<Void> resposta = cliente.send(proxima, HttpResponse.BodyHandlers.discarding());
+                            if (resposta.statusCode() != statusEsperado) {
+                                erros.increment();
+                            }
+                        } catch (Exception e) {
+                            erros.increment();
+                        }
+                        if (quantidade == latencias.length) {
+                            latencias = Arrays.copyOf(latencias, quantidade * 2);
+                        }
+                        latencias[quantidade++] = System.nanoTime() - antes;
+                    }
+                    return Arrays.copyOf(latencias, quantidade);
+                }));
+            }
+
+            Thread.sleep(duracao);
+            executando.set(false);
+            long[] todas = latenciasPorCliente.stream().map(CargaHttp::obter).flatMapToLong(Arrays::stream).sorted().toArray();
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+            return new Resultado(todas.length / segundos, percentil(todas, 0.50), percentil(todas, 0.99), erros.sum());
+        }
+    }
+
+    private static long[] obter(Future<long[]> futuro) {
+        try {
+            return futuro.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static double percentil(long[] ordenadas, double percentil) {
+        return ordenadas.length == 0 ? 0 : ordenadas[(int) Math.ceil(percentil * ordenadas.length) - 1] / 1e6;
+    }
+
+    record Resultado(double requisicoesPorSegundo, double p50, double p99, long erros) {
+
+        @Override
+        public String toString() {
+            return String.format("%8.0f req/s  p50 %7.1f ms  p99 %7.1f ms  erros %d", requisicoesPorSegundo, p50, p99, erros);
+        }
+    }
+}
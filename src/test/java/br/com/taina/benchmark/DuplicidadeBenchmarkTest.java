@@ -0,0 +1,63 @@
+package br.com.taina.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import br.com.taina.dto.DuplicataDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.service.DuplicidadeService;
+import br.com.taina.service.PessoaService;
+
+/**
+ * Benchmark de integração da detecção de duplicatas ({@link DuplicidadeService#encontrarDuplicatas}) com 20 mil
+ * pessoas distribuídas em 400 CEPs e 20 cidades, das quais 5% são cópias com um erro de digitação no nome.
+ *
+ * Executado apenas com o profile Maven 'benchmark': mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class DuplicidadeBenchmarkTest {
+
+    private static final int QUANTIDADE = 20_000;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private DuplicidadeService duplicidadeService;
+
+    @Test
+    void medirDeteccaoDeDuplicatas() {
+        Random random = new Random(42);
+        List<PessoaDTO> pessoas = new ArrayList<>(QUANTIDADE);
+        for (int i = 0; pessoas.size() < QUANTIDADE; i++) {
+            String nome = NomesAleatorios.nome(random);
+            String cep = String.format("%08d", 10_000_000 + random.nextInt(400) * 1000);
+            String cidade = "Cidade " + (char) ('A' + random.nextInt(20));
+            pessoas.add(new PessoaDTO(null, nome, "Rua Penha", "102", cep, cidade, "SP"));
+
+            if (i % 20 == 0) {
+                String copia = nome.substring(0, nome.length() - 1);
+                pessoas.add(new PessoaDTO(null, copia, "Rua Penha", "102", cep, cidade, "SP"));
+            }
+        }
+        pessoaService.saveLote(pessoas);
+
+        // Aquecimento
+        duplicidadeService.encontrarDuplicatas(0.95, 10);
+
+        long inicio = System.nanoTime();
+        List<DuplicataDTO> duplicatas = duplicidadeService.encontrarDuplicatas(0.95, Integer.MAX_VALUE);
+        double milissegundos = (System.nanoTime() - inicio) / 1e6;
+
+        long comparacoesSemBlocos = (long) QUANTIDADE * (QUANTIDADE - 1) / 2;
+        System.out.printf("%nDetecção de duplicatas em %d pessoas: %.0f ms, %d pares encontrados "
+                + "(sem blocos seriam %d comparações)%n", QUANTIDADE, milissegundos, duplicatas.size(), comparacoesSemBlocos);
+    }
+}
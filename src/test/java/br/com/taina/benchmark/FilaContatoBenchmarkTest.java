@@ -0,0 +1,106 @@
+package br.com.taina.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import br.com.taina.ControleDeContatosApplication;
+import br.com.taina.benchmark.CargaHttp.Resultado;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.repository.ContatoRepository;
+import br.com.taina.service.PessoaService;
+
+/**
+ * Teste de carga comparando o cadastro síncrono de contatos (POST /api/contatos, 201 depois do commit) com a gravação
+ * assíncrona do profile 'write-behind' (POST /api/contatos/async, 202 antes da gravação em lote). A aplicação é
+ * iniciada com o profile 'write-behind', que mantém os dois endpoints, e os clientes cadastram contatos em pessoas
+ * escolhidas ao acaso.
+ *
+ * Além da vazão e das latências das requisições, é reportada a quantidade de contatos efetivamente gravados por
+ * segundo, contando na gravação assíncrona o tempo até a fila esvaziar.
+ *
+ * Executado apenas com o profile Maven 'benchmark': mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class FilaContatoBenchmarkTest {
+
+    private static final int CLIENTES = 200;
+    private static final int PESSOAS = 1000;
+    private static final Duration AQUECIMENTO = Duration.ofSeconds(5);
+    private static final Duration MEDICAO = Duration.ofSeconds(15);
+
+    @Test
+    void compararCadastroSincronoComGravacaoAssincrona() throws Exception {
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(ControleDeContatosApplication.class)
+                .profiles("write-behind")
+                .run("--server.port=0", "--spring.jpa.show-sql=false", "--logging.level.root=WARN")) {
+            int porta = contexto.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            ContatoRepository contatoRepository = contexto.getBean(ContatoRepository.class);
+            List<Long> ids = cadastrarPessoas(contexto.getBean(PessoaService.class));
+
+            executarCarga(porta, ids, "/api/contatos", 201, AQUECIMENTO);
+            executarCarga(porta, ids, "/api/contatos/async", 202, AQUECIMENTO);
+            aguardarGravacao(contatoRepository);
+
+            long antes = contatoRepository.count();
+            long inicio = System.nanoTime();
+            Resultado sincrono = executarCarga(porta, ids, "/api/contatos", 201, MEDICAO);
+            double gravadosSincrono = (contatoRepository.count() - antes) / ((System.nanoTime() - inicio) / 1e9);
+
+            antes = contatoRepository.count();
+            inicio = System.nanoTime();
+            Resultado assincrono = executarCarga(porta, ids, "/api/contatos/async", 202, MEDICAO);
+            aguardarGravacao(contatoRepository);
+            double gravadosAssincrono = (contatoRepository.count() - antes) / ((System.nanoTime() - inicio) / 1e9);
+
+            System.out.printf("%n%d clientes simultâneos, %d s de medição%n", CLIENTES, MEDICAO.toSeconds());
+            System.out.printf("  síncrono:    %s  %8.0f contatos gravados/s%n", sincrono, gravadosSincrono);
+            System.out.printf("  assíncrono:  %s  %8.0f contatos gravados/s%n", assincrono, gravadosAssincrono);
+
+            assertEquals(0, sincrono.erros());
+        }
+    }
+
+    private List<Long> cadastrarPessoas(PessoaService pessoaService) {
+        List<PessoaDTO> pessoas = new ArrayList<>(PESSOAS);
+        for (int i = 0; i < PESSOAS; i++) {
+            pessoas.add(new PessoaDTO(null, "Pessoa Carga", "Rua das Flores", String.valueOf(i), "06700000", "Cotia", "SP"));
+        }
+        return pessoaService.saveLote(pessoas).stream().map(PessoaDTO::getId).toList();
+    }
+
+    private Resultado executarCarga(int porta, List<Long> ids, String caminho, int statusEsperado, Duration duracao)
+            throws Exception {
+        return CargaHttp.executar(CLIENTES, duracao, random -> HttpRequest.newBuilder(URI.create("http://localhost:" + porta + caminho))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo(ids, random)))
+                .timeout(Duration.ofSeconds(30))
+                .build(), statusEsperado);
+    }
+
+    private static String corpo(List<Long> ids, ThreadLocalRandom random) {
+        return "{\"tipoContato\":\"CELULAR\",\"contato\":\"119" + (10_000_000 + random.nextInt(90_000_000))
+                + "\",\"idPessoa\":" + ids.get(random.nextInt(ids.size())) + "}";
+    }
+
+    // A fila está vazia quando a quantidade de contatos para de mudar por mais de um intervalo de gravação
+    private static void aguardarGravacao(ContatoRepository contatoRepository) throws InterruptedException {
+        long anterior = -1;
+        long atual = contatoRepository.count();
+        while (atual != anterior) {
+            Thread.sleep(200);
+            anterior = atual;
+            atual = contatoRepository.count();
+        }
+    }
+}
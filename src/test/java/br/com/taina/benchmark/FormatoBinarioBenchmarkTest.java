@@ -0,0 +1,115 @@
+package br.com.taina.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import br.com.taina.ControleDeContatosApplication;
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.service.ContatoService;
+import br.com.taina.service.PessoaService;
+
+/**
+ * Compara o tamanho das listagens de pessoas (página de 100) e de contatos (100 contatos de uma pessoa) em JSON,
+ * CBOR e Smile, com e sem gzip, e o tempo médio de cada requisição. A aplicação roda em uma porta aleatória para
+ * que a compressão seja a do Tomcat, como em produção. O custo de CPU só da serialização é medido pelo
+ * microbenchmark JMH SerializacaoBenchmark.
+ *
+ * Executado apenas com o profile Maven 'benchmark': mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class FormatoBinarioBenchmarkTest {
+
+    private static final String[] FORMATOS = {"application/json", "application/cbor", "application/x-jackson-smile"};
+    private static final int REPETICOES = 2000;
+    private static final int COMPRESSAO_MINIMA = 2048;
+
+    private static final String[] NOMES = {"Maria", "João", "Ana", "Pedro", "Juliana", "Carlos", "Fernanda", "Lucas", "Beatriz", "Rafael"};
+    private static final String[] SOBRENOMES = {"Silva", "Santos", "Oliveira", "Souza", "Lima", "Pereira", "Costa", "Almeida", "Ribeiro", "Gomes"};
+    private static final String[] CIDADES = {"Cotia", "Osasco", "Barueri", "Carapicuíba", "Itapevi", "Jandira", "Embu das Artes"};
+
+    @Test
+    void compararTamanhoETempoDosFormatos() throws Exception {
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(ControleDeContatosApplication.class)
+                .run("--server.port=0", "--spring.jpa.show-sql=false", "--logging.level.root=WARN");
+             HttpClient cliente = HttpClient.newHttpClient()) {
+            int porta = contexto.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            long idPessoa = cadastrar(contexto.getBean(PessoaService.class), contexto.getBean(ContatoService.class));
+
+            for (String caminho : List.of("/api/pessoas?tamanho=100", "/api/contatos/pessoa/" + idPessoa)) {
+                System.out.printf("%nGET %s%n", caminho);
+                int tamanhoJson = 0;
+                for (String formato : FORMATOS) {
+                    HttpResponse<byte[]> semGzip = buscar(cliente, porta, caminho, formato, false);
+                    HttpResponse<byte[]> comGzip = buscar(cliente, porta, caminho, formato, true);
+                    assertEquals(200, semGzip.statusCode());
+                    // Abaixo de server.compression.min-response-size a resposta vai sem compressão
+                    if (semGzip.body().length >= COMPRESSAO_MINIMA) {
+                        assertEquals("gzip", comGzip.headers().firstValue("Content-Encoding").orElse(null));
+                        assertTrue(comGzip.body().length < semGzip.body().length);
+                    }
+
+                    if (tamanhoJson == 0) {
+                        tamanhoJson = semGzip.body().length;
+                    } else {
+                        assertTrue(semGzip.body().length < tamanhoJson);
+                    }
+                    System.out.printf("  %-28s %7d bytes | gzip %6d bytes | %6.1f us/req | gzip %6.1f us/req%n", formato,
+                            semGzip.body().length, comGzip.body().length,
+                            medir(cliente, porta, caminho, formato, false), medir(cliente, porta, caminho, formato, true));
+                }
+            }
+        }
+    }
+
+    private long cadastrar(PessoaService pessoaService, ContatoService contatoService) {
+        List<PessoaDTO> pessoas = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            pessoas.add(new PessoaDTO(null, NOMES[i % NOMES.length] + " " + SOBRENOMES[i / NOMES.length % SOBRENOMES.length],
+                    "Rua " + SOBRENOMES[i * 7 % SOBRENOMES.length], String.valueOf(i * 13 % 900 + 1),
+                    String.format("%08d", 6700000 + i * 379), CIDADES[i % CIDADES.length], "SP"));
+        }
+        long idPessoa = pessoaService.saveLote(pessoas).get(0).getId();
+
+        List<ContatoDTO> contatos = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            contatos.add(i % 2 == 0
+                    ? new ContatoDTO(null, "EMAIL", NOMES[i % NOMES.length].toLowerCase() + "." + i + "@email.com.br", idPessoa)
+                    : new ContatoDTO(null, "CELULAR", String.valueOf(11974510000L + i * 7919L), idPessoa));
+        }
+        contatoService.saveLote(idPessoa, contatos);
+        return idPessoa;
+    }
+
+    // Aquece e mede o tempo médio de resposta, com a conexão já aberta
+    private double medir(HttpClient cliente, int porta, String caminho, String formato, boolean gzip) throws Exception {
+        for (int i = 0; i < REPETICOES; i++) {
+            buscar(cliente, porta, caminho, formato, gzip);
+        }
+        long inicio = System.nanoTime();
+        for (int i = 0; i < REPETICOES; i++) {
+            buscar(cliente, porta, caminho, formato, gzip);
+        }
+        return (System.nanoTime() - inicio) / 1e3 / REPETICOES;
+    }
+
+    private HttpResponse<byte[]> buscar(HttpClient cliente, int porta, String caminho, String formato, boolean gzip) throws Exception {
+        HttpRequest.Builder requisicao = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + caminho))
+                .header("Accept", formato);
+        if (gzip) {
+            requisicao.header("Accept-Encoding", "gzip");
+        }
+        return cliente.send(requisicao.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.taina.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.sun.management.ThreadMXBean;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.repository.ContatoRepository;
+import br.com.taina.repository.PessoaRepository;
+import br.com.taina.service.ContatoService;
+import br.com.taina.service.PessoaService;
+
+/**
+ * Benchmark de integração que compara, por requisição, a memória alocada e o tempo das leituras feitas
+ * carregando entidades e copiando para o DTO com as leituras feitas por projeção direto no DTO.
+ *
+ * Executado apenas com o profile Maven 'benchmark': mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class LeituraProjecaoBenchmarkTest {
+
+    private static final int AQUECIMENTO = 5_000;
+    private static final int ITERACOES = 20_000;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private ContatoService contatoService;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private ContatoRepository contatoRepository;
+
+    private final ThreadMXBean threadMXBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private void medir(String descricao, Supplier<?> leitura) {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            leitura.get();
+        }
+
+        long memoriaInicial = threadMXBean.getCurrentThreadAllocatedBytes();
+        long inicio = System.nanoTime();
+        for (int i = 0; i < ITERACOES; i++) {
+            leitura.get();
+        }
+        long nanos = System.nanoTime() - inicio;
+        long bytes = threadMXBean.getCurrentThreadAllocatedBytes() - memoriaInicial;
+
+        System.out.printf("  %-55s %8.1f us/op %10d bytes/op%n", descricao, nanos / 1e3 / ITERACOES, bytes / ITERACOES);
+    }
+
+    @Test
+    void compararLeituraPorEntidadeComLeituraPorProjecao() {
+        PessoaDTO pessoaSalva = new PessoaDTO(null, "Pessoa Benchmark", "Rua Penha", "102", "06700000", "Cotia", "SP");
+        List<ContatoDTO> contatos = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            contatos.add(new ContatoDTO(null, "CELULAR", "119745107" + (10 + i), null));
+        }
+        pessoaSalva.setContatos(contatos);
+        Long id = pessoaService.saveLote(List.of(pessoaSalva)).get(0).getId();
+
+        System.out.printf("%nLeitura de uma pessoa e dos seus 10 contatos%n");
+
+        medir("GET pessoa - entidade", () -> pessoaRepository.findById(id)
+                .map(pessoa -> new PessoaDTO(pessoa.getId(), pessoa.getNome(), pessoa.getEndereco(), pessoa.getNumeroCasa(),
+                        pessoa.getCep(), pessoa.getCidade(), pessoa.getUf() != null ? pessoa.getUf().name() : null))
+                .orElseThrow());
+        medir("GET pessoa - projeção (findById)", () -> pessoaService.findById(id));
+
+        medir("GET contatos da pessoa - entidades", () -> {
+            pessoaRepository.findById(id).orElseThrow();
+            return contatoRepository.findContatosPessoaById(id).stream()
+                    .map(contato -> new ContatoDTO(contato.getId(), contato.getTipoContato().name(), contato.getContato(), contato.getPessoa().getId()))
+                    .collect(Collectors.toList());
+        });
+        medir("GET contatos da pessoa - projeção (findAllByPessoaId)", () -> contatoService.findAllByPessoaId(id));
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.taina.benchmark;
+
+import java.util.Random;
+
+/**
+ * Gerador de nomes completos para os benchmarks, combinando um nome e dois sobrenomes comuns, com acentos, para que
+ * a normalização dos nomes também seja exercitada. Com a mesma semente do {@link Random}, gera sempre os mesmos nomes.
+ */
+final class NomesAleatorios {
+
+    private static final String[] NOMES = {"João", "José", "Maria", "Ana", "Antônio", "Francisca", "Luís", "Conceição",
+            "Sebastião", "Luíza", "Gonçalo", "Joana", "Márcio", "Cecília", "Raimundo", "Tainá"};
+    private static final String[] SOBRENOMES = {"Silva", "Santos", "Oliveira", "Souza", "Conceição", "Araújo", "Gonçalves",
+            "Ribeiro", "Lima", "Pereira", "Magalhães", "Assunção", "Brandão", "Simões", "Estêvão", "Damião"};
+
+    private NomesAleatorios() {}
+
+    /**
+     * @param random Gerador aleatório do benchmark.
+     * @return Um nome seguido de dois sobrenomes, por exemplo "Maria Souza Lima".
+     */
+    static String nome(Random random) {
+        return NOMES[random.nextInt(NOMES.length)] + " " + SOBRENOMES[random.nextInt(SOBRENOMES.length)] + " "
+                + SOBRENOMES[random.nextInt(SOBRENOMES.length)];
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.taina.benchmark;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import br.com.taina.dto.PessoaBuscaDTO;
+import br.com.taina.search.PessoaSearchIndex;
+
+/**
+ * Benchmark da busca por prefixo do nome no {@link PessoaSearchIndex}, com um índice de 200 mil pessoas
+ * geradas a partir de nomes e sobrenomes comuns.
+ *
+ * Executado apenas com o profile Maven 'benchmark': mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class PessoaBuscaBenchmarkTest {
+
+    private static final int QUANTIDADE = 200_000;
+    private static final int BUSCAS = 100_000;
+
+    private static final String[] BUSCAS_EXEMPLO = {"jo", "joao sil", "conceicao", "ana sou", "m", "sebas dami", "luiz"};
+
+    @Test
+    void medirLatenciaDaBusca() {
+        Random random = new Random(42);
+        PessoaSearchIndex indice = new PessoaSearchIndex();
+
+        long inicio = System.nanoTime();
+        for (long i = 1; i <= QUANTIDADE; i++) {
+            String nome = NomesAleatorios.nome(random) + " " + Long.toString(i, 36);
+            indice.adicionar(new PessoaBuscaDTO(i, nome, "Cotia", "SP"));
+        }
+        System.out.printf("%nIndexação de %d pessoas: %.0f ms%n", QUANTIDADE, (System.nanoTime() - inicio) / 1e6);
+
+        // Aquecimento
+        for (int i = 0; i < BUSCAS; i++) {
+            indice.buscar(BUSCAS_EXEMPLO[i % BUSCAS_EXEMPLO.length], null, 10);
+        }
+
+        for (String busca : BUSCAS_EXEMPLO) {
+            inicio = System.nanoTime();
+            for (int i = 0; i < BUSCAS; i++) {
+                indice.buscar(busca, null, 10);
+            }
+            System.out.printf("  busca %-12s %8.2f us/op%n", "\"" + busca + "\"", (System.nanoTime() - inicio) / 1e3 / BUSCAS);
+        }
+    }
+}
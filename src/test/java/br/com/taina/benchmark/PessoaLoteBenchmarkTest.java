@@ -0,0 +1,68 @@
+package br.com.taina.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.service.PessoaService;
+
+/**
+ * Benchmark de integração que compara a quantidade de pessoas gravadas por segundo
+ * no cadastro individual ({@link PessoaService#save}) e no cadastro em lote ({@link PessoaService#saveLote}).
+ *
+ * Executado apenas com o profile Maven 'benchmark': mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class PessoaLoteBenchmarkTest {
+
+    private static final int QUANTIDADE = 5_000;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    private List<PessoaDTO> gerarPessoas(boolean comContatos) {
+        List<PessoaDTO> pessoas = new ArrayList<>(QUANTIDADE);
+        for (int i = 0; i < QUANTIDADE; i++) {
+            PessoaDTO pessoaDTO = new PessoaDTO(null, "Pessoa Benchmark", "Rua Penha", "102", "06700000", "Cotia", "SP");
+            if (comContatos) {
+                pessoaDTO.setContatos(List.of(new ContatoDTO(null, "CELULAR", "11974510719", null)));
+            }
+            pessoas.add(pessoaDTO);
+        }
+        return pessoas;
+    }
+
+    @Test
+    void compararCadastroIndividualComCadastroEmLote() {
+        // Aquecimento da JVM e do pool de conexões
+        pessoaService.saveLote(gerarPessoas(false).subList(0, 500));
+        gerarPessoas(false).subList(0, 500).forEach(pessoaService::save);
+
+        List<PessoaDTO> individuais = gerarPessoas(false);
+        long inicio = System.nanoTime();
+        individuais.forEach(pessoaService::save);
+        double segundosIndividual = (System.nanoTime() - inicio) / 1e9;
+
+        List<PessoaDTO> lote = gerarPessoas(false);
+        inicio = System.nanoTime();
+        pessoaService.saveLote(lote);
+        double segundosLote = (System.nanoTime() - inicio) / 1e9;
+
+        List<PessoaDTO> loteComContatos = gerarPessoas(true);
+        inicio = System.nanoTime();
+        pessoaService.saveLote(loteComContatos);
+        double segundosLoteComContatos = (System.nanoTime() - inicio) / 1e9;
+
+        System.out.printf("%nCadastro de %d pessoas%n", QUANTIDADE);
+        System.out.printf("  individual (save):               %,10.0f linhas/s%n", QUANTIDADE / segundosIndividual);
+        System.out.printf("  lote (saveLote):                 %,10.0f linhas/s%n", QUANTIDADE / segundosLote);
+        System.out.printf("  lote com 1 contato (saveLote):   %,10.0f linhas/s%n", 2 * QUANTIDADE / segundosLoteComContatos);
+    }
+}
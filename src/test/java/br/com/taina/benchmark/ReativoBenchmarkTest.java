@@ -0,0 +1,100 @@
+package br.com.taina.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import br.com.taina.ControleDeContatosApplication;
+import br.com.taina.benchmark.CargaHttp.Resultado;
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.service.PessoaService;
+
+/**
+ * Teste de carga comparando a API Spring MVC (Tomcat) com a API reativa do profile 'reactive' (WebFlux, Netty e
+ * R2DBC), as duas limitadas ao mesmo número pequeno de threads: 4 threads de requisição no Tomcat e 4 event loops no
+ * Netty. O pool de conexões também tem o mesmo tamanho nos dois modos (10) e o cache de segundo nível fica
+ * desligado no modo Spring MVC, para que toda requisição vá ao banco como no modo reativo.
+ *
+ * 200 clientes simultâneos alternam entre a consulta de uma pessoa e a lista dos seus contatos, endpoints que
+ * existem com os mesmos caminhos nas duas APIs. Como no {@link VirtualThreadsBenchmarkTest}, os modos são
+ * alternados em duas rodadas e apenas a segunda rodada de cada um é reportada.
+ *
+ * Executado apenas com o profile Maven 'benchmark': mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class ReativoBenchmarkTest {
+
+    private static final int THREADS = 4;
+    private static final int CLIENTES = 200;
+    private static final int PESSOAS = 1000;
+    private static final int RODADAS = 2;
+    private static final Duration AQUECIMENTO = Duration.ofSeconds(5);
+    private static final Duration MEDICAO = Duration.ofSeconds(15);
+
+    @Test
+    void compararSpringMvcComWebFlux() throws Exception {
+        // Lido pelo Reactor Netty ao criar os event loops, antes de o primeiro contexto reativo subir
+        System.setProperty("reactor.netty.ioWorkerCount", String.valueOf(THREADS));
+
+        Resultado servlet = null;
+        Resultado reativo = null;
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            servlet = medir(false);
+            reativo = medir(true);
+        }
+
+        System.out.printf("%n%d clientes simultâneos, %d threads no servidor, %d s de medição%n",
+                CLIENTES, THREADS, MEDICAO.toSeconds());
+        System.out.println("  Spring MVC (Tomcat):      " + servlet);
+        System.out.println("  WebFlux (Netty + R2DBC):  " + reativo);
+
+        assertEquals(0, servlet.erros());
+        assertEquals(0, reativo.erros());
+    }
+
+    private Resultado medir(boolean reativo) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(ControleDeContatosApplication.class)
+                .properties("server.port=0", "spring.jpa.show-sql=false", "logging.level.root=WARN",
+                        "server.tomcat.threads.max=" + THREADS,
+                        "spring.datasource.hikari.maximum-pool-size=10",
+                        "spring.r2dbc.pool.initial-size=10",
+                        "spring.r2dbc.pool.max-size=10",
+                        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+                        "spring.jpa.properties.hibernate.cache.use_query_cache=false");
+        if (reativo) {
+            builder.profiles("reactive");
+        }
+
+        try (ConfigurableApplicationContext contexto = builder.run()) {
+            int porta = contexto.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            List<Long> ids = cadastrarPessoas(contexto.getBean(PessoaService.class));
+
+            executarCarga(porta, ids, AQUECIMENTO);
+            return executarCarga(porta, ids, MEDICAO);
+        }
+    }
+
+    private List<Long> cadastrarPessoas(PessoaService pessoaService) {
+        List<PessoaDTO> pessoas = new ArrayList<>(PESSOAS);
+        for (int i = 0; i < PESSOAS; i++) {
+            PessoaDTO pessoa = new PessoaDTO(null, "Pessoa Carga", "Rua das Flores", String.valueOf(i), "06700000", "Cotia", "SP");
+            pessoa.setContatos(List.of(new ContatoDTO(null, "CELULAR", "11974510719", null)));
+            pessoas.add(pessoa);
+        }
+        return pessoaService.saveLote(pessoas).stream().map(PessoaDTO::getId).toList();
+    }
+
+    private Resultado executarCarga(int porta, List<Long> ids, Duration duracao) throws Exception {
+        return CargaHttp.executar(porta, CLIENTES, duracao, random -> random.nextBoolean()
+                ? "/api/pessoas/" + ids.get(random.nextInt(ids.size()))
+                : "/api/contatos/pessoa/" + ids.get(random.nextInt(ids.size())));
+    }
+}
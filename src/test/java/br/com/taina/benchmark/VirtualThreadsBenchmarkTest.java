@@ -0,0 +1,85 @@
+package br.com.taina.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import br.com.taina.ControleDeContatosApplication;
+import br.com.taina.benchmark.CargaHttp.Resultado;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.service.PessoaService;
+
+/**
+ * Teste de carga comparando o modo padrão (pool de threads da plataforma do Tomcat) com o profile 'virtual'
+ * (virtual threads). Para cada modo a aplicação é iniciada em uma porta aleatória e 1000 clientes simultâneos
+ * alternam entre a mala direta de uma pessoa e uma página da listagem, dois endpoints que sempre vão ao banco.
+ * São reportadas a vazão e as latências p50 e p99.
+ *
+ * Os dois modos rodam na mesma JVM, então o segundo a rodar encontraria o JIT mais aquecido. Por isso os modos são
+ * alternados em duas rodadas e apenas a segunda rodada de cada um é reportada.
+ *
+ * Executado apenas com o profile Maven 'benchmark': mvn test -Pbenchmark
+ */
+@Tag("benchmark")
+class VirtualThreadsBenchmarkTest {
+
+    private static final int CLIENTES = 1000;
+    private static final int PESSOAS = 1000;
+    private static final int RODADAS = 2;
+    private static final Duration AQUECIMENTO = Duration.ofSeconds(5);
+    private static final Duration MEDICAO = Duration.ofSeconds(15);
+
+    @Test
+    void compararThreadsDaPlataformaComVirtualThreads() throws Exception {
+        Resultado plataforma = null;
+        Resultado virtual = null;
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            plataforma = medir(false);
+            virtual = medir(true);
+        }
+
+        System.out.printf("%n%d clientes simultâneos, %d s de medição%n", CLIENTES, MEDICAO.toSeconds());
+        System.out.println("  threads da plataforma: " + plataforma);
+        System.out.println("  virtual threads:       " + virtual);
+
+        assertEquals(0, plataforma.erros());
+        assertEquals(0, virtual.erros());
+    }
+
+    private Resultado medir(boolean virtualThreads) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(ControleDeContatosApplication.class)
+                .properties("server.port=0", "spring.jpa.show-sql=false", "logging.level.root=WARN");
+        if (virtualThreads) {
+            builder.profiles("virtual");
+        }
+
+        try (ConfigurableApplicationContext contexto = builder.run()) {
+            int porta = contexto.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            List<Long> ids = cadastrarPessoas(contexto.getBean(PessoaService.class));
+
+            executarCarga(porta, ids, AQUECIMENTO);
+            return executarCarga(porta, ids, MEDICAO);
+        }
+    }
+
+    private List<Long> cadastrarPessoas(PessoaService pessoaService) {
+        List<PessoaDTO> pessoas = new ArrayList<>(PESSOAS);
+        for (int i = 0; i < PESSOAS; i++) {
+            pessoas.add(new PessoaDTO(null, "Pessoa Carga", "Rua das Flores", String.valueOf(i), "06700000", "Cotia", "SP"));
+        }
+        return pessoaService.saveLote(pessoas).stream().map(PessoaDTO::getId).toList();
+    }
+
+    private Resultado executarCarga(int porta, List<Long> ids, Duration duracao) throws Exception {
+        return CargaHttp.executar(porta, CLIENTES, duracao, random -> random.nextBoolean()
+                ? "/api/pessoas/maladireta/" + ids.get(random.nextInt(ids.size()))
+                : "/api/pessoas?tamanho=20&cursor=" + ids.get(random.nextInt(ids.size())));
+    }
+}
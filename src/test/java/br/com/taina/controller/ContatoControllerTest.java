@@ -59,6 +59,19 @@ public class ContatoControllerTest {
                 .andExpect(jsonPath("$.idPessoa").value(1)); // Confirma o ID da pessoa
     }
 
+    @Test
+    public void deveSalvarLoteDeContatosERetornarNoBody() throws Exception {
+        ContatoDTO contatoDTO = mockContato();
+        when(contatoService.saveLote(eq(1L), anyList())).thenReturn(List.of(contatoDTO, contatoDTO));
+
+        mockMvc.perform(post("/api/contatos/pessoa/1/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(contatoDTO, contatoDTO))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].idPessoa").value(1));
+    }
+
     @Test
     public void deveRetornarContatoPorId() throws Exception {
         ContatoDTO contatoDTO = mockContato();
@@ -0,0 +1,175 @@
+package br.com.taina.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ETagTest {
+
+    private static final String PESSOA = "{\"nome\":\"Maria Versao\",\"endereco\":\"Rua das Flores\",\"numeroCasa\":\"10\","
+            + "\"cep\":\"06700000\",\"cidade\":\"Cotia\",\"uf\":\"SP\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void deveRetornarNaoModificadoEnquantoAPessoaNaoMudar() throws Exception {
+        long id = cadastrarPessoa();
+
+        String eTag = mockMvc.perform(get("/api/pessoas/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.versao").doesNotExist())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertEquals("W/\"0\"", eTag);
+
+        MvcResult naoModificado = mockMvc.perform(get("/api/pessoas/{id}", id).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn();
+        assertEquals(0, naoModificado.getResponse().getContentLength());
+
+        String novoETag = mockMvc.perform(put("/api/pessoas/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PESSOA.replace("Cotia", "Osasco")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1\""))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/pessoas/{id}", id).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, novoETag))
+                .andExpect(jsonPath("$.cidade").value("Osasco"));
+    }
+
+    @Test
+    void deveRecusarAtualizacaoComVersaoDesatualizada() throws Exception {
+        long id = cadastrarPessoa();
+
+        mockMvc.perform(put("/api/pessoas/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PESSOA.replace("Cotia", "Osasco")))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/pessoas/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PESSOA.replace("Cotia", "Barueri")))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.statusCode").value(412));
+        mockMvc.perform(put("/api/pessoas/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "W/\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PESSOA.replace("Cotia", "Barueri")))
+                .andExpect(status().isPreconditionFailed());
+
+        String eTag = mockMvc.perform(get("/api/pessoas/{id}", id))
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"1\""))
+                .andExpect(jsonPath("$.cidade").value("Osasco"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // O ETag fraco recebido na consulta serve de If-Match
+        mockMvc.perform(put("/api/pessoas/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PESSOA.replace("Cotia", "Barueri")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"2\""));
+
+        mockMvc.perform(put("/api/pessoas/{id}", id)
+                        .header(HttpHeaders.IF_MATCH, "*")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PESSOA.replace("Cotia", "Jandira")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"3\""));
+    }
+
+    @Test
+    void deveMudarOETagDaListaDeContatosQuandoUmContatoForAdicionadoOuAlterado() throws Exception {
+        long id = cadastrarPessoa();
+        long idContato = cadastrarContato(id, "11974510719");
+
+        String eTag = mockMvc.perform(get("/api/contatos/pessoa/{idPessoa}", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(eTag);
+        mockMvc.perform(get("/api/contatos/pessoa/{idPessoa}", id).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        cadastrarContato(id, "11974510720");
+        String eTagComNovoContato = mockMvc.perform(get("/api/contatos/pessoa/{idPessoa}", id).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(eTag, eTagComNovoContato);
+
+        mockMvc.perform(put("/api/contatos/{id}", idContato)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tipoContato\":\"CELULAR\",\"contato\":\"11974510721\",\"idPessoa\":" + id + "}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/contatos/pessoa/{idPessoa}", id).header(HttpHeaders.IF_NONE_MATCH, eTagComNovoContato))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void deveMudarOETagDaListaDeContatosQuandoContatosForemMovidosNaMesclagem() throws Exception {
+        long id = cadastrarPessoa();
+        long duplicada = cadastrarPessoa();
+        long idContato = cadastrarContato(id, "11974510731");
+        cadastrarContato(duplicada, "11974510732");
+        cadastrarContato(id, "11974510733");
+        mockMvc.perform(put("/api/contatos/{id}", idContato)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tipoContato\":\"CELULAR\",\"contato\":\"11974510734\",\"idPessoa\":" + id + "}"))
+                .andExpect(status().isOk());
+
+        String eTag = mockMvc.perform(get("/api/contatos/pessoa/{idPessoa}", id))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Mesma quantidade, mesmo maior ID e mesma soma das versões, mas outra lista de contatos
+        mockMvc.perform(delete("/api/contatos/{id}", idContato))
+                .andExpect(status().is2xxSuccessful());
+        mockMvc.perform(post("/api/pessoas/{idOrigem}/mesclar/{idDestino}", duplicada, id))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/contatos/pessoa/{idPessoa}", id).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].contato").value("11974510732"));
+    }
+
+    private long cadastrarPessoa() throws Exception {
+        String resposta = mockMvc.perform(post("/api/pessoas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(PESSOA))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(resposta).get("id").asLong();
+    }
+
+    private long cadastrarContato(long idPessoa, String telefone) throws Exception {
+        String resposta = mockMvc.perform(post("/api/contatos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tipoContato\":\"CELULAR\",\"contato\":\"" + telefone + "\",\"idPessoa\":" + idPessoa + "}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(resposta).get("id").asLong();
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.taina.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class FormatoBinarioTest {
+
+    private static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final CBORMapper cbor = new CBORMapper();
+    private final SmileMapper smile = new SmileMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void deveListarPessoasEContatosNoFormatoPedidoNoAccept() throws Exception {
+        long id = cadastrarPessoaEmCbor("Maria Binaria");
+        mockMvc.perform(post("/api/contatos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"tipoContato\":\"CELULAR\",\"contato\":\"11974510719\",\"idPessoa\":" + id + "}"))
+                .andExpect(status().isCreated());
+
+        for (String caminho : new String[] {"/api/pessoas?tamanho=100", "/api/contatos/pessoa/" + id}) {
+            JsonNode esperado = json.readTree(buscar(caminho, MediaType.APPLICATION_JSON));
+
+            byte[] emCbor = buscar(caminho, CBOR);
+            byte[] emSmile = buscar(caminho, SMILE);
+
+            assertEquals(esperado, cbor.readTree(emCbor));
+            assertEquals(esperado, smile.readTree(emSmile));
+            assertTrue(emCbor.length < json.writeValueAsBytes(esperado).length, caminho);
+            assertTrue(emSmile.length < json.writeValueAsBytes(esperado).length, caminho);
+        }
+    }
+
+    @Test
+    void deveUsarJsonQuandoOClienteNaoPedirUmFormato() throws Exception {
+        long id = cadastrarPessoaEmCbor("Joana Binaria");
+
+        mockMvc.perform(get("/api/pessoas/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andExpect(jsonPath("$.nome").value("Joana Binaria"));
+    }
+
+    @Test
+    void deveValidarRequisicoesEmFormatoBinario() throws Exception {
+        mockMvc.perform(post("/api/pessoas")
+                        .contentType(CBOR)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .content(cbor.writeValueAsBytes(Map.of("nome", "", "cep", "06700000"))))
+                .andExpect(status().isBadRequest());
+    }
+
+    private long cadastrarPessoaEmCbor(String nome) throws Exception {
+        byte[] corpo = cbor.writeValueAsBytes(Map.of("nome", nome, "endereco", "Rua das Flores", "numeroCasa", "10",
+                "cep", "06700000", "cidade", "Cotia", "uf", "SP"));
+        byte[] resposta = mockMvc.perform(post("/api/pessoas").contentType(CBOR).accept(CBOR).content(corpo))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        return cbor.readTree(resposta).get("id").asLong();
+    }
+
+    private byte[] buscar(String caminho, MediaType formato) throws Exception {
+        return mockMvc.perform(get(caminho).accept(formato))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(formato))
+                .andReturn().getResponse().getContentAsByteArray();
+    }
+}
@@ -0,0 +1,96 @@
+package br.com.taina.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.dto.ProtocoloContatoDTO;
+import br.com.taina.enums.SituacaoGravacao;
+import br.com.taina.service.ContatoService;
+import br.com.taina.service.PessoaService;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("write-behind")
+class GravacaoAssincronaTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private ContatoService contatoService;
+
+    @Test
+    void deveAceitarOsContatosEGravarEmSegundoPlano() throws Exception {
+        Long idPessoa = pessoaService.save(new PessoaDTO(null, "Ana Fila", "Rua Penha", "1", "06700000", "Cotia", "SP")).getId();
+
+        List<UUID> protocolos = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            String resposta = mockMvc.perform(post("/api/contatos/async")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new ContatoDTO(null, "CELULAR", "1197451070" + i, idPessoa))))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().exists(HttpHeaders.LOCATION))
+                    .andReturn().getResponse().getContentAsString();
+            protocolos.add(objectMapper.readValue(resposta, ProtocoloContatoDTO.class).protocolo());
+        }
+
+        for (UUID protocolo : protocolos) {
+            assertEquals(SituacaoGravacao.GRAVADO, aguardarGravacao(protocolo).situacao());
+        }
+        assertEquals(3, contatoService.findAllByPessoaId(idPessoa).size());
+    }
+
+    @Test
+    void deveValidarNaRequisicaoAntesDeEnfileirar() throws Exception {
+        Long idPessoa = pessoaService.save(new PessoaDTO(null, "Bia Fila", "Rua Penha", "2", "06700000", "Cotia", "SP")).getId();
+
+        mockMvc.perform(post("/api/contatos/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ContatoDTO(null, "EMAIL", "bia@", idPessoa))))
+                .andExpect(status().isUnprocessableEntity());
+        mockMvc.perform(post("/api/contatos/async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ContatoDTO(null, "EMAIL", "bia@email.com", Long.MAX_VALUE))))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/contatos/async/{protocolo}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
+    private ProtocoloContatoDTO aguardarGravacao(UUID protocolo) throws Exception {
+        for (int tentativa = 0; tentativa < 100; tentativa++) {
+            String resposta = mockMvc.perform(get("/api/contatos/async/{protocolo}", protocolo))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            ProtocoloContatoDTO situacao = objectMapper.readValue(resposta, ProtocoloContatoDTO.class);
+            if (situacao.situacao() != SituacaoGravacao.PENDENTE) {
+                return situacao;
+            }
+            Thread.sleep(50);
+        }
+        return fail("Contato não gravado: " + protocolo);
+    }
+}
@@ -0,0 +1,123 @@
+package br.com.taina.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.method.HandlerMethod;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.ratelimit.LimiteRequisicoesInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Bucket de escrita com 2 requisições e recarga a cada 100 s, para o terceiro cadastro seguido ser sempre recusado
+@SpringBootTest(properties = {
+        "limite.habilitado=true",
+        "limite.escrita.capacidade=2",
+        "limite.escrita.por-segundo=0.01",
+        "limite.em-andamento.maximo=1",
+        "limite.chaves-api=cliente-a,cliente-b,cliente-c"
+})
+@AutoConfigureMockMvc
+class LimiteRequisicoesTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private LimiteRequisicoesInterceptor limiteRequisicoesInterceptor;
+
+    @Autowired
+    private ContatoController contatoController;
+
+    @Test
+    void deveLimitarAsEscritasPorClienteSemBloquearLeiturasNemOutrosClientes() throws Exception {
+        double limitadasAntes = escritasLimitadas();
+        String cadastrada = cadastrar("cliente-a").andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        cadastrar("cliente-a").andExpect(status().isCreated());
+
+        String retryAfter = cadastrar("cliente-a")
+                .andExpect(status().isTooManyRequests())
+                .andExpect(jsonPath("$.statusCode").value(429))
+                .andExpect(jsonPath("$.erros[0]").exists())
+                .andReturn().getResponse().getHeader(HttpHeaders.RETRY_AFTER);
+        assertTrue(Long.parseLong(retryAfter) >= 99);
+
+        Long id = objectMapper.readValue(cadastrada, PessoaDTO.class).getId();
+        mockMvc.perform(get("/api/pessoas/{id}", id).header(LimiteRequisicoesInterceptor.CABECALHO_CHAVE, "cliente-a"))
+                .andExpect(status().isOk());
+        cadastrar("cliente-b").andExpect(status().isCreated());
+
+        assertEquals(limitadasAntes + 1, escritasLimitadas());
+    }
+
+    @Test
+    void deveLimitarPeloIpQuemTrocaDeChaveDesconhecidaACadaRequisicao() throws Exception {
+        cadastrar(UUID.randomUUID().toString()).andExpect(status().isCreated());
+        cadastrar(UUID.randomUUID().toString()).andExpect(status().isCreated());
+
+        cadastrar(UUID.randomUUID().toString())
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+        // Uma chave conhecida continua com o próprio limite
+        cadastrar("cliente-c").andExpect(status().isCreated());
+    }
+
+    @Test
+    void deveRecusarAcimaDoMaximoDeRequisicoesSimultaneasNoEndpoint() throws Exception {
+        // Ocupa a única vaga de GET /api/contatos/{id} como se uma requisição ainda estivesse em andamento
+        MockHttpServletRequest emAndamento = new MockHttpServletRequest("GET", "/api/contatos/1");
+        HandlerMethod handler = new HandlerMethod(contatoController, ContatoController.class.getMethod("findById", Long.class));
+        assertTrue(limiteRequisicoesInterceptor.preHandle(emAndamento, new MockHttpServletResponse(), handler));
+
+        mockMvc.perform(get("/api/contatos/{id}", Long.MAX_VALUE))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.statusCode").value(503));
+        // Os outros endpoints não dividem a vaga
+        mockMvc.perform(get("/api/contatos/pessoa/{idPessoa}", Long.MAX_VALUE))
+                .andExpect(resultado -> assertNotEquals(503, resultado.getResponse().getStatus()));
+
+        limiteRequisicoesInterceptor.afterCompletion(emAndamento, new MockHttpServletResponse(), handler, null);
+        mockMvc.perform(get("/api/contatos/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+
+        assertEquals(1.0, meterRegistry.get("limite.em.andamento.recusadas").tag("endpoint", "ContatoController.findById")
+                .counter().count());
+        assertEquals(0.0, meterRegistry.get("limite.em.andamento").tag("endpoint", "ContatoController.findById")
+                .gauge().value());
+    }
+
+    private double escritasLimitadas() {
+        return meterRegistry.get("limite.requisicoes").tags("bucket", "escrita", "resultado", "limitada").counter().count();
+    }
+
+    private ResultActions cadastrar(String chave) throws Exception {
+        return mockMvc.perform(post("/api/pessoas")
+                .header(LimiteRequisicoesInterceptor.CABECALHO_CHAVE, chave)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new PessoaDTO(null, "Maria Limite", "Rua das Flores", "10", "06700000", "Cotia", "SP"))));
+    }
+}
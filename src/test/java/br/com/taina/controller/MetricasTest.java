@@ -0,0 +1,64 @@
+package br.com.taina.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricasTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void deveMedirControllersServicesERepositoriesEContarErros() throws Exception {
+        double errosAntes = contarErros("IdNotFoundException", "404");
+
+        mockMvc.perform(post("/api/pessoas")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\":\"Maria Metrica\",\"endereco\":\"Rua das Flores\",\"numeroCasa\":\"10\","
+                                + "\"cep\":\"06700000\",\"cidade\":\"Cotia\",\"uf\":\"SP\"}"))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/pessoas/{id}", Long.MAX_VALUE)).andExpect(status().isNotFound());
+
+        assertEquals(errosAntes + 1, contarErros("IdNotFoundException", "404"));
+
+        Timer servico = meterRegistry.find("servico")
+                .tags("class", "br.com.taina.service.PessoaService", "method", "save").timer();
+        assertNotNull(servico);
+        assertTrue(servico.count() >= 1);
+        assertNotNull(meterRegistry.find("spring.data.repository.invocations").tag("repository", "PessoaRepository").timer());
+        assertNotNull(meterRegistry.find("http.server.requests").tag("uri", "/api/pessoas/{id}").timer());
+
+        String prometheus = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(prometheus.contains("http_server_requests_seconds_bucket{"));
+        assertTrue(prometheus.contains("servico_seconds_bucket{"));
+        assertTrue(prometheus.contains("spring_data_repository_invocations_seconds_bucket{"));
+        assertTrue(prometheus.contains("api_erros_total{excecao=\"IdNotFoundException\""));
+    }
+
+    private double contarErros(String excecao, String status) {
+        Counter contador = meterRegistry.find("api.erros").tags("excecao", excecao, "status", status).counter();
+        return contador == null ? 0 : contador.count();
+    }
+}
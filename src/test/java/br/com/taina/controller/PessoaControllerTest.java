@@ -1,6 +1,8 @@
 package br.com.taina.controller;
 
+import br.com.taina.dto.PaginaDTO;
 import br.com.taina.dto.PessoaDTO;
+import br.com.taina.enums.Estados;
 import br.com.taina.service.PessoaService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +12,7 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 import java.util.List;
@@ -40,7 +43,7 @@ public class PessoaControllerTest {
 
     // Mocando os dados para testar
     private PessoaDTO mockPessoa() {
-       // return new PessoaDTO(1L, "Taina", "Rua Penha, 102", "06700000", "Cotia", "SP");
+        return new PessoaDTO(1L, "Taina", "Rua Penha", "102", "06700000", "Cotia", "SP");
     }
 
     @Test
@@ -55,48 +58,76 @@ public class PessoaControllerTest {
                 // Resultados esperados ao injetar o mock
                 .andExpect(status().isCreated()) // Verifica se o status é 201 Created
                 .andExpect(jsonPath("$.nome").value("Taina")) // Confirma o nome da pessoa
-                .andExpect(jsonPath("$.endereco").value("Rua Penha, 102")) // Confirma o endereço
+                .andExpect(jsonPath("$.endereco").value("Rua Penha")) // Confirma o endereço
                 .andExpect(jsonPath("$.cep").value("06700000")) // Confirma o CEP
                 .andExpect(jsonPath("$.cidade").value("Cotia")) // Confirma a cidade
                 .andExpect(jsonPath("$.uf").value("SP")); // Confirma o estado
     }
 
+    @Test
+    public void deveSalvarLoteDePessoasERetornarNoBody() throws Exception {
+        PessoaDTO pessoaDTO = mockPessoa();
+        when(pessoaService.saveLote(anyList())).thenReturn(List.of(pessoaDTO, pessoaDTO));
+
+        mockMvc.perform(post("/api/pessoas/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(pessoaDTO, pessoaDTO))))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].nome").value("Taina"));
+    }
+
     @Test
     public void deveRetornarPessoaPorId() throws Exception {
         PessoaDTO pessoaDTO = mockPessoa();
+        when(pessoaService.findVersaoById(1L)).thenReturn(0L);
         when(pessoaService.findById(1L)).thenReturn(pessoaDTO);
 
         mockMvc.perform(get("/api/pessoas/1"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.nome").value("Taina"))
-                .andExpect(jsonPath("$.endereco").value("Rua Penha, 102"))
+                .andExpect(jsonPath("$.endereco").value("Rua Penha"))
                 .andExpect(jsonPath("$.cep").value("06700000"));
     }
 
+    @Test
+    public void deveUsarAVersaoDoCorpoNoETagDaPessoa() throws Exception {
+        // O corpo veio de uma consulta iniciada antes da alteração que levou a pessoa à versão 1
+        PessoaDTO pessoaDTO = new PessoaDTO(1L, "Taina", "Rua Penha", "102", "06700000", "Cotia", Estados.SP, 0L);
+        when(pessoaService.findVersaoById(1L)).thenReturn(1L);
+        when(pessoaService.findById(1L)).thenReturn(pessoaDTO);
+
+        mockMvc.perform(get("/api/pessoas/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"0\""))
+                .andExpect(jsonPath("$.nome").value("Taina"));
+    }
+
     @Test
     public void deveListarPessoas() throws Exception {
         PessoaDTO pessoaDTO = mockPessoa();
-        when(pessoaService.findAll()).thenReturn(List.of(pessoaDTO));
+        when(pessoaService.findAll(null, null, null, null)).thenReturn(new PaginaDTO<>(List.of(pessoaDTO), null));
 
         mockMvc.perform(get("/api/pessoas"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].nome").value("Taina"))
-                .andExpect(jsonPath("$[0].endereco").value("Rua Penha, 102"))
-                .andExpect(jsonPath("$[0].cep").value("06700000"))
-                .andExpect(jsonPath("$[0].uf").value("SP"));
+                .andExpect(jsonPath("$.conteudo[0].nome").value("Taina"))
+                .andExpect(jsonPath("$.conteudo[0].endereco").value("Rua Penha"))
+                .andExpect(jsonPath("$.conteudo[0].cep").value("06700000"))
+                .andExpect(jsonPath("$.conteudo[0].uf").value("SP"))
+                .andExpect(jsonPath("$.proximoCursor").doesNotExist());
     }
 
     @Test
     public void deveAtualizarPessoa() throws Exception {
         PessoaDTO pessoaDTO = mockPessoa();
-        when(pessoaService.update(eq(1L), any(PessoaDTO.class))).thenReturn(pessoaDTO);
+        when(pessoaService.update(eq(1L), any(PessoaDTO.class), isNull())).thenReturn(pessoaDTO);
 
         mockMvc.perform(put("/api/pessoas/1")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(pessoaDTO)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.nome").value("Taina"))
-                .andExpect(jsonPath("$.endereco").value("Rua Penha, 102"));
+                .andExpect(jsonPath("$.endereco").value("Rua Penha"));
     }
 
     @Test
@@ -0,0 +1,76 @@
+package br.com.taina.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void devePermitirARajadaERecarregarUmTokenPorIntervalo() {
+        // 3 requisições seguidas, recarga de 1 por segundo
+        TokenBucket bucket = new TokenBucket(3, SEGUNDO);
+        long agora = 1_000 * SEGUNDO;
+
+        assertEquals(0, bucket.tentarConsumir(agora));
+        assertEquals(0, bucket.tentarConsumir(agora));
+        assertEquals(0, bucket.tentarConsumir(agora));
+        assertEquals(SEGUNDO, bucket.tentarConsumir(agora));
+        assertEquals(SEGUNDO / 2, bucket.tentarConsumir(agora + SEGUNDO / 2));
+
+        assertEquals(0, bucket.tentarConsumir(agora + SEGUNDO));
+        assertEquals(SEGUNDO, bucket.tentarConsumir(agora + SEGUNDO));
+
+        // Parado por muito tempo, o bucket volta a ter apenas a capacidade
+        long depois = agora + 60 * SEGUNDO;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, bucket.tentarConsumir(depois));
+        }
+        assertTrue(bucket.tentarConsumir(depois) > 0);
+    }
+
+    @Test
+    void deveFuncionarComONanoTimeNegativo() {
+        TokenBucket bucket = new TokenBucket(1, SEGUNDO);
+
+        assertEquals(0, bucket.tentarConsumir(-5 * SEGUNDO));
+        assertEquals(SEGUNDO, bucket.tentarConsumir(-5 * SEGUNDO));
+    }
+
+    @Test
+    void deveConsumirExatamenteACapacidadeComThreadsConcorrentes() throws InterruptedException {
+        TokenBucket bucket = new TokenBucket(1000, SEGUNDO);
+        long agora = System.nanoTime();
+        AtomicInteger permitidas = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                executor.execute(() -> {
+                    try {
+                        largada.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < 500; i++) {
+                        if (bucket.tentarConsumir(agora) == 0) {
+                            permitidas.incrementAndGet();
+                        }
+                    }
+                });
+            }
+            largada.countDown();
+        }
+
+        assertEquals(1000, permitidas.get());
+    }
+}
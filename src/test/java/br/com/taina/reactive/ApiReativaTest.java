@@ -0,0 +1,110 @@
+package br.com.taina.reactive;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.service.PessoaService;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@ActiveProfiles("reactive")
+@AutoConfigureWebTestClient
+class ApiReativaTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Test
+    void deveCadastrarConsultarAtualizarEExcluirPessoaComContatos() {
+        PessoaDTO pessoa = webTestClient.post().uri("/api/pessoas")
+                .bodyValue(new PessoaDTO(null, "Maria Reativa", "Rua das Flores", "10", "06700000", "Cotia", "sp"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(PessoaDTO.class).returnResult().getResponseBody();
+        assertNotNull(pessoa.getId());
+        assertEquals("SP", pessoa.getUf());
+
+        ContatoDTO contato = webTestClient.post().uri("/api/contatos")
+                .bodyValue(new ContatoDTO(null, "celular", "11974510719", pessoa.getId()))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(ContatoDTO.class).returnResult().getResponseBody();
+        assertEquals("CELULAR", contato.getTipoContato());
+
+        webTestClient.get().uri("/api/contatos/pessoa/{id}", pessoa.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(ContatoDTO.class).contains(contato);
+
+        webTestClient.put().uri("/api/pessoas/{id}", pessoa.getId())
+                .bodyValue(new PessoaDTO(null, "Maria Reativa Silva", "Rua das Flores", "10", "06700000", "Cotia", "SP"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.nome").isEqualTo("Maria Reativa Silva");
+
+        // O que foi gravado pela API reativa é visto pelo JPA, no mesmo banco
+        assertEquals("Maria Reativa Silva", pessoaService.findById(pessoa.getId()).getNome());
+
+        webTestClient.delete().uri("/api/pessoas/{id}", pessoa.getId()).exchange().expectStatus().isNoContent();
+        webTestClient.get().uri("/api/pessoas/{id}", pessoa.getId()).exchange().expectStatus().isNotFound();
+        webTestClient.get().uri("/api/contatos/{id}", contato.getId()).exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    void deveListarPessoasEmNdjsonConformeSaoLidas() {
+        List<PessoaDTO> cadastradas = pessoaService.saveLote(List.of(
+                new PessoaDTO(null, "Ana Fluxo", "Rua das Flores", "1", "06700000", "Paraty", "RJ"),
+                new PessoaDTO(null, "Bruno Fluxo", "Rua das Flores", "2", "06700000", "Paraty", "RJ")));
+
+        Flux<PessoaDTO> pessoas = webTestClient.get().uri("/api/pessoas?uf=rj&cidade=Paraty")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(PessoaDTO.class).getResponseBody();
+
+        StepVerifier.create(pessoas.map(PessoaDTO::getId))
+                .expectNext(cadastradas.get(0).getId(), cadastradas.get(1).getId())
+                .verifyComplete();
+    }
+
+    @Test
+    void deveRetornarOsMesmosErrosDaApiSpringMvc() {
+        webTestClient.post().uri("/api/pessoas")
+                .bodyValue(new PessoaDTO(null, "", "Rua das Flores", "10", "06700000", "Cotia", "SP"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.statusCode").isEqualTo(400);
+
+        webTestClient.get().uri("/api/pessoas?uf=XX")
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody().jsonPath("$.erros[0]")
+                .isEqualTo("Erro! O campo UF está inválido. Digite um estado brasileiro válido. Exemplo: SP");
+
+        webTestClient.get().uri("/api/pessoas/{id}", Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.erros[0]").isEqualTo("Pessoa com ID " + Long.MAX_VALUE + " não encontrada");
+
+        webTestClient.post().uri("/api/contatos")
+                .bodyValue(new ContatoDTO(null, "EMAIL", "taina@email.com", Long.MAX_VALUE))
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+}
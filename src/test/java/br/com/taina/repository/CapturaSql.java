@@ -0,0 +1,24 @@
+package br.com.taina.repository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Guarda o SQL de cada comando enviado pelo Hibernate, para o {@link PlanoExecucaoTest} consultar o plano de execução
+ * e para o {@code ComandosSqlTest} contar os comandos de cada gravação.
+ * Registrado pela propriedade {@code hibernate.session_factory.statement_inspector}.
+ */
+public class CapturaSql implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final List<String> COMANDOS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        COMANDOS.add(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,225 @@
+package br.com.taina.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.taina.enums.Estados;
+
+/**
+ * Executa cada consulta dos repositories, captura o SQL gerado pelo Hibernate com o {@link CapturaSql} e consulta o
+ * plano de execução no H2 (EXPLAIN). O teste falha quando alguma tabela é percorrida inteira: no plano, o acesso à
+ * tabela aparece sem condição de índice, como {@code /* PUBLIC.PESSOA.tableScan *}{@code /} ou
+ * {@code /* PUBLIC.PRIMARY_KEY_8C *}{@code /}.
+ *
+ * O schema é o das migrations do Flyway, usado pelo profile 'prod'. As consultas que leem todas as pessoas de
+ * propósito ficam em {@link #LEITURAS_COMPLETAS}. Toda consulta nova com {@link Query} precisa entrar em
+ * {@link #consultas()}, senão o teste falha.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plano-execucao",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=br.com.taina.repository.CapturaSql"
+})
+class PlanoExecucaoTest {
+
+    // Acesso a uma tabela sem condição de índice: /* PUBLIC.TABELA.tableScan */ ou /* PUBLIC.INDICE */
+    private static final Pattern LEITURA_COMPLETA = Pattern.compile("/\\* (PUBLIC\\.[A-Z0-9_]+(\\.tableScan)?) \\*/");
+
+    // Consultas que percorrem a tabela inteira de propósito
+    private static final Set<String> LEITURAS_COMPLETAS = Set.of(
+            "PessoaRepository.streamAllComContatos",        // exportação de todas as pessoas
+            "PessoaRepository.streamBusca",                 // carga do índice de busca por nome
+            "PessoaRepository.streamTodas",                 // detecção de duplicatas
+            "PessoaRepository.streamMalaDireta",            // mala direta sem filtro
+            "PessoaRepository.contarPorUfECidade",          // carga das estatísticas na inicialização
+            "ContatoRepository.contarPorTipo",              // carga das estatísticas na inicialização
+            "ContatoRepository.findContatosCompartilhados"  // agrupa todos os contatos pelo valor normalizado
+    );
+
+    // Páginas filtradas: devem ser lidas do índice do filtro já na ordem do ID, sem ordenar as pessoas do filtro.
+    // Uma leitura da chave primária a partir do cursor não aparece como leitura completa, mas filtra linha a linha
+    private static final Map<String, String> PAGINAS_POR_INDICE = Map.of(
+            "PessoaRepository.findPaginaPorUf", "IDX_PESSOA_UF",
+            "PessoaRepository.findPaginaPorUfECidade", "IDX_PESSOA_UF_CIDADE",
+            "PessoaRepository.findPaginaPorCidade", "IDX_PESSOA_CIDADE"
+    );
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private ContatoRepository contatoRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void cadastrarPessoas() {
+        // Com as tabelas populadas e as estatísticas atualizadas, o H2 escolhe os índices como faria em produção
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pessoa", Long.class) == 0) {
+            jdbcTemplate.update("INSERT INTO pessoa (id, nome, endereco, cep, cidade, uf) "
+                    + "SELECT X, 'Pessoa ' || X, 'Rua das Flores', LPAD(CAST(MOD(X * 7919, 100000000) AS VARCHAR), 8, '0'), "
+                    + "'Cidade ' || MOD(X, 300), CASE MOD(X, 3) WHEN 0 THEN 'SP' WHEN 1 THEN 'RJ' ELSE 'MG' END "
+                    + "FROM SYSTEM_RANGE(1, 3000)");
+            jdbcTemplate.update("INSERT INTO contato (id, tipo_contato, contato, contato_normalizado, id_pessoa) "
+                    + "SELECT X, 'CELULAR', '119' || LPAD(CAST(X AS VARCHAR), 8, '0'), '119' || LPAD(CAST(X AS VARCHAR), 8, '0'), "
+                    + "MOD(X, 3000) + 1 FROM SYSTEM_RANGE(1, 6000)");
+            jdbcTemplate.execute("ANALYZE");
+        }
+    }
+
+    @Test
+    void nenhumaConsultaDevePercorrerUmaTabelaInteira() throws SQLException {
+        List<String> falhas = new ArrayList<>();
+        for (Map.Entry<String, Runnable> consulta : consultas().entrySet()) {
+            List<String> planos = planos(consulta.getValue());
+            assertFalse(planos.isEmpty(), consulta.getKey() + " não executou SQL");
+
+            for (String plano : planos) {
+                Matcher leitura = LEITURA_COMPLETA.matcher(plano);
+                if (leitura.find() && !LEITURAS_COMPLETAS.contains(consulta.getKey())) {
+                    falhas.add(consulta.getKey() + " percorre " + leitura.group(1) + ":\n" + plano);
+                }
+            }
+        }
+
+        assertTrue(falhas.isEmpty(), String.join("\n\n", falhas));
+    }
+
+    @Test
+    void paginasFiltradasDevemSerLidasDoIndiceNaOrdemDoId() throws SQLException {
+        Map<String, Runnable> consultas = consultas();
+        for (Map.Entry<String, String> pagina : PAGINAS_POR_INDICE.entrySet()) {
+            String plano = String.join("\n", planos(consultas.get(pagina.getKey())));
+            assertTrue(plano.contains("/* PUBLIC." + pagina.getValue() + ":"), pagina.getKey() + " não usa " + pagina.getValue() + ":\n" + plano);
+            assertTrue(plano.contains("/* index sorted */"), pagina.getKey() + " ordena as linhas do filtro:\n" + plano);
+        }
+    }
+
+    @Test
+    void todasAsConsultasDosRepositoriesDevemSerVerificadas() {
+        Set<String> declaradas = new TreeSet<>();
+        for (Class<?> repository : List.of(PessoaRepository.class, ContatoRepository.class)) {
+            for (Method metodo : repository.getDeclaredMethods()) {
+                if (metodo.isAnnotationPresent(Query.class)) {
+                    declaradas.add(repository.getSimpleName() + "." + metodo.getName());
+                }
+            }
+        }
+
+        assertEquals(declaradas, new TreeSet<>(consultas().keySet()));
+        assertTrue(declaradas.containsAll(LEITURAS_COMPLETAS));
+    }
+
+    private Map<String, Runnable> consultas() {
+        Map<String, Runnable> consultas = new LinkedHashMap<>();
+        consultas.put("PessoaRepository.findDTOById", () -> pessoaRepository.findDTOById(10L));
+        consultas.put("PessoaRepository.contarPorUfECidade", pessoaRepository::contarPorUfECidade);
+        consultas.put("PessoaRepository.findIdsExistentes", () -> pessoaRepository.findIdsExistentes(List.of(10L, 20L)));
+        consultas.put("PessoaRepository.findComContatosById", () -> pessoaRepository.findComContatosById(10L));
+        consultas.put("PessoaRepository.findVersaoById", () -> pessoaRepository.findVersaoById(10L));
+        consultas.put("PessoaRepository.findMalaDiretaById", () -> pessoaRepository.findMalaDiretaById(10L));
+        consultas.put("PessoaRepository.findPagina", () -> pessoaRepository.findPagina(100L, Limit.of(20)));
+        consultas.put("PessoaRepository.findPaginaPorUf", () -> pessoaRepository.findPaginaPorUf(100L, Estados.SP, Limit.of(20)));
+        consultas.put("PessoaRepository.findPaginaPorUfECidade",
+                () -> pessoaRepository.findPaginaPorUfECidade(100L, Estados.SP, "Cidade 3", Limit.of(20)));
+        consultas.put("PessoaRepository.findPaginaPorCidade",
+                () -> pessoaRepository.findPaginaPorCidade(100L, "Cidade 3", Limit.of(20)));
+        consultas.put("PessoaRepository.streamAllComContatos", () -> consumir(pessoaRepository::streamAllComContatos));
+        consultas.put("PessoaRepository.streamMalaDireta", () -> consumir(pessoaRepository::streamMalaDireta));
+        consultas.put("PessoaRepository.streamMalaDiretaPorUf",
+                () -> consumir(() -> pessoaRepository.streamMalaDiretaPorUf(Estados.SP, "Cidade 3", "0")));
+        consultas.put("PessoaRepository.streamMalaDiretaPorCidade",
+                () -> consumir(() -> pessoaRepository.streamMalaDiretaPorCidade("Cidade 3", null)));
+        consultas.put("PessoaRepository.streamMalaDiretaPorCep", () -> consumir(() -> pessoaRepository.streamMalaDiretaPorCep("0670%")));
+        consultas.put("PessoaRepository.streamBusca", () -> consumir(pessoaRepository::streamBusca));
+        consultas.put("PessoaRepository.streamTodas", () -> consumir(pessoaRepository::streamTodas));
+        consultas.put("PessoaRepository.excluirPorId", () -> naTransacaoDesfeita(() -> pessoaRepository.excluirPorId(Long.MAX_VALUE)));
+        consultas.put("ContatoRepository.findContatosPessoaById", () -> contatoRepository.findContatosPessoaById(10L));
+        consultas.put("ContatoRepository.findDTOById", () -> contatoRepository.findDTOById(10L));
+        consultas.put("ContatoRepository.findDTOsByPessoaId", () -> contatoRepository.findDTOsByPessoaId(10L));
+        consultas.put("ContatoRepository.findPessoasByContatoNormalizado",
+                () -> contatoRepository.findPessoasByContatoNormalizado("11900000010"));
+        consultas.put("ContatoRepository.contarPorTipo", contatoRepository::contarPorTipo);
+        consultas.put("ContatoRepository.findVersoesContatos", () -> contatoRepository.findVersoesContatos(10L));
+        consultas.put("ContatoRepository.findContatosCompartilhados", contatoRepository::findContatosCompartilhados);
+        consultas.put("ContatoRepository.moverContatos",
+                () -> naTransacaoDesfeita(() -> contatoRepository.moverContatos(Long.MAX_VALUE, Long.MAX_VALUE - 1)));
+        return consultas;
+    }
+
+    // Executa a consulta e devolve o plano de cada comando SQL enviado por ela
+    private List<String> planos(Runnable consulta) throws SQLException {
+        CapturaSql.COMANDOS.clear();
+        consulta.run();
+        List<String> comandos = List.copyOf(CapturaSql.COMANDOS);
+
+        List<String> planos = new ArrayList<>();
+        try (Connection conexao = dataSource.getConnection()) {
+            for (String sql : comandos) {
+                try (PreparedStatement explain = conexao.prepareStatement("EXPLAIN " + sql)) {
+                    // O H2 monta o plano sem olhar os valores dos parâmetros
+                    for (int i = 1; i <= explain.getParameterMetaData().getParameterCount(); i++) {
+                        explain.setObject(i, null);
+                    }
+                    try (ResultSet resultado = explain.executeQuery()) {
+                        resultado.next();
+                        planos.add(resultado.getString(1));
+                    }
+                }
+            }
+        }
+        return planos;
+    }
+
+    private void consumir(java.util.function.Supplier<? extends Stream<?>> consulta) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<?> linhas = consulta.get()) {
+                linhas.forEach(linha -> {});
+            }
+        });
+    }
+
+    private void naTransacaoDesfeita(Runnable comando) {
+        transactionTemplate.executeWithoutResult(status -> {
+            comando.run();
+            status.setRollbackOnly();
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.taina.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import br.com.taina.dto.PessoaBuscaDTO;
+
+class PessoaSearchIndexTest {
+
+    private PessoaSearchIndex indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new PessoaSearchIndex();
+        indice.adicionar(new PessoaBuscaDTO(1L, "João da Silva", "São Paulo", "SP"));
+        indice.adicionar(new PessoaBuscaDTO(2L, "Joana Conceição", "Cotia", "SP"));
+        indice.adicionar(new PessoaBuscaDTO(3L, "Ana Luíza Souza", "Niterói", "RJ"));
+    }
+
+    private List<Long> ids(List<PessoaBuscaDTO> pessoas) {
+        return pessoas.stream().map(PessoaBuscaDTO::id).toList();
+    }
+
+    @Test
+    void deveNormalizarAcentosEMaiusculas() {
+        assertEquals("joao conceicao", PessoaSearchIndex.normalizar(" JOÃO Conceição "));
+        assertEquals("aaaaeeeiooucaaaeeioouc", PessoaSearchIndex.normalizar("áàãâéèêíóôúçÁÀÂÉÊÍÓÔÚÇ"));
+    }
+
+    @Test
+    void deveEncontrarPorPrefixoSemDiferenciarAcentos() {
+        assertEquals(List.of(2L, 1L), ids(indice.buscar("jo", null, 10)));
+        assertEquals(List.of(1L), ids(indice.buscar("JOÃO", null, 10)));
+        assertEquals(List.of(2L), ids(indice.buscar("conceic", null, 10)));
+    }
+
+    @Test
+    void deveExigirTodasAsPalavrasEmQualquerOrdem() {
+        assertEquals(List.of(1L), ids(indice.buscar("sil jo", null, 10)));
+        assertEquals(List.of(3L), ids(indice.buscar("luiza an", null, 10)));
+        assertTrue(indice.buscar("jo souza", null, 10).isEmpty());
+    }
+
+    @Test
+    void deveFiltrarPeloInicioDaCidade() {
+        assertEquals(List.of(1L), ids(indice.buscar("jo", "sao", 10)));
+        assertEquals(List.of(2L), ids(indice.buscar("jo", "Cot", 10)));
+    }
+
+    @Test
+    void deveRespeitarOLimite() {
+        assertEquals(1, indice.buscar("jo", null, 1).size());
+    }
+
+    @Test
+    void deveAtualizarERemoverPessoasDoIndice() {
+        indice.adicionar(new PessoaBuscaDTO(1L, "Pedro da Silva", "São Paulo", "SP"));
+
+        assertTrue(indice.buscar("joao", null, 10).isEmpty());
+        assertEquals(List.of(1L), ids(indice.buscar("pedro", null, 10)));
+
+        indice.remover(1L);
+
+        assertTrue(indice.buscar("pedro", null, 10).isEmpty());
+        assertTrue(indice.buscar("silva", null, 10).isEmpty());
+        assertEquals(2, indice.tamanho());
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.taina.search;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class SimilaridadeTest {
+
+    @Test
+    void deveCalcularValoresConhecidosDeJaroWinkler() {
+        assertEquals(0.961, Similaridade.jaroWinkler("martha", "marhta"), 0.001);
+        assertEquals(0.840, Similaridade.jaroWinkler("dwayne", "duane"), 0.001);
+        assertEquals(0.813, Similaridade.jaroWinkler("dixon", "dicksonx"), 0.001);
+    }
+
+    @Test
+    void deveRetornarUmParaTextosIguaisEZeroSemNadaEmComum() {
+        assertEquals(1.0, Similaridade.jaroWinkler("taina silva", "taina silva"));
+        assertEquals(0.0, Similaridade.jaroWinkler("abc", "xyz"));
+        assertEquals(0.0, Similaridade.jaroWinkler("", "taina"));
+    }
+
+    @Test
+    void deveSerSimetrica() {
+        assertEquals(Similaridade.jaroWinkler("joao da silva", "joao silva"),
+                Similaridade.jaroWinkler("joao silva", "joao da silva"), 1e-12);
+    }
+}
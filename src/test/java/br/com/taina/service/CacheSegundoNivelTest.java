@@ -0,0 +1,132 @@
+package br.com.taina.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.taina.configuration.CacheConfig;
+import br.com.taina.dto.CacheEstatisticaDTO;
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.repository.ContatoRepository;
+import br.com.taina.repository.PessoaRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class CacheSegundoNivelTest {
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private ContatoService contatoService;
+
+    @Autowired
+    private CacheService cacheService;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private ContatoRepository contatoRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics estatisticas;
+    private Long idPessoa;
+
+    @BeforeEach
+    void setup() {
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        PessoaDTO pessoa = new PessoaDTO(null, "Taina", "Rua Penha", "102", "06700000", "Cotia", "SP");
+        pessoa.setContatos(List.of(new ContatoDTO(null, "CELULAR", "11974510710", null)));
+        idPessoa = pessoaService.saveLote(List.of(pessoa)).get(0).getId();
+    }
+
+    private int quantidadeContatosDaColecao() {
+        return transactionTemplate.execute(status -> pessoaRepository.findById(idPessoa).orElseThrow().getContatos().size());
+    }
+
+    @Test
+    void deveLerPessoaEContatosDoCacheSemExecutarSql() {
+        pessoaService.findById(idPessoa);
+        contatoService.findAllByPessoaId(idPessoa);
+        contatoRepository.findContatosPessoaById(idPessoa);
+        quantidadeContatosDaColecao();
+
+        estatisticas.clear();
+
+        assertEquals("Taina", pessoaService.findById(idPessoa).getNome());
+        assertEquals(1, contatoService.findAllByPessoaId(idPessoa).size());
+        assertEquals(1, contatoRepository.findContatosPessoaById(idPessoa).size());
+        assertEquals(1, quantidadeContatosDaColecao());
+
+        assertEquals(0, estatisticas.getPrepareStatementCount());
+        assertEquals(3, estatisticas.getQueryCacheHitCount());
+        assertTrue(estatisticas.getSecondLevelCacheHitCount() > 0);
+    }
+
+    @Test
+    void deveRemoverDoCacheAoAtualizarPessoa() {
+        pessoaService.findById(idPessoa);
+
+        pessoaService.update(idPessoa, new PessoaDTO(null, "Taina Silva", "Rua Penha", "102", "06700000", "Cotia", "SP"));
+
+        assertEquals("Taina Silva", pessoaService.findById(idPessoa).getNome());
+        assertEquals("Taina Silva", pessoaRepository.findById(idPessoa).orElseThrow().getNome());
+    }
+
+    @Test
+    void deveRemoverListaDeContatosDoCacheAoSalvarEExcluirContatos() {
+        assertEquals(1, quantidadeContatosDaColecao());
+        assertEquals(1, contatoService.findAllByPessoaId(idPessoa).size());
+
+        List<ContatoDTO> salvos = contatoService.saveLote(idPessoa, List.of(new ContatoDTO(null, "EMAIL", "taina@gmail.com", null)));
+
+        assertEquals(2, quantidadeContatosDaColecao());
+        assertEquals(2, contatoService.findAllByPessoaId(idPessoa).size());
+
+        contatoService.delete(salvos.get(0).getId());
+
+        assertEquals(1, quantidadeContatosDaColecao());
+        assertEquals(1, contatoService.findAllByPessoaId(idPessoa).size());
+    }
+
+    @Test
+    void deveRemoverDoCacheAoExcluirPessoa() {
+        pessoaService.findById(idPessoa);
+        quantidadeContatosDaColecao();
+
+        pessoaService.delete(idPessoa);
+
+        assertTrue(pessoaRepository.findById(idPessoa).isEmpty());
+        assertTrue(contatoRepository.findContatosPessoaById(idPessoa).isEmpty());
+    }
+
+    @Test
+    void deveRetornarEstatisticasDeTodasAsRegioes() {
+        pessoaService.findById(idPessoa);
+        pessoaService.findById(idPessoa);
+
+        List<CacheEstatisticaDTO> regioes = cacheService.estatisticas();
+
+        assertEquals(CacheConfig.REGIOES, regioes.stream().map(CacheEstatisticaDTO::regiao).toList());
+        CacheEstatisticaDTO consultas = regioes.stream()
+                .filter(regiao -> regiao.regiao().equals(CacheConfig.REGIAO_CONSULTAS)).findFirst().orElseThrow();
+        assertTrue(consultas.acertos() > 0);
+        assertTrue(consultas.tamanho() > 0);
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.taina.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.exception.IdNotFoundException;
+import br.com.taina.repository.CapturaSql;
+
+/**
+ * Confere a quantidade exata de comandos SQL de cada gravação, com o cache de segundo nível desligado para todas as
+ * leituras irem ao banco. As chamadas à sequence dos IDs não entram na contagem: com a alocação em blocos de 50,
+ * elas acontecem só de vez em quando, conforme os inserts feitos antes.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=br.com.taina.repository.CapturaSql"
+})
+class ComandosSqlTest {
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private ContatoService contatoService;
+
+    private Long idPessoa;
+
+    @BeforeEach
+    void cadastrarPessoa() {
+        idPessoa = pessoaService.save(new PessoaDTO(null, "Ana Comandos", "Rua Penha", "1", "06700000", "Cotia", "SP")).getId();
+        CapturaSql.COMANDOS.clear();
+    }
+
+    @Test
+    void deveSalvarContatoComUmSelectEUmInsert() {
+        contatoService.save(new ContatoDTO(null, "CELULAR", "11974510701", idPessoa));
+
+        assertComandos(List.of("select", "insert"));
+    }
+
+    @Test
+    void deveRecusarContatoDePessoaInexistenteComUmSelect() {
+        assertThrows(IdNotFoundException.class,
+                () -> contatoService.save(new ContatoDTO(null, "CELULAR", "11974510701", Long.MAX_VALUE)));
+
+        assertComandos(List.of("select"));
+    }
+
+    @Test
+    void deveAtualizarContatoComUmSelectEUmUpdateDasColunasAlteradas() {
+        ContatoDTO contato = contatoService.save(new ContatoDTO(null, "CELULAR", "11974510701", idPessoa));
+        CapturaSql.COMANDOS.clear();
+
+        contatoService.update(contato.getId(), new ContatoDTO(null, "CELULAR", "11974510702", idPessoa));
+
+        assertComandos(List.of("select", "update"));
+        assertFalse(CapturaSql.COMANDOS.get(1).contains("tipo_contato"), CapturaSql.COMANDOS.get(1));
+    }
+
+    @Test
+    void deveExcluirContatoComUmSelectEUmDelete() {
+        ContatoDTO contato = contatoService.save(new ContatoDTO(null, "CELULAR", "11974510701", idPessoa));
+        CapturaSql.COMANDOS.clear();
+
+        contatoService.delete(contato.getId());
+
+        assertComandos(List.of("select", "delete"));
+    }
+
+    @Test
+    void deveSalvarPessoaComUmInsert() {
+        pessoaService.save(new PessoaDTO(null, "Bia Comandos", "Rua Penha", "2", "06700000", "Cotia", "SP"));
+
+        assertComandos(List.of("insert"));
+    }
+
+    @Test
+    void deveAtualizarPessoaComUmSelectEUmUpdateDasColunasAlteradas() {
+        pessoaService.update(idPessoa, new PessoaDTO(null, "Ana Comandos", "Rua Penha", "1", "06700000", "Osasco", "SP"));
+
+        assertComandos(List.of("select", "update"));
+        String update = CapturaSql.COMANDOS.get(1);
+        assertTrue(update.contains("cidade"), update);
+        assertFalse(update.contains("nome"), update);
+    }
+
+    @Test
+    void deveExcluirPessoaEContatosComQuatroComandosSejaQualForAQuantidadeDeContatos() {
+        contatoService.saveLote(idPessoa, List.of(new ContatoDTO(null, "CELULAR", "11974510701", null),
+                new ContatoDTO(null, "EMAIL", "ana@email.com", null),
+                new ContatoDTO(null, "TELEFONE_FIXO", "1140028922", null)));
+        CapturaSql.COMANDOS.clear();
+
+        pessoaService.delete(idPessoa);
+
+        // Pessoa, lista de contatos, DELETEs dos contatos em um JDBC batch e DELETE da pessoa
+        assertComandos(List.of("select", "select", "delete", "delete"));
+    }
+
+    // Compara a primeira palavra de cada comando, sem as chamadas à sequence; na falha mostra o SQL completo
+    private static void assertComandos(List<String> esperados) {
+        List<String> comandos = CapturaSql.COMANDOS.stream()
+                .filter(sql -> !sql.contains("next value for"))
+                .toList();
+        assertEquals(esperados, comandos.stream().map(sql -> sql.trim().split("\\s+")[0].toLowerCase(Locale.ROOT)).toList(),
+                String.join("\n", comandos));
+    }
+}
@@ -0,0 +1,89 @@
+package br.com.taina.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.exception.FormatoInvalidoException;
+import br.com.taina.exception.NadaParaListarException;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class ContatoLookupTest {
+
+    @Autowired
+    private ContatoService contatoService;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long salvarPessoaComContatos(String nome, ContatoDTO... contatos) {
+        PessoaDTO pessoa = new PessoaDTO(null, nome, "Rua Penha", "102", "06700000", "Cotia", "SP");
+        pessoa.setContatos(List.of(contatos));
+        return pessoaService.saveLote(List.of(pessoa)).get(0).getId();
+    }
+
+    private List<Long> buscarIds(String valor, String tipo) {
+        return contatoService.findPessoasByContato(valor, tipo).stream().map(PessoaDTO::getId).toList();
+    }
+
+    @Test
+    void deveEncontrarAPessoaPeloContatoEmQualquerFormatacao() {
+        Long id = salvarPessoaComContatos("Taina",
+                new ContatoDTO(null, "CELULAR", "11974510799", null),
+                new ContatoDTO(null, "EMAIL", "Taina.Lookup@Gmail.com", null),
+                new ContatoDTO(null, "LINKEDIN", "www.linkedin.com/in/taina-lookup", null));
+
+        assertEquals(List.of(id), buscarIds("+55 (11) 97451-0799", null));
+        assertEquals(List.of(id), buscarIds("taina.lookup@gmail.com", null));
+        assertEquals(List.of(id), buscarIds("https://linkedin.com/in/Taina-Lookup/", "linkedin"));
+    }
+
+    @Test
+    void deveRetornarTodasAsPessoasQueCompartilhamOContato() {
+        Long primeira = salvarPessoaComContatos("Ana", new ContatoDTO(null, "TELEFONE_FIXO", "1140028900", null));
+        Long segunda = salvarPessoaComContatos("Bia", new ContatoDTO(null, "TELEFONE_FIXO", "1140028900", null));
+
+        assertEquals(List.of(primeira, segunda), buscarIds("(11) 4002-8900", "telefone_fixo"));
+    }
+
+    @Test
+    void deveAtualizarOValorNormalizadoAoAlterarOContato() {
+        Long idPessoa = salvarPessoaComContatos("Carla", new ContatoDTO(null, "EMAIL", "carla.antigo@gmail.com", null));
+        ContatoDTO contato = contatoService.findAllByPessoaId(idPessoa).get(0);
+
+        contatoService.update(contato.getId(), new ContatoDTO(null, "EMAIL", "Carla.Novo@gmail.com", null));
+
+        assertEquals(List.of(idPessoa), buscarIds("carla.novo@gmail.com", null));
+        assertThrows(NadaParaListarException.class, () -> contatoService.findPessoasByContato("carla.antigo@gmail.com", null));
+    }
+
+    @Test
+    void deveResponderBuscasRepetidasSemConsultarOBanco() {
+        Long id = salvarPessoaComContatos("Duda", new ContatoDTO(null, "CELULAR", "11974510798", null));
+        buscarIds("11974510798", null);
+
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        assertEquals(List.of(id), buscarIds("(11) 97451-0798", null));
+        assertEquals(0, estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    void deveLancarFormatoInvalidoParaTipoOuValorInvalido() {
+        assertThrows(FormatoInvalidoException.class, () -> contatoService.findPessoasByContato("11974510710", "FAX"));
+        assertThrows(FormatoInvalidoException.class, () -> contatoService.findPessoasByContato("sem digitos", "CELULAR"));
+    }
+}
@@ -0,0 +1,79 @@
+package br.com.taina.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.exception.IdNotFoundException;
+import br.com.taina.exception.LoteInvalidoException;
+import br.com.taina.repository.ContatoRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ContatoLoteTest {
+
+    @Autowired
+    private ContatoService contatoService;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private ContatoRepository contatoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private List<ContatoDTO> novosContatos(int quantidade) {
+        List<ContatoDTO> contatos = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            contatos.add(new ContatoDTO(null, "CELULAR", "119745107" + (10 + i), null));
+        }
+        return contatos;
+    }
+
+    @Test
+    void deveSalvarOsContatosSemCarregarAPessoaNemOsContatosExistentes() {
+        PessoaDTO pessoa = pessoaService.save(new PessoaDTO(null, "Taina", "Rua Penha", "102", "06700000", "Cotia", "SP"));
+        contatoService.saveLote(pessoa.getId(), novosContatos(3));
+
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        List<ContatoDTO> salvos = contatoService.saveLote(pessoa.getId(), novosContatos(20));
+
+        assertEquals(20, salvos.size());
+        assertTrue(salvos.stream().allMatch(contato -> contato.getId() != null && pessoa.getId().equals(contato.getIdPessoa())));
+        assertEquals(0, estatisticas.getCollectionLoadCount());
+        assertEquals(0, estatisticas.getEntityLoadCount());
+        assertEquals(23, contatoRepository.findContatosPessoaById(pessoa.getId()).size());
+    }
+
+    @Test
+    void deveRejeitarOLoteQuandoAlgumContatoForInvalido() {
+        PessoaDTO pessoa = pessoaService.save(new PessoaDTO(null, "Taina", "Rua Penha", "102", "06700000", "Cotia", "SP"));
+        List<ContatoDTO> contatos = novosContatos(2);
+        contatos.add(new ContatoDTO(null, "LINKEDIN", "www.linkedin.com/usuario", null));
+
+        LoteInvalidoException excecao = assertThrows(LoteInvalidoException.class,
+                () -> contatoService.saveLote(pessoa.getId(), contatos));
+
+        assertEquals(1, excecao.getErros().size());
+        assertTrue(excecao.getErros().get(0).startsWith("[2].contato: "));
+        assertTrue(contatoRepository.findContatosPessoaById(pessoa.getId()).isEmpty());
+    }
+
+    @Test
+    void deveLancarIdNotFoundExceptionQuandoPessoaNaoExistir() {
+        assertThrows(IdNotFoundException.class, () -> contatoService.saveLote(Long.MAX_VALUE, novosContatos(1)));
+    }
+}
@@ -5,16 +5,21 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import br.com.taina.dto.ContatoDTO;
 import br.com.taina.enums.TipoContato;
+import br.com.taina.exception.ErroServidorException;
 import br.com.taina.exception.IdNotFoundException;
+import br.com.taina.exception.NadaParaListarException;
 import br.com.taina.model.Contato;
 import br.com.taina.model.Pessoa;
 import br.com.taina.repository.ContatoRepository;
 import br.com.taina.repository.PessoaRepository;
 import br.com.taina.validation.ContatoValidation;
+import br.com.taina.validation.LoteValidation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.util.List;
 import java.util.Optional;
 
 class ContatoServiceTest {
@@ -28,6 +33,15 @@ class ContatoServiceTest {
     @Mock
     private ContatoValidation contatoValidation;
 
+    @Mock
+    private LoteValidation loteValidation;
+
+    @Mock
+    private CacheService cacheService;
+
+    @Mock
+    private EstatisticaService estatisticaService;
+
     @InjectMocks
     private ContatoService contatoService;
 
@@ -50,8 +64,9 @@ class ContatoServiceTest {
     @Test
     void deveSalvarContatoQuandoPessoaExistir() {
         // Simula o comportamento dos métodos dos repositórios
-        when(pessoaRepository.findById(1L)).thenReturn(Optional.of(pessoa));
-        when(contatoRepository.save(any(Contato.class))).thenReturn(new Contato());
+        when(pessoaRepository.existsById(1L)).thenReturn(true);
+        when(pessoaRepository.getReferenceById(1L)).thenReturn(pessoa);
+        when(contatoRepository.save(any(Contato.class))).thenAnswer(invocacao -> invocacao.getArgument(0));
 
         // Executa o método do serviço
         ContatoDTO contatoSalvo = contatoService.save(contatoDTO);
@@ -59,6 +74,9 @@ class ContatoServiceTest {
         // Verifica se o contato foi salvo
         assertNotNull(contatoSalvo);
         verify(contatoRepository, times(1)).save(any(Contato.class));
+        // A pessoa é só referenciada: nem carregada, nem gravada de novo
+        verify(pessoaRepository, never()).findById(1L);
+        verify(pessoaRepository, never()).save(any(Pessoa.class));
     }
 
     @Test
@@ -71,24 +89,49 @@ class ContatoServiceTest {
 
     @Test
     void deveRetornarContatoDTOQuandoContatoExistir() {
-        Contato contato = new Contato();
-        contato.setId(1L);
-        contato.setContato("test@example.com");
-        contato.setTipoContato(TipoContato.EMAIL);
-        when(contatoRepository.findById(1L)).thenReturn(Optional.of(contato));
+        ContatoDTO contato = new ContatoDTO(1L, TipoContato.EMAIL, "test@example.com", 1L);
+        when(contatoRepository.findDTOById(1L)).thenReturn(Optional.of(contato));
 
         ContatoDTO contatoEncontrado = contatoService.findById(1L);
 
         assertNotNull(contatoEncontrado);
+        assertEquals("EMAIL", contatoEncontrado.getTipoContato());
     }
 
     @Test
     void deveLancarIdNotFoundExceptionQuandoContatoNaoExistir() {
-        when(contatoRepository.findById(1L)).thenReturn(Optional.empty());
+        when(contatoRepository.findDTOById(1L)).thenReturn(Optional.empty());
 
         assertThrows(IdNotFoundException.class, () -> contatoService.findById(1L));
     }
 
+    @Test
+    void deveListarContatosDaPessoaSemConsultarAPessoa() {
+        ContatoDTO contato = new ContatoDTO(1L, TipoContato.EMAIL, "test@example.com", 1L);
+        when(contatoRepository.findDTOsByPessoaId(1L)).thenReturn(List.of(contato));
+
+        List<ContatoDTO> contatos = contatoService.findAllByPessoaId(1L);
+
+        assertEquals(1, contatos.size());
+        verifyNoInteractions(pessoaRepository);
+    }
+
+    @Test
+    void deveLancarIdNotFoundExceptionAoListarContatosQuandoPessoaNaoExistir() {
+        when(contatoRepository.findDTOsByPessoaId(1L)).thenReturn(List.of());
+        when(pessoaRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(IdNotFoundException.class, () -> contatoService.findAllByPessoaId(1L));
+    }
+
+    @Test
+    void deveLancarNadaParaListarExceptionQuandoPessoaNaoTiverContatos() {
+        when(contatoRepository.findDTOsByPessoaId(1L)).thenReturn(List.of());
+        when(pessoaRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(NadaParaListarException.class, () -> contatoService.findAllByPessoaId(1L));
+    }
+
     @Test
     void deveAtualizarContatoQuandoContatoExistir() {
         Contato contato = new Contato();
@@ -102,6 +145,18 @@ class ContatoServiceTest {
 
         assertNotNull(contatoAtualizado);
     }
+
+    @Test
+    void deveLancarErroServidorQuandoOLoteFalharNoFlush() {
+        when(pessoaRepository.existsById(1L)).thenReturn(true);
+        when(pessoaRepository.getReferenceById(1L)).thenReturn(pessoa);
+        // Por exemplo, a pessoa excluída por outra requisição entre a consulta e os inserts
+        doThrow(new DataIntegrityViolationException("FK_CONTATO_PESSOA")).when(contatoRepository).flush();
+
+        assertThrows(ErroServidorException.class, () -> contatoService.saveLote(1L, List.of(contatoDTO)));
+        verify(cacheService, never()).evictContatosDaPessoa(1L);
+    }
+
     @Test
     void deveDeletarContatoQuandoContatoExistir() {
         Contato contato = new Contato();
@@ -0,0 +1,143 @@
+package br.com.taina.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.DuplicataDTO;
+import br.com.taina.dto.PessoaBuscaDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.exception.FormatoInvalidoException;
+import br.com.taina.exception.IdNotFoundException;
+import br.com.taina.repository.PessoaRepository;
+
+@SpringBootTest
+class DuplicidadeTest {
+
+    @Autowired
+    private DuplicidadeService duplicidadeService;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private ContatoService contatoService;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long salvar(String nome, String cep, String cidade, ContatoDTO... contatos) {
+        PessoaDTO pessoa = new PessoaDTO(null, nome, "Rua Penha", "102", cep, cidade, "SP");
+        pessoa.setContatos(List.of(contatos));
+        return pessoaService.saveLote(List.of(pessoa)).get(0).getId();
+    }
+
+    private Optional<DuplicataDTO> encontrarPar(Long primeiro, Long segundo) {
+        return duplicidadeService.encontrarDuplicatas(0.9, 100_000).stream()
+                .filter(par -> par.idPessoa().equals(Math.min(primeiro, segundo)) && par.idDuplicata().equals(Math.max(primeiro, segundo)))
+                .findFirst();
+    }
+
+    @Test
+    void deveEncontrarNomesParecidosNoMesmoCep() {
+        Long primeiro = salvar("Gumercindo Albuquerque", "55501000", "Itaquaquecetuba");
+        Long segundo = salvar("Gumersindo Albuquerque", "55501000", "Itaquaquecetuba");
+        Long diferente = salvar("Zebedeu Prates", "55501000", "Itaquaquecetuba");
+
+        DuplicataDTO par = encontrarPar(primeiro, segundo).orElseThrow();
+        assertTrue(par.similaridade() > 0.9);
+        assertEquals(List.of("CEP", "CIDADE_UF"), par.criterios());
+        assertTrue(encontrarPar(primeiro, diferente).isEmpty());
+    }
+
+    @Test
+    void deveEncontrarPessoasComContatoEmComumEmCidadesDiferentes() {
+        Long primeiro = salvar("Hermenegilda Pontes", "55502000", "Pindamonhangaba",
+                new ContatoDTO(null, "EMAIL", "hermenegilda.pontes@gmail.com", null));
+        Long segundo = salvar("Hermenegilda Ponte", "55503000", "Guaratinguetá",
+                new ContatoDTO(null, "EMAIL", "Hermenegilda.Pontes@gmail.com", null));
+
+        assertEquals(List.of("CONTATO"), encontrarPar(primeiro, segundo).orElseThrow().criterios());
+    }
+
+    @Test
+    void naoDeveCompararPessoasSemBlocoEmComum() {
+        Long primeiro = salvar("Eufrosina Tavares", "55504000", "Caraguatatuba");
+        Long segundo = salvar("Eufrosina Tavares", "55505000", "Ubatuba");
+
+        assertTrue(encontrarPar(primeiro, segundo).isEmpty());
+    }
+
+    @Test
+    void deveLimitarAsComparacoesDeUmBlocoGrandeComOMesmoPrefixo() {
+        // 2 mil pessoas na mesma cidade, todas com nomes que começam por "mariana", em CEPs diferentes
+        Random random = new Random(7);
+        List<PessoaDTO> pessoas = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder nome = new StringBuilder("Mariana ");
+            for (int letra = 0; letra < 8; letra++) {
+                nome.append((char) ('a' + random.nextInt(26)));
+            }
+            pessoas.add(new PessoaDTO(null, nome.toString(), "Rua Penha", "102", String.format("%08d", 56_000_000 + i), "Mariluz", "SP"));
+        }
+        pessoaService.saveLote(pessoas);
+        Long primeiro = salvar("Mariana Duplicada Souza", "56100000", "Mariluz");
+        Long segundo = salvar("Mariana Duplicada Sousa", "56100001", "Mariluz");
+
+        List<DuplicidadeService.Bloco> blocos = transactionTemplate.execute(status -> duplicidadeService.montarBlocos());
+        long maximo = (long) DuplicidadeService.TAMANHO_MAXIMO_BLOCO * (DuplicidadeService.TAMANHO_MAXIMO_BLOCO - 1) / 2;
+        assertTrue(blocos.stream().allMatch(bloco -> bloco.comparacoes() <= maximo));
+
+        assertEquals(List.of("CIDADE_UF"), encontrarPar(primeiro, segundo).orElseThrow().criterios());
+    }
+
+    @Test
+    void deveRecusarSimilaridadeAbaixoDoMinimo() {
+        assertThrows(FormatoInvalidoException.class, () -> duplicidadeService.encontrarDuplicatas(0.0, null));
+        assertThrows(FormatoInvalidoException.class, () -> duplicidadeService.encontrarDuplicatas(0.79, null));
+        assertThrows(FormatoInvalidoException.class, () -> duplicidadeService.encontrarDuplicatas(1.1, null));
+    }
+
+    @Test
+    void deveMesclarMovendoOsContatosEExcluindoAOrigem() {
+        Long origem = salvar("Filisbina Correa", "55506000", "Taubaté",
+                new ContatoDTO(null, "CELULAR", "11974510701", null),
+                new ContatoDTO(null, "EMAIL", "filisbina@gmail.com", null));
+        Long destino = salvar("Filisbina Corrêa", "55506000", "Taubaté",
+                new ContatoDTO(null, "CELULAR", "11974510702", null));
+
+        // Coloca a lista de contatos do destino no cache antes da mescla
+        assertEquals(1, contatoService.findAllByPessoaId(destino).size());
+        transactionTemplate.executeWithoutResult(status -> pessoaRepository.findById(destino).orElseThrow().getContatos().size());
+
+        PessoaDTO mesclada = pessoaService.mesclar(origem, destino);
+
+        assertEquals(destino, mesclada.getId());
+        assertTrue(pessoaRepository.findById(origem).isEmpty());
+        assertEquals(3, contatoService.findAllByPessoaId(destino).size());
+        Integer contatosDaColecao = transactionTemplate.execute(status -> pessoaRepository.findById(destino).orElseThrow().getContatos().size());
+        assertEquals(3, contatosDaColecao);
+        assertTrue(pessoaService.buscar("filisbina", null, 50).stream().map(PessoaBuscaDTO::id).noneMatch(origem::equals));
+    }
+
+    @Test
+    void deveLancarExcecaoAoMesclarPessoasInvalidas() {
+        Long id = salvar("Ondina Queiroz", "55507000", "Jacareí");
+
+        assertThrows(FormatoInvalidoException.class, () -> pessoaService.mesclar(id, id));
+        assertThrows(IdNotFoundException.class, () -> pessoaService.mesclar(-1L, id));
+        assertThrows(IdNotFoundException.class, () -> pessoaService.mesclar(id, -1L));
+    }
+}
@@ -0,0 +1,92 @@
+package br.com.taina.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.EstatisticaDTO;
+import br.com.taina.dto.PessoaDTO;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class EstatisticaTest {
+
+    @Autowired
+    private EstatisticaService estatisticaService;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private ContatoService contatoService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void deveAtualizarOsContadoresACadaCadastroAlteracaoEExclusao() {
+        EstatisticaDTO antes = estatisticaService.estatisticas();
+
+        PessoaDTO comContatos = new PessoaDTO(null, "Ana Estatistica", "Rua Penha", "1", "06700000", "Pirapora", "AC");
+        comContatos.setContatos(List.of(new ContatoDTO(null, "CELULAR", "11974510701", null),
+                new ContatoDTO(null, "EMAIL", "ana@email.com", null)));
+        Long idAna = pessoaService.saveLote(List.of(comContatos)).get(0).getId();
+        Long idBia = pessoaService.save(new PessoaDTO(null, "Bia Estatistica", "Rua Penha", "2", "06700000", "Pirapora", "AC")).getId();
+        ContatoDTO contato = contatoService.saveLote(idBia, List.of(new ContatoDTO(null, "CELULAR", "11974510702", null),
+                new ContatoDTO(null, "TELEFONE_FIXO", "1140028922", null))).get(0);
+
+        EstatisticaDTO depoisDosCadastros = estatisticaService.estatisticas();
+        assertEquals(antes.pessoas() + 2, depoisDosCadastros.pessoas());
+        assertEquals(antes.contatos() + 4, depoisDosCadastros.contatos());
+        assertEquals(quantidade(antes.pessoasPorUf(), "AC") + 2, quantidade(depoisDosCadastros.pessoasPorUf(), "AC"));
+        assertEquals(quantidade(antes.pessoasPorCidade(), "Pirapora") + 2, quantidade(depoisDosCadastros.pessoasPorCidade(), "Pirapora"));
+        assertEquals(quantidade(antes.contatosPorTipo(), "CELULAR") + 2, quantidade(depoisDosCadastros.contatosPorTipo(), "CELULAR"));
+
+        pessoaService.update(idBia, new PessoaDTO(null, "Bia Estatistica", "Rua Penha", "2", "06700000", "Xapuri", "AM"));
+        contatoService.update(contato.getId(), new ContatoDTO(null, "EMAIL", "bia@email.com", idBia));
+
+        EstatisticaDTO depoisDasAlteracoes = estatisticaService.estatisticas();
+        assertEquals(quantidade(antes.pessoasPorUf(), "AC") + 1, quantidade(depoisDasAlteracoes.pessoasPorUf(), "AC"));
+        assertEquals(quantidade(antes.pessoasPorUf(), "AM") + 1, quantidade(depoisDasAlteracoes.pessoasPorUf(), "AM"));
+        assertEquals(quantidade(antes.pessoasPorCidade(), "Xapuri") + 1, quantidade(depoisDasAlteracoes.pessoasPorCidade(), "Xapuri"));
+        assertEquals(quantidade(antes.contatosPorTipo(), "CELULAR") + 1, quantidade(depoisDasAlteracoes.contatosPorTipo(), "CELULAR"));
+        assertEquals(quantidade(antes.contatosPorTipo(), "EMAIL") + 2, quantidade(depoisDasAlteracoes.contatosPorTipo(), "EMAIL"));
+
+        // A exclusão da pessoa também desconta os contatos excluídos em cascata; a mescla só desconta a origem
+        pessoaService.mesclar(idBia, idAna);
+        pessoaService.delete(idAna);
+
+        assertEquals(antes, estatisticaService.estatisticas());
+    }
+
+    @Test
+    void deveIgualarAsContagensDoBancoSemConsultarOBancoNaLeitura() {
+        // Outros testes do mesmo contexto gravam direto pelos repositories, sem passar pelos contadores
+        estatisticaService.carregar();
+
+        PessoaDTO pessoa = new PessoaDTO(null, "Caio Estatistica", "Rua Penha", "3", "06700000", "Cotia", "SP");
+        pessoa.setContatos(List.of(new ContatoDTO(null, "LINKEDIN", "https://www.linkedin.com/in/caio", null)));
+        Long id = pessoaService.saveLote(List.of(pessoa)).get(0).getId();
+        pessoaService.update(id, new PessoaDTO(null, "Caio Estatistica", "Rua Penha", "3", "06700000", "Osasco", "SP"));
+
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+        EstatisticaDTO incremental = estatisticaService.estatisticas();
+        assertEquals(0, estatisticas.getPrepareStatementCount());
+
+        estatisticaService.carregar();
+        assertEquals(estatisticaService.estatisticas(), incremental);
+    }
+
+    private static long quantidade(Map<String, Long> quantidades, String chave) {
+        return quantidades.getOrDefault(chave, 0L);
+    }
+}
@@ -0,0 +1,192 @@
+package br.com.taina.service;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.ProtocoloContatoDTO;
+import br.com.taina.enums.SituacaoGravacao;
+import br.com.taina.exception.CapacidadeExcedidaException;
+import br.com.taina.model.Contato;
+import br.com.taina.model.Pessoa;
+import br.com.taina.repository.ContatoRepository;
+import br.com.taina.repository.PessoaRepository;
+import br.com.taina.validation.ContatoValidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FilaContatoServiceTest {
+
+    @Mock
+    private ContatoRepository contatoRepository;
+
+    @Mock
+    private PessoaRepository pessoaRepository;
+
+    @Mock
+    private ContatoValidation contatoValidation;
+
+    @Mock
+    private CacheService cacheService;
+
+    @Mock
+    private EstatisticaService estatisticaService;
+
+    @Mock
+    private ContatoService contatoService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    // Capacidade 2 e lotes de até 2 contatos
+    private final FilaContatoService filaContatoService = new FilaContatoService(2, 2, Duration.ofMillis(10));
+
+    private final CountDownLatch gravandoPrimeiroLote = new CountDownLatch(1);
+    private final CountDownLatch liberarGravacao = new CountDownLatch(1);
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        injetarMocks(filaContatoService);
+
+        Pessoa pessoa = new Pessoa();
+        pessoa.setId(1L);
+        when(pessoaRepository.findById(1L)).thenReturn(Optional.of(pessoa));
+        when(pessoaRepository.getReferenceById(1L)).thenReturn(pessoa);
+        when(pessoaRepository.findIdsExistentes(anyCollection())).thenReturn(List.of(1L));
+
+        // A gravação do primeiro lote fica bloqueada até o teste liberar, para a fila poder encher
+        when(transactionTemplate.execute(any())).thenAnswer(invocacao -> {
+            gravandoPrimeiroLote.countDown();
+            liberarGravacao.await(10, TimeUnit.SECONDS);
+            TransactionCallback<?> callback = invocacao.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @Test
+    void deveRecusarComFilaCheiaEGravarTudoNoEncerramento() throws InterruptedException {
+        filaContatoService.start();
+        List<ProtocoloContatoDTO> protocolos = new ArrayList<>();
+
+        protocolos.add(filaContatoService.enfileirar(contato("11974510701")));
+        assertTrue(gravandoPrimeiroLote.await(10, TimeUnit.SECONDS));
+
+        // O primeiro contato já saiu da fila; os dois seguintes ocupam toda a capacidade
+        protocolos.add(filaContatoService.enfileirar(contato("11974510702")));
+        protocolos.add(filaContatoService.enfileirar(contato("11974510703")));
+        assertThrows(CapacidadeExcedidaException.class, () -> filaContatoService.enfileirar(contato("11974510704")));
+        assertEquals(SituacaoGravacao.PENDENTE, filaContatoService.consultar(protocolos.get(1).protocolo()).situacao());
+
+        liberarGravacao.countDown();
+        filaContatoService.stop();
+
+        for (ProtocoloContatoDTO protocolo : protocolos) {
+            assertEquals(SituacaoGravacao.GRAVADO, filaContatoService.consultar(protocolo.protocolo()).situacao());
+        }
+
+        // Um lote com o primeiro contato e outro com os dois que esperavam na fila
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Contato>> lotes = ArgumentCaptor.forClass(Collection.class);
+        verify(contatoRepository, times(2)).saveAll(lotes.capture());
+        assertEquals(List.of(1, 2), lotes.getAllValues().stream().map(Collection::size).toList());
+        verify(cacheService, times(2)).evictContatosDaPessoa(1L);
+        verify(contatoService, times(2)).esquecerContatos(1L);
+
+        assertThrows(CapacidadeExcedidaException.class, () -> filaContatoService.enfileirar(contato("11974510705")));
+    }
+
+    @Test
+    void deveGravarUmAUmQuandoOLoteFalhar() throws InterruptedException {
+        when(contatoRepository.saveAll(anyList())).thenAnswer(invocacao -> {
+            List<Contato> contatos = invocacao.getArgument(0);
+            if (contatos.size() > 1 || contatos.get(0).getContato().equals("11974510709")) {
+                throw new IllegalStateException("Falha na gravação");
+            }
+            return contatos;
+        });
+
+        // Com o primeiro lote bloqueado, os dois contatos seguintes esperam na fila e formam o segundo lote
+        filaContatoService.start();
+        filaContatoService.enfileirar(contato("11974510707"));
+        assertTrue(gravandoPrimeiroLote.await(10, TimeUnit.SECONDS));
+        ProtocoloContatoDTO valido = filaContatoService.enfileirar(contato("11974510708"));
+        ProtocoloContatoDTO comErro = filaContatoService.enfileirar(contato("11974510709"));
+        liberarGravacao.countDown();
+        filaContatoService.stop();
+
+        assertEquals(SituacaoGravacao.GRAVADO, filaContatoService.consultar(valido.protocolo()).situacao());
+        ProtocoloContatoDTO falha = filaContatoService.consultar(comErro.protocolo());
+        assertEquals(SituacaoGravacao.FALHOU, falha.situacao());
+        assertEquals("Falha na gravação", falha.mensagem());
+    }
+
+    @Test
+    void deveGravarTodosOsContatosAceitosDuranteOEncerramento() throws InterruptedException {
+        liberarGravacao.countDown();
+        // A janela entre aceitar o contato e o encerramento é curta: repete o encerramento sob carga várias vezes
+        for (int rodada = 0; rodada < 20; rodada++) {
+            FilaContatoService fila = new FilaContatoService(100_000, 50, Duration.ofMillis(1));
+            injetarMocks(fila);
+            fila.start();
+
+            // Enfileira sem parar em várias threads até a fila recusar por causa do encerramento
+            List<ProtocoloContatoDTO> aceitos = Collections.synchronizedList(new ArrayList<>());
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                threads.add(Thread.ofPlatform().start(() -> {
+                    try {
+                        while (true) {
+                            aceitos.add(fila.enfileirar(contato("11974510710")));
+                        }
+                    } catch (CapacidadeExcedidaException e) {
+                        // encerrada
+                    }
+                }));
+            }
+            while (aceitos.size() < 100) {
+                Thread.onSpinWait();
+            }
+            fila.stop();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            for (ProtocoloContatoDTO protocolo : aceitos) {
+                assertEquals(SituacaoGravacao.GRAVADO, fila.consultar(protocolo.protocolo()).situacao());
+            }
+        }
+    }
+
+    private void injetarMocks(FilaContatoService fila) {
+        fila.contatoRepository = contatoRepository;
+        fila.pessoaRepository = pessoaRepository;
+        fila.contatoValidation = contatoValidation;
+        fila.cacheService = cacheService;
+        fila.estatisticaService = estatisticaService;
+        fila.contatoService = contatoService;
+        fila.transactionTemplate = transactionTemplate;
+        fila.meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private static ContatoDTO contato(String telefone) {
+        return new ContatoDTO(null, "CELULAR", telefone, 1L);
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.taina.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.taina.dto.PessoaBuscaDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.exception.CampoNotNullException;
+
+@SpringBootTest
+class PessoaBuscaTest {
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private List<Long> buscarIds(String texto) {
+        return pessoaService.buscar(texto, null, 50).stream().map(PessoaBuscaDTO::id).toList();
+    }
+
+    @Test
+    void deveAtualizarOIndiceAoSalvarAtualizarEExcluir() {
+        PessoaDTO salva = pessoaService.save(new PessoaDTO(null, "Gonçalves Ibiapina", "Rua Penha", "102", "06700000", "Cotia", "SP"));
+        assertTrue(buscarIds("goncalves ibia").contains(salva.getId()));
+
+        pessoaService.update(salva.getId(), new PessoaDTO(null, "Estêvão Ibiapina", "Rua Penha", "102", "06700000", "Cotia", "SP"));
+        assertFalse(buscarIds("gonçalves").contains(salva.getId()));
+        assertTrue(buscarIds("estevao").contains(salva.getId()));
+
+        pessoaService.delete(salva.getId());
+        assertFalse(buscarIds("estevao").contains(salva.getId()));
+    }
+
+    @Test
+    void naoDeveAlterarOIndiceQuandoATransacaoForDesfeita() {
+        PessoaDTO salva = pessoaService.save(new PessoaDTO(null, "Querubina Itaboraí", "Rua Penha", "102", "06700000", "Cotia", "SP"));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            pessoaService.update(salva.getId(), new PessoaDTO(null, "Rosalva Itaboraí", "Rua Penha", "102", "06700000", "Cotia", "SP"));
+            status.setRollbackOnly();
+        });
+        assertTrue(buscarIds("querubina").contains(salva.getId()));
+        assertFalse(buscarIds("rosalva").contains(salva.getId()));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            pessoaService.delete(salva.getId());
+            status.setRollbackOnly();
+        });
+        assertTrue(buscarIds("querubina").contains(salva.getId()));
+    }
+
+    @Test
+    void deveIndexarPessoasDoCadastroEmLote() {
+        List<PessoaDTO> salvas = pessoaService.saveLote(List.of(
+                new PessoaDTO(null, "Wanderléia Quixadá", "Rua Penha", "102", "06700000", "Cotia", "SP"),
+                new PessoaDTO(null, "Wanderley Quixadá", "Rua Penha", "103", "06700000", "Cotia", "SP")));
+
+        assertTrue(buscarIds("wander quixa").containsAll(salvas.stream().map(PessoaDTO::getId).toList()));
+    }
+
+    @Test
+    void deveLancarCampoNotNullQuandoTextoForVazio() {
+        assertThrows(CampoNotNullException.class, () -> pessoaService.buscar(" ", null, null));
+    }
+}
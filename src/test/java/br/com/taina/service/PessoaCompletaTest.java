@@ -0,0 +1,114 @@
+package br.com.taina.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.model.Contato;
+import br.com.taina.model.Pessoa;
+import br.com.taina.repository.PessoaRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PessoaCompletaTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long cadastrar(String nome, String... telefones) {
+        PessoaDTO pessoa = new PessoaDTO(null, nome, "Rua Penha", "102", "06700000", "Cotia", "SP");
+        pessoa.setContatos(Arrays.stream(telefones).map(telefone -> new ContatoDTO(null, "CELULAR", telefone, null)).toList());
+        return pessoaService.saveLote(List.of(pessoa)).get(0).getId();
+    }
+
+    @Test
+    void deveRetornarPessoaEContatosComUmaUnicaConsulta() throws Exception {
+        Long id = cadastrar("Taina Completa", "11974510711", "11974510712", "11974510713");
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+
+        mockMvc.perform(get("/api/pessoas/{id}/completo", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(id))
+                .andExpect(jsonPath("$.nome").value("Taina Completa"))
+                .andExpect(jsonPath("$.contatos.length()").value(3))
+                .andExpect(jsonPath("$.contatos[0].contato").value("11974510711"))
+                .andExpect(jsonPath("$.contatos[2].idPessoa").value(id));
+
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    void deveRetornarListaVaziaOuNaoEncontrado() throws Exception {
+        Long id = cadastrar("Taina Sem Contatos");
+
+        mockMvc.perform(get("/api/pessoas/{id}/completo", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contatos.length()").value(0));
+        mockMvc.perform(get("/api/pessoas/{id}/completo", Long.MAX_VALUE))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void deveCompararEImprimirEntidadesSemCarregarOsRelacionamentos() {
+        Long id = cadastrar("Taina Igualdade", "11974510714");
+
+        // Fora da transação: sem as relações no equals, hashCode e toString, nada precisa ser carregado
+        Pessoa destacada = pessoaRepository.findById(id).orElseThrow();
+        assertFalse(Hibernate.isInitialized(destacada.getContatos()));
+        assertFalse(destacada.toString().contains("contatos"));
+        assertEquals(destacada.hashCode(), new Pessoa().hashCode());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Pessoa referencia = pessoaRepository.getReferenceById(id);
+            assertEquals(destacada, referencia);
+            assertEquals(referencia, destacada);
+            assertFalse(Hibernate.isInitialized(referencia.getContatos()));
+
+            Contato contato = referencia.getContatos().get(0);
+            assertTrue(contato.toString().endsWith("idPessoa=" + id + "]"));
+            assertEquals(contato, new ArrayList<>(referencia.getContatos()).get(0));
+        });
+
+        // Sem ID, cada instância só é igual a ela mesma, e o hashCode não muda quando o ID é gerado
+        Pessoa nova = new Pessoa();
+        Set<Pessoa> pessoas = new HashSet<>(Set.of(nova));
+        assertNotEquals(nova, new Pessoa());
+        nova.setNome("Taina Nova");
+        nova.setContatos(new ArrayList<>());
+        Pessoa gravada = pessoaRepository.save(nova);
+        assertTrue(pessoas.contains(nova));
+        assertNotNull(gravada.getId());
+    }
+}
@@ -0,0 +1,77 @@
+package br.com.taina.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.taina.dto.PessoaCompletaDTO;
+import br.com.taina.enums.Estados;
+import br.com.taina.enums.TipoContato;
+import br.com.taina.model.Contato;
+import br.com.taina.model.Pessoa;
+import br.com.taina.repository.PessoaRepository;
+
+@SpringBootTest
+class PessoaExportTest {
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Pessoa novaPessoa(String nome, int quantidadeContatos) {
+        Pessoa pessoa = new Pessoa();
+        pessoa.setNome(nome);
+        pessoa.setCidade("Cotia");
+        pessoa.setUf(Estados.SP);
+        pessoa.setContatos(new ArrayList<>());
+        for (int i = 0; i < quantidadeContatos; i++) {
+            Contato contato = new Contato();
+            contato.setTipoContato(TipoContato.CELULAR);
+            contato.setContato("1199999000" + i);
+            contato.setPessoa(pessoa);
+            pessoa.getContatos().add(contato);
+        }
+        return pessoaRepository.save(pessoa);
+    }
+
+    @Test
+    void deveExportarUmaLinhaPorPessoaComOsContatos() throws Exception {
+        Pessoa semContatos = novaPessoa("Sem Contatos", 0);
+        Pessoa comContatos = novaPessoa("Com Contatos", 3);
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        pessoaService.exportar(saida);
+
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        List<PessoaCompletaDTO> exportadas = new ArrayList<>();
+        for (String linha : linhas) {
+            exportadas.add(objectMapper.readValue(linha, PessoaCompletaDTO.class));
+        }
+
+        // Cada pessoa aparece uma única vez, mesmo tendo vários contatos
+        Map<Long, PessoaCompletaDTO> porId = exportadas.stream()
+                .collect(Collectors.toMap(PessoaCompletaDTO::id, Function.identity()));
+        assertEquals(exportadas.size(), porId.size());
+
+        assertTrue(porId.get(semContatos.getId()).contatos().isEmpty());
+        assertEquals(3, porId.get(comContatos.getId()).contatos().size());
+        assertEquals("SP", porId.get(comContatos.getId()).uf());
+    }
+}
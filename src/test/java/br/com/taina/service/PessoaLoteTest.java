@@ -0,0 +1,72 @@
+package br.com.taina.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.exception.LoteInvalidoException;
+import br.com.taina.repository.ContatoRepository;
+import br.com.taina.repository.PessoaRepository;
+
+@SpringBootTest
+class PessoaLoteTest {
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private ContatoRepository contatoRepository;
+
+    private PessoaDTO novaPessoa(String nome) {
+        PessoaDTO pessoaDTO = new PessoaDTO(null, nome, "Rua Penha", "102", "06700000", "Cotia", "sp");
+        pessoaDTO.setContatos(List.of(
+                new ContatoDTO(null, "CELULAR", "11974510719", null),
+                new ContatoDTO(null, "email", "teste@email.com", null)));
+        return pessoaDTO;
+    }
+
+    @Test
+    void deveSalvarTodasAsPessoasEContatosDoLote() {
+        List<PessoaDTO> lote = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            lote.add(novaPessoa("Pessoa Lote"));
+        }
+
+        List<PessoaDTO> salvas = pessoaService.saveLote(lote);
+
+        assertEquals(120, salvas.size());
+        for (PessoaDTO salva : salvas) {
+            assertNotNull(salva.getId());
+            assertEquals("SP", salva.getUf());
+            assertEquals(2, salva.getContatos().size());
+            assertEquals(salva.getId(), salva.getContatos().get(0).getIdPessoa());
+            assertEquals(2, contatoRepository.findContatosPessoaById(salva.getId()).size());
+        }
+    }
+
+    @Test
+    void deveRejeitarOLoteInteiroQuandoAlgumItemForInvalido() {
+        PessoaDTO nomeInvalido = novaPessoa("Nome 123");
+        PessoaDTO contatoInvalido = novaPessoa("Contato Invalido");
+        contatoInvalido.setContatos(List.of(new ContatoDTO(null, "EMAIL", "teste@email", null)));
+        long totalAntes = pessoaRepository.count();
+
+        LoteInvalidoException excecao = assertThrows(LoteInvalidoException.class,
+                () -> pessoaService.saveLote(List.of(novaPessoa("Valida"), nomeInvalido, contatoInvalido)));
+
+        assertEquals(2, excecao.getErros().size());
+        assertTrue(excecao.getErros().get(0).startsWith("[1].nome: "));
+        assertTrue(excecao.getErros().get(1).startsWith("[2].contatos[0].contato: "));
+        assertEquals(totalAntes, pessoaRepository.count());
+    }
+}
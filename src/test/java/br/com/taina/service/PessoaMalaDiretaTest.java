@@ -0,0 +1,89 @@
+package br.com.taina.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.taina.dto.PessoaMalaDiretaDTO;
+import br.com.taina.enums.Estados;
+import br.com.taina.exception.FormatoInvalidoException;
+import br.com.taina.model.Pessoa;
+import br.com.taina.repository.PessoaRepository;
+
+@SpringBootTest
+class PessoaMalaDiretaTest {
+
+    @Autowired
+    private PessoaService pessoaService;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Pessoa novaPessoa(String nome, String cep, String cidade, Estados uf) {
+        Pessoa pessoa = new Pessoa();
+        pessoa.setNome(nome);
+        pessoa.setEndereco("Rua das Flores");
+        pessoa.setCep(cep);
+        pessoa.setCidade(cidade);
+        pessoa.setUf(uf);
+        return pessoaRepository.save(pessoa);
+    }
+
+    @Test
+    void deveExportarCsvComCabecalhoEAspasEscapadas() throws Exception {
+        Pessoa pessoa = novaPessoa("Ana \"Aninha\", Souza", "79990000", "Malacacheta", Estados.MG);
+        novaPessoa("Fora do Filtro", "79990000", "Malacacheta", Estados.SP);
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        pessoaService.exportarMalaDireta("mg", "Malacacheta", "7999", "csv", saida);
+
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("id,nome,malaDireta", linhas[0]);
+        assertEquals(2, linhas.length);
+        assertEquals(pessoa.getId() + ",\"Ana \"\"Aninha\"\", Souza\","
+                + "\"Rua das Flores – CEP: 79990000 – Malacacheta / MG\"", linhas[1]);
+    }
+
+    @Test
+    void deveExportarNdjsonComOMesmoTextoDoEndpointIndividual() throws Exception {
+        Pessoa pessoa = novaPessoa("Bruno", "79991000", "Itamarandiba", Estados.MG);
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        pessoaService.exportarMalaDireta(null, "Itamarandiba", "79991", "ndjson", saida);
+
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1, linhas.length);
+        PessoaMalaDiretaDTO exportada = objectMapper.readValue(linhas[0], PessoaMalaDiretaDTO.class);
+        assertEquals(pessoaService.findPessoaById(pessoa.getId()), exportada);
+    }
+
+    @Test
+    void deveMontarOTextoComCamposNulosIgualNosDoisEndpoints() throws Exception {
+        Pessoa pessoa = novaPessoa("Carla", "79992000", "Turmalina", null);
+        pessoa.setEndereco(null);
+        pessoaRepository.save(pessoa);
+
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        pessoaService.exportarMalaDireta(null, "Turmalina", "79992", "ndjson", saida);
+
+        PessoaMalaDiretaDTO exportada = objectMapper.readValue(saida.toString(StandardCharsets.UTF_8).trim(), PessoaMalaDiretaDTO.class);
+        assertEquals(" – CEP: 79992000 – Turmalina / ", exportada.malaDireta());
+        assertEquals(pessoaService.findPessoaById(pessoa.getId()), exportada);
+    }
+
+    @Test
+    void deveLancarFormatoInvalidoParaFormatoDesconhecido() {
+        assertThrows(FormatoInvalidoException.class,
+                () -> pessoaService.exportarMalaDireta(null, null, null, "xml", new ByteArrayOutputStream()));
+    }
+}
@@ -4,15 +4,19 @@ import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 import br.com.taina.exception.IdNotFoundException;
+import br.com.taina.dto.PaginaDTO;
 import br.com.taina.dto.PessoaDTO;
 import br.com.taina.enums.Estados;
 import br.com.taina.exception.CampoNotNullException;
-import br.com.taina.exception.NadaParaListarException;
 import br.com.taina.model.Pessoa;
+import br.com.taina.repository.ContatoRepository;
 import br.com.taina.repository.PessoaRepository;
+import br.com.taina.search.PessoaSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.mockito.*;
+import org.springframework.data.domain.Limit;
 
 import java.util.Optional;
 import java.util.Arrays;
@@ -24,7 +28,13 @@ class PessoaServiceTest {
     private PessoaRepository pessoaRepository;
 
     @Mock
-    private PessoaValidation pessoaValidation;
+    private PessoaSearchIndex pessoaSearchIndex;
+
+    @Mock
+    private ContatoRepository contatoRepository;
+
+    @Mock
+    private EstatisticaService estatisticaService;
 
     @InjectMocks
     private PessoaService pessoaService;
@@ -64,6 +74,7 @@ class PessoaServiceTest {
     }
 
     @Test
+    @Disabled("No cadastro o ID é sempre nulo: ele é gerado pelo banco, e o save não deve recusar a pessoa por isso")
     void deveLancarIdNotNullExceptionQuandoIdPessoaForNulo() {
         pessoa.setId(null);
 
@@ -80,26 +91,42 @@ class PessoaServiceTest {
     }
 
     @Test
-    void deveRetornarListaDePessoasQuandoExistiremPessoas() {
-        List<Pessoa> pessoas = Arrays.asList(pessoa);
-        when(pessoaRepository.findAll()).thenReturn(pessoas);
+    void deveRetornarPaginaDePessoasQuandoExistiremPessoas() {
+        List<PessoaDTO> pessoas = Arrays.asList(new PessoaDTO(1L, "Nome", "Endereco", null, "12345-678", "Cidade", Estados.SP));
+        when(pessoaRepository.findPagina(eq(0L), any(Limit.class))).thenReturn(pessoas);
+
+        PaginaDTO<PessoaDTO> pagina = pessoaService.findAll(null, null, null, null);
+
+        assertNotNull(pagina);
+        assertFalse(pagina.conteudo().isEmpty());
+        assertNull(pagina.proximoCursor());
+    }
+
+    @Test
+    void deveRetornarProximoCursorQuandoExistirProximaPagina() {
+        PessoaDTO primeira = new PessoaDTO(1L, "Nome", "Endereco", null, "12345-678", "Cidade", Estados.SP);
+        PessoaDTO segunda = new PessoaDTO(2L, "Outro Nome", "Endereco", null, "12345-678", "Cidade", Estados.SP);
+        when(pessoaRepository.findPagina(eq(0L), eq(Limit.of(2)))).thenReturn(Arrays.asList(primeira, segunda));
 
-        List<PessoaDTO> lista = pessoaService.findAll();
+        PaginaDTO<PessoaDTO> pagina = pessoaService.findAll(null, 1, null, null);
 
-        assertNotNull(lista);
-        assertFalse(lista.isEmpty());
+        assertEquals(1, pagina.tamanho());
+        assertEquals(1L, pagina.proximoCursor());
     }
 
     @Test
-    void deveLancarNadaParaListarExceptionQuandoNaoExistiremPessoas() {
-        when(pessoaRepository.findAll()).thenReturn(Arrays.asList());
+    void deveRetornarPaginaVaziaQuandoNaoExistiremPessoas() {
+        when(pessoaRepository.findPagina(anyLong(), any(Limit.class))).thenReturn(Arrays.asList());
 
-        assertThrows(NadaParaListarException.class, () -> pessoaService.findAll());
+        PaginaDTO<PessoaDTO> pagina = pessoaService.findAll(10L, null, null, null);
+
+        assertTrue(pagina.conteudo().isEmpty());
+        assertNull(pagina.proximoCursor());
     }
 
     @Test
     void deveRetornarPessoaQuandoPessoaExistir() {
-        when(pessoaRepository.findById(1L)).thenReturn(Optional.of(pessoa));
+        when(pessoaRepository.findDTOById(1L)).thenReturn(Optional.of(new PessoaDTO(1L, "Nome", "Endereco", null, "12345-678", "Cidade", Estados.SP)));
 
         PessoaDTO pessoaEncontrada = pessoaService.findById(1L);
 
@@ -108,7 +135,7 @@ class PessoaServiceTest {
 
     @Test
     void deveLancarIdNotFoundExceptionQuandoPessoaNaoExistir() {
-        when(pessoaRepository.findById(1L)).thenReturn(Optional.empty());
+        when(pessoaRepository.findDTOById(1L)).thenReturn(Optional.empty());
 
         assertThrows(IdNotFoundException.class, () -> pessoaService.findById(1L));
     }
@@ -116,7 +143,6 @@ class PessoaServiceTest {
     @Test
     void deveAtualizarPessoaQuandoPessoaExistir() {
         when(pessoaRepository.findById(1L)).thenReturn(Optional.of(pessoa));
-        when(pessoaRepository.save(any(Pessoa.class))).thenReturn(pessoa);
 
         PessoaDTO pessoaDTO = new PessoaDTO();
         pessoaDTO.setId(pessoa.getId());
@@ -130,7 +156,10 @@ class PessoaServiceTest {
         PessoaDTO pessoaAtualizada = pessoaService.update(1L, pessoaDTO);
 
         assertNotNull(pessoaAtualizada);
-        verify(pessoaRepository, times(1)).save(any(Pessoa.class));
+        assertEquals("Cidade", pessoaAtualizada.getCidade());
+        // A pessoa carregada já está na transação: o UPDATE sai no flush, sem save (merge)
+        verify(pessoaRepository, times(1)).flush();
+        verify(pessoaRepository, never()).save(any(Pessoa.class));
     }
 
     @Test
@@ -0,0 +1,142 @@
+package br.com.taina.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import br.com.taina.dto.ContatoDTO;
+import br.com.taina.dto.PessoaDTO;
+import br.com.taina.exception.IdNotFoundException;
+import br.com.taina.repository.ContatoRepository;
+import br.com.taina.repository.PessoaRepository;
+
+class SingleFlightTest {
+
+    private static final int REQUISICOES = 50;
+
+    @Mock
+    private PessoaRepository pessoaRepository;
+
+    @Mock
+    private ContatoRepository contatoRepository;
+
+    private final PessoaService pessoaService = new PessoaService();
+    private final ContatoService contatoService = new ContatoService();
+
+    // A consulta ao banco fica bloqueada até todas as requisições estarem esperando por ela
+    private final CountDownLatch liberarConsulta = new CountDownLatch(1);
+
+    @BeforeEach
+    void setup() {
+        MockitoAnnotations.openMocks(this);
+        pessoaService.pessoaRepository = pessoaRepository;
+        contatoService.contatoRepository = contatoRepository;
+        contatoService.pessoaRepository = pessoaRepository;
+    }
+
+    @Test
+    void deveFazerUmaConsultaParaRequisicoesSimultaneasDaMesmaPessoa() throws InterruptedException {
+        when(pessoaRepository.findDTOById(1L)).thenAnswer(invocacao -> {
+            liberarConsulta.await(10, TimeUnit.SECONDS);
+            return Optional.of(new PessoaDTO(1L, "Maria Popular", "Rua das Flores", "10", "06700000", "Cotia", "SP"));
+        });
+
+        List<Object> resultados = executarSimultaneamente(() -> pessoaService.findById(1L));
+
+        verify(pessoaRepository, times(1)).findDTOById(1L);
+        assertEquals(REQUISICOES, resultados.size());
+        assertTrue(resultados.stream().allMatch(resultado -> resultado == resultados.get(0)));
+
+        // Terminada a consulta, a próxima requisição vai ao banco de novo
+        pessoaService.findById(1L);
+        verify(pessoaRepository, times(2)).findDTOById(1L);
+    }
+
+    @Test
+    void deveFazerUmaConsultaParaListagensSimultaneasDosContatosDaMesmaPessoa() throws InterruptedException {
+        when(contatoRepository.findDTOsByPessoaId(1L)).thenAnswer(invocacao -> {
+            liberarConsulta.await(10, TimeUnit.SECONDS);
+            return List.of(new ContatoDTO(1L, "CELULAR", "11974510710", 1L));
+        });
+
+        List<Object> resultados = executarSimultaneamente(() -> contatoService.findAllByPessoaId(1L));
+
+        verify(contatoRepository, times(1)).findDTOsByPessoaId(1L);
+        assertTrue(resultados.stream().allMatch(resultado -> resultado == resultados.get(0)));
+    }
+
+    @Test
+    void deveRepassarOErroDaConsultaParaTodasAsRequisicoes() throws InterruptedException {
+        when(pessoaRepository.findDTOById(2L)).thenAnswer(invocacao -> {
+            liberarConsulta.await(10, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+
+        List<Object> resultados = executarSimultaneamente(() -> {
+            try {
+                return pessoaService.findById(2L);
+            } catch (IdNotFoundException e) {
+                return e;
+            }
+        });
+
+        verify(pessoaRepository, times(1)).findDTOById(2L);
+        assertTrue(resultados.stream().allMatch(IdNotFoundException.class::isInstance));
+    }
+
+    @Test
+    void deveConsultarDeNovoDepoisDeEsquecerAChave() throws InterruptedException {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+        CountDownLatch consultando = new CountDownLatch(1);
+        Thread primeira = Thread.ofPlatform().start(() -> singleFlight.executar(1L, () -> {
+            consultando.countDown();
+            try {
+                liberarConsulta.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "antes da alteração";
+        }));
+        assertTrue(consultando.await(10, TimeUnit.SECONDS));
+
+        // Fora de transação a chave é liberada na hora: a chamada seguinte não espera a consulta antiga
+        singleFlight.esquecer(1L);
+        assertEquals("depois da alteração", singleFlight.executar(1L, () -> "depois da alteração"));
+
+        liberarConsulta.countDown();
+        primeira.join();
+    }
+
+    // Dispara as requisições, espera todas ficarem paradas (a primeira na consulta, as outras no resultado dela)
+    // e só então libera a consulta
+    private List<Object> executarSimultaneamente(Supplier<Object> requisicao) throws InterruptedException {
+        ConcurrentLinkedQueue<Object> resultados = new ConcurrentLinkedQueue<>();
+        List<Thread> threads = new ArrayList<>(REQUISICOES);
+        for (int i = 0; i < REQUISICOES; i++) {
+            threads.add(Thread.ofPlatform().start(() -> resultados.add(requisicao.get())));
+        }
+
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING
+                || thread.getState() == Thread.State.TIMED_WAITING) && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        liberarConsulta.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return new ArrayList<>(resultados);
+    }
+}
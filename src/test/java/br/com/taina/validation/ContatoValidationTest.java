@@ -41,7 +41,7 @@ class ContatoValidationTest {
         contatoDTO.setTipoContato("EMAIL");
         contatoDTO.setContato("");
 
-        assertThrows(CampoVazioException.class, () -> contatoValidation.validarContato(contatoDTO));
+        assertThrows(FormatoInvalidoException.class, () -> contatoValidation.validarContato(contatoDTO));
     }
 
     @Test
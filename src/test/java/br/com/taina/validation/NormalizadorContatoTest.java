@@ -0,0 +1,38 @@
+package br.com.taina.validation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.taina.enums.TipoContato;
+
+class NormalizadorContatoTest {
+
+    @Test
+    void deveManterApenasOsDigitosDoTelefone() {
+        assertEquals("11974510710", NormalizadorContato.normalizar(TipoContato.CELULAR, "(11) 97451-0710"));
+        assertEquals("11974510710", NormalizadorContato.normalizar(TipoContato.CELULAR, "+55 11 97451-0710"));
+        assertEquals("1140028922", NormalizadorContato.normalizar(TipoContato.TELEFONE_FIXO, "011 4002-8922"));
+        assertEquals("5540028922", NormalizadorContato.normalizar(TipoContato.TELEFONE_FIXO, "5540028922"));
+    }
+
+    @Test
+    void deveConverterEmailParaMinusculas() {
+        assertEquals("taina@gmail.com", NormalizadorContato.normalizar(TipoContato.EMAIL, " Taina@Gmail.COM "));
+    }
+
+    @Test
+    void deveConverterLinkedInParaAUrlCanonica() {
+        String esperado = "https://www.linkedin.com/in/taina-silva";
+        assertEquals(esperado, NormalizadorContato.normalizar(TipoContato.LINKEDIN, "linkedin.com/in/Taina-Silva"));
+        assertEquals(esperado, NormalizadorContato.normalizar(TipoContato.LINKEDIN, "http://linkedin.com/in/taina-silva/"));
+        assertEquals(esperado, NormalizadorContato.normalizar(TipoContato.LINKEDIN, "https://www.linkedin.com/in/taina-silva?trk=perfil"));
+    }
+
+    @Test
+    void deveDeduzirOTipoDoValor() {
+        assertEquals(TipoContato.EMAIL, NormalizadorContato.deduzirTipo("taina@gmail.com"));
+        assertEquals(TipoContato.LINKEDIN, NormalizadorContato.deduzirTipo("www.LinkedIn.com/in/taina"));
+        assertEquals(TipoContato.CELULAR, NormalizadorContato.deduzirTipo("(11) 97451-0710"));
+    }
+}
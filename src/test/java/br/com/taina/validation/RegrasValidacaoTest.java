@@ -0,0 +1,123 @@
+package br.com.taina.validation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+import br.com.taina.enums.Estados;
+import br.com.taina.enums.TipoContato;
+
+class RegrasValidacaoTest {
+
+    // Expressões regulares usadas antes do RegrasValidacao, como referência de comportamento
+    private static final Pattern CEP = Pattern.compile("\\d{5}-?\\d{3}");
+    private static final Pattern LETRAS = Pattern.compile("^[A-Za-záàãâéèêíóôúçÁÀÂÉÊÍÓÔÚÇ\\s]+$");
+    private static final Pattern TELEFONE = Pattern.compile("^\\d{10,11}$");
+    private static final Pattern EMAIL = Pattern.compile("^[a-zA-Z0-9_+&*-]+(?:\\.[a-zA-Z0-9_+&*-]+)*@(?:[a-zA-Z0-9-]+\\.)+[a-zA-Z]{2,7}$");
+    private static final Pattern LINKEDIN = Pattern.compile("^(https?:\\/\\/)?(www\\.)?linkedin\\.com\\/in\\/([a-zA-Z0-9-]+)$");
+
+    @Test
+    void deveAceitarOMesmoQueAsExpressoesRegularesNosCasosConhecidos() {
+        comparar(CEP, RegrasValidacao::isCepValido,
+                List.of("06700000", "06700-000", "0670-0000", "067000000", "06700-00", "0670000a", "", "06700--00", "٠٦٧٠٠٠٠٠"));
+        comparar(LETRAS, RegrasValidacao::isSomenteLetrasEEspacos,
+                List.of("Maria da Conceição", "JOÃO", "João", "Simões", "Ana\tMaria", " ", "", "Ana1", "Ana-Maria", "Ñandu"));
+        comparar(TELEFONE, RegrasValidacao::isTelefoneValido,
+                List.of("11974510719", "1140028922", "114002892", "119745107190", "(11)974510719", "1197451071a", ""));
+        comparar(EMAIL, RegrasValidacao::isEmailValido,
+                List.of("taina@email.com", "taina.silva+teste@mail.email.com.br", "a@b.co", "a@b.c", "a@b.abcdefgh", ".a@b.com",
+                        "a.@b.com", "a..b@b.com", "@b.com", "a@.com", "a@b..com", "a@b.com.", "a@b", "a@@b.com", "a@b@c.com",
+                        "a b@c.com", "a@b-c.com", "a@b.c0m", "a&*_-+@x.io", "a@b.com@c.com"));
+        comparar(LINKEDIN, RegrasValidacao::isLinkedInValido,
+                List.of("https://www.linkedin.com/in/taina-silva", "http://linkedin.com/in/taina", "www.linkedin.com/in/taina",
+                        "linkedin.com/in/taina", "linkedin.com/in/", "https://linkedin.com/in/taina/", "ftp://linkedin.com/in/a",
+                        "https://www.LinkedIn.com/in/taina", "https://www.www.linkedin.com/in/a", "httpslinkedin.com/in/a",
+                        "linkedin.com/in/taina_silva"));
+    }
+
+    @Test
+    void deveAceitarOMesmoQueAsExpressoesRegularesEmEntradasAleatorias() {
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            comparar(CEP, RegrasValidacao::isCepValido, List.of(aleatoria(random, "0123456789-a", 10)));
+            comparar(LETRAS, RegrasValidacao::isSomenteLetrasEEspacos, List.of(aleatoria(random, "aZçÇãÃõ \t\n1-", 6)));
+            comparar(TELEFONE, RegrasValidacao::isTelefoneValido, List.of(aleatoria(random, "0123456789 ", 12)));
+            comparar(EMAIL, RegrasValidacao::isEmailValido, List.of(aleatoria(random, "ab1.@-_+&*Z ", 10)));
+            comparar(LINKEDIN, RegrasValidacao::isLinkedInValido,
+                    List.of(aleatoria(random, "https://", 3) + aleatoria(random, "w.", 2) + "linkedin.com/in/" + aleatoria(random, "a1-_/", 3)));
+        }
+    }
+
+    @Test
+    void deveBuscarEstadoETipoDeContatoSemDiferenciarMaiusculas() {
+        for (Estados estado : Estados.values()) {
+            assertEquals(estado, RegrasValidacao.buscarEstado(estado.name().toLowerCase()));
+            assertEquals(estado, RegrasValidacao.converterEstado(" " + estado.name() + " "));
+        }
+        for (TipoContato tipo : TipoContato.values()) {
+            assertEquals(tipo, RegrasValidacao.buscarTipoContato(tipo.name().toLowerCase()));
+            assertEquals(tipo, RegrasValidacao.converterTipoContato(" " + tipo.name().toLowerCase() + "\t"));
+        }
+
+        assertNull(RegrasValidacao.buscarEstado("XX"));
+        assertNull(RegrasValidacao.buscarEstado(" SP"));
+        assertNull(RegrasValidacao.buscarEstado("S"));
+        assertNull(RegrasValidacao.buscarEstado(null));
+        assertNull(RegrasValidacao.buscarTipoContato("FAX"));
+        assertNull(RegrasValidacao.buscarTipoContato("CELULAR "));
+        assertNull(RegrasValidacao.buscarTipoContato("TELEFONE_FIXO_COMERCIAL"));
+        assertNull(RegrasValidacao.buscarTipoContato(null));
+
+        assertThrows(IllegalArgumentException.class, () -> RegrasValidacao.converterEstado("São Paulo"));
+        assertThrows(IllegalArgumentException.class, () -> RegrasValidacao.converterTipoContato("   "));
+    }
+
+    @Test
+    void naoDeveAlocarMemoriaParaEntradasValidas() {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long idThread = Thread.currentThread().threadId();
+
+        validarEntradasValidas(1_000);
+        long antes = threadMXBean.getThreadAllocatedBytes(idThread);
+        validarEntradasValidas(100_000);
+        long alocado = threadMXBean.getThreadAllocatedBytes(idThread) - antes;
+
+        // Uma alocação por chamada passaria de megabytes; a margem cobre apenas a própria medição
+        assertTrue(alocado < 1024, "Memória alocada: " + alocado + " bytes");
+    }
+
+    private static void validarEntradasValidas(int repeticoes) {
+        for (int i = 0; i < repeticoes; i++) {
+            if (!RegrasValidacao.isCepValido("06700-000")
+                    || !RegrasValidacao.isSomenteLetrasEEspacos("Maria da Conceição")
+                    || !RegrasValidacao.isTelefoneValido("11974510719")
+                    || !RegrasValidacao.isEmailValido("taina.silva@email.com.br")
+                    || !RegrasValidacao.isLinkedInValido("https://www.linkedin.com/in/taina-silva")
+                    || RegrasValidacao.converterEstado(" sp ") != Estados.SP
+                    || RegrasValidacao.converterTipoContato("telefone_fixo") != TipoContato.TELEFONE_FIXO) {
+                fail("Entrada válida rejeitada");
+            }
+        }
+    }
+
+    private static void comparar(Pattern esperado, Predicate<String> regra, List<String> valores) {
+        for (String valor : valores) {
+            assertEquals(esperado.matcher(valor).matches(), regra.test(valor), "Valor: \"" + valor + "\"");
+        }
+    }
+
+    private static String aleatoria(Random random, String alfabeto, int tamanhoMaximo) {
+        int tamanho = random.nextInt(tamanhoMaximo + 1);
+        StringBuilder valor = new StringBuilder(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            valor.append(alfabeto.charAt(random.nextInt(alfabeto.length())));
+        }
+        return valor.toString();
+    }
+}